@@ -0,0 +1,107 @@
+package com.coderodde;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+
+/**
+ * Removes a batch of positions from a list in one pass, for the lists that
+ * have no batch removal of their own.
+ */
+final class BatchRemoval {
+
+    private BatchRemoval() {
+    }
+
+    /** Removes the elements at the given positions of {@code list}, which
+     * refer to the list before the removal and may come in any order.
+     * Duplicate positions are removed once.
+     * <p>
+     * {@link UnrolledLinkedList} removes the batch itself. A random access
+     * list moves its survivors left with {@code get}/{@code set} from the
+     * first removed position on and cuts off its tail once. Any other list is
+     * walked once with a list iterator starting at the first removed
+     * position.
+     * @param list list to remove from
+     * @param indices positions to remove
+     */
+    static void removeAt(final List<?> list, final int[] indices) {
+        if (list instanceof UnrolledLinkedList) {
+            ((UnrolledLinkedList<?>) list).removeAt(indices);
+            return;
+        }
+
+        final int size = list.size();
+        final int[] sorted = sortedDistinct(indices, size);
+
+        if (sorted.length == 0) {
+            return;
+        }
+
+        if (list instanceof RandomAccess) {
+            compact(list, sorted, size);
+        } else {
+            walk(list.listIterator(sorted[0]), sorted);
+        }
+    }
+
+    /** Returns the distinct values of {@code indices} in ascending order.
+     * @param indices positions to remove
+     * @param size size of the list
+     * @return sorted distinct positions
+     * @throws IndexOutOfBoundsException if a position is not within
+     *         {@code [0, size)}
+     */
+    static int[] sortedDistinct(final int[] indices, final int size) {
+        final int[] sorted = indices.clone();
+        Arrays.sort(sorted);
+        int count = 0;
+
+        for (int i = 0; i < sorted.length; ++i) {
+            if (count == 0 || sorted[i] != sorted[count - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+
+        if (count > 0 && (sorted[0] < 0 || sorted[count - 1] >= size)) {
+            final int index = sorted[0] < 0 ? sorted[0] : sorted[count - 1];
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + size);
+        }
+
+        return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+    }
+
+    private static <E> void compact(final List<E> list,
+                                    final int[] sorted,
+                                    final int size) {
+        int write = sorted[0];
+        int next = 0;
+
+        for (int read = sorted[0]; read < size; ++read) {
+            if (next < sorted.length && sorted[next] == read) {
+                ++next;
+            } else {
+                list.set(write++, list.get(read));
+            }
+        }
+
+        list.subList(write, size).clear();
+    }
+
+    private static void walk(final ListIterator<?> iterator,
+                             final int[] sorted) {
+        int position = sorted[0];
+
+        for (final int index : sorted) {
+            for (; position < index; ++position) {
+                iterator.next();
+            }
+
+            iterator.next();
+            iterator.remove();
+            ++position;
+        }
+    }
+}
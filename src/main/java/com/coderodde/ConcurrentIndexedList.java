@@ -0,0 +1,516 @@
+package com.coderodde;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import com.github.coderodde.util.IndexedLinkedList;
+
+/**
+ * A thread-safe list guarding a delegate list, by default an
+ * {@link IndexedLinkedList}, with a {@link StampedLock}. Reads run as
+ * optimistic reads without taking any lock and are retried under the read
+ * lock only if a write overlapped them, so readers do not block each other
+ * and do not write to any shared memory. Modifications take the write lock.
+ * <p>
+ * An optimistic read may see the delegate half way through a modification.
+ * Its result is thrown away in that case, and so is any exception it throws,
+ * but the delegate must not loop forever on an inconsistent structure. The
+ * JDK lists and {@link IndexedLinkedList} walk at most as many nodes as the
+ * index they look for, so they qualify.
+ * <p>
+ * Iterators and list iterators run over a snapshot taken when they are
+ * created and do not support modification, like those of
+ * {@link java.util.concurrent.CopyOnWriteArrayList}. Bulk modifications
+ * such as {@link #replaceAll(UnaryOperator)} and {@link #sort(Comparator)}
+ * therefore do not go through the iterators but take the write lock and run
+ * on the delegate, on this list and on its sublists alike.
+ *
+ * @param <E> the element type.
+ */
+public class ConcurrentIndexedList<E> extends AbstractList<E> {
+
+    private final List<E> list;
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * Constructs an empty list backed by an {@link IndexedLinkedList}.
+     */
+    public ConcurrentIndexedList() {
+        this(new IndexedLinkedList<>());
+    }
+
+    /**
+     * Constructs a list guarding {@code list}, which must not be accessed
+     * other than through this list afterwards.
+     *
+     * @param list the delegate list.
+     */
+    public ConcurrentIndexedList(List<E> list) {
+        this.list = list;
+    }
+
+    @Override
+    public int size() {
+        final long stamp = lock.tryOptimisticRead();
+        final int size = list.size();
+
+        if (lock.validate(stamp)) {
+            return size;
+        }
+
+        return read(list::size);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public E get(int index) {
+        final long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0L) {
+            try {
+                final E element = list.get(index);
+
+                if (lock.validate(stamp)) {
+                    return element;
+                }
+            } catch (RuntimeException ex) {
+                if (lock.validate(stamp)) {
+                    throw ex;
+                }
+            }
+        }
+
+        final long readStamp = lock.readLock();
+
+        try {
+            return list.get(index);
+        } finally {
+            lock.unlockRead(readStamp);
+        }
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return read(() -> list.indexOf(o));
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return read(() -> list.lastIndexOf(o));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return read(list::toArray);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        final Object[] elements = toArray();
+
+        if (a.length < elements.length) {
+            return (T[]) Arrays.copyOf(elements, elements.length, a.getClass());
+        }
+
+        System.arraycopy(elements, 0, a, 0, elements.length);
+
+        if (a.length > elements.length) {
+            a[elements.length] = null;
+        }
+
+        return a;
+    }
+
+    /**
+     * Returns an iterator over a snapshot of this list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a list iterator over a snapshot of this list, starting at
+     * {@code index}. The iterator does not support modification.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListIterator<E> listIterator(int index) {
+        final List<E> snapshot = (List<E>) Arrays.asList(toArray());
+        return Collections.unmodifiableList(snapshot).listIterator(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        final long stamp = lock.writeLock();
+
+        try {
+            return list.set(index, element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean add(E e) {
+        final long stamp = lock.writeLock();
+
+        try {
+            return list.add(e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void add(int index, E element) {
+        final long stamp = lock.writeLock();
+
+        try {
+            list.add(index, element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E remove(int index) {
+        final long stamp = lock.writeLock();
+
+        try {
+            return list.remove(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        final long stamp = lock.writeLock();
+
+        try {
+            return list.remove(o);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        final Object[] elements = c.toArray();
+        final long stamp = lock.writeLock();
+
+        try {
+            return list.addAll(asList(elements));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        final Object[] elements = c.toArray();
+        final long stamp = lock.writeLock();
+
+        try {
+            return list.addAll(index, asList(elements));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        final long stamp = lock.writeLock();
+
+        try {
+            return list.removeAll(c);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        final long stamp = lock.writeLock();
+
+        try {
+            return list.retainAll(c);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        final long stamp = lock.writeLock();
+
+        try {
+            return list.removeIf(filter);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c) {
+        final long stamp = lock.writeLock();
+
+        try {
+            list.sort(c);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        final long stamp = lock.writeLock();
+
+        try {
+            list.replaceAll(operator);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns a view of the range {@code fromIndex} (inclusive) to
+     * {@code toIndex} (exclusive) of this list. As with
+     * {@link AbstractList#subList(int, int)}, the view must not be used after
+     * this list is structurally modified other than through the view.
+     */
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        return new SubList(null, fromIndex, toIndex - fromIndex);
+    }
+
+    @Override
+    public void clear() {
+        final long stamp = lock.writeLock();
+
+        try {
+            list.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        final long stamp = lock.writeLock();
+
+        try {
+            list.subList(fromIndex, toIndex).clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * A range of this list. Single element operations go through the
+     * enclosing list, bulk ones take the write lock and run on the same
+     * range of the delegate.
+     */
+    private final class SubList extends AbstractList<E> {
+
+        private final SubList parent;
+        private final int offset;
+        private int size;
+
+        SubList(SubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return ConcurrentIndexedList.this.get(offset + index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            Objects.checkIndex(index, size);
+            return ConcurrentIndexedList.this.set(offset + index, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            Objects.checkIndex(index, size + 1);
+            ConcurrentIndexedList.this.add(offset + index, element);
+            updateSize(1);
+        }
+
+        @Override
+        public E remove(int index) {
+            Objects.checkIndex(index, size);
+            final E element = ConcurrentIndexedList.this.remove(offset + index);
+            updateSize(-1);
+            return element;
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends E> c) {
+            Objects.checkIndex(index, size + 1);
+            final Object[] elements = c.toArray();
+            ConcurrentIndexedList.this.addAll(offset + index, asList(elements));
+            updateSize(elements.length);
+            return elements.length > 0;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIf(c::contains);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIf(e -> !c.contains(e));
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            final long stamp = lock.writeLock();
+
+            try {
+                final List<E> range = range();
+                final int sizeBefore = range.size();
+                final boolean removed = range.removeIf(filter);
+                updateSize(range.size() - sizeBefore);
+                return removed;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator<E> operator) {
+            final long stamp = lock.writeLock();
+
+            try {
+                range().replaceAll(operator);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        public void sort(Comparator<? super E> c) {
+            final long stamp = lock.writeLock();
+
+            try {
+                range().sort(c);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Returns a list iterator over a snapshot of this range, starting at
+         * {@code index}. The iterator does not support modification.
+         */
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            Objects.checkIndex(index, size + 1);
+            final List<E> snapshot = asList(read(() -> range().toArray()));
+            return Collections.unmodifiableList(snapshot).listIterator(index);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public List<E> subList(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, size);
+            return new SubList(this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, size);
+            ConcurrentIndexedList.this.removeRange(offset + fromIndex,
+                                                   offset + toIndex);
+            updateSize(fromIndex - toIndex);
+        }
+
+        private List<E> range() {
+            return list.subList(offset, offset + size);
+        }
+
+        private void updateSize(int delta) {
+            for (SubList view = this; view != null; view = view.parent) {
+                view.size += delta;
+            }
+        }
+    }
+
+    // Private methods:
+
+    /**
+     * Runs {@code reader} as an optimistic read, and again under the read
+     * lock if a write overlapped it.
+     */
+    private <T> T read(Supplier<T> reader) {
+        final long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0L) {
+            try {
+                final T result = reader.get();
+
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException ex) {
+                if (lock.validate(stamp)) {
+                    throw ex;
+                }
+            }
+        }
+
+        final long readStamp = lock.readLock();
+
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(readStamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> List<E> asList(Object[] elements) {
+        return (List<E>) Arrays.asList(elements);
+    }
+}
@@ -0,0 +1,58 @@
+package com.coderodde;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Releases the memory of direct and memory-mapped buffers on demand.
+ * Without this, the memory is released only when the garbage collector
+ * finds the buffer unreachable, and a mapped file stays mapped until then.
+ */
+final class DirectBuffers {
+
+    /** Releases the memory of a buffer; {@code null} if unavailable. */
+    private static final BufferReleaser RELEASER = createReleaser();
+
+    private DirectBuffers() {
+    }
+
+    private interface BufferReleaser {
+        void release(ByteBuffer buffer) throws Exception;
+    }
+
+    /** Releases the memory of {@code buffer}, which must not be used
+     * afterwards. Does nothing if the memory cannot be released on demand.
+     * @param buffer direct or mapped buffer
+     */
+    static void release(final ByteBuffer buffer) {
+        if (RELEASER == null) {
+            return;
+        }
+
+        try {
+            RELEASER.release(buffer);
+        } catch (final Exception ex) {
+            throw new IllegalStateException(
+                    "Could not release a direct buffer.", ex);
+        }
+    }
+
+    /** Looks up {@code sun.misc.Unsafe.invokeCleaner}, the only way to free
+     * a direct buffer on demand before the foreign memory API.
+     */
+    private static BufferReleaser createReleaser() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            final Object unsafe = field.get(null);
+            final Method invokeCleaner =
+                    unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+
+            return buffer -> invokeCleaner.invoke(unsafe, buffer);
+        } catch (final ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.coderodde;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A list backed by a gap buffer: a single array whose free capacity forms a
+ * gap at the position of the last edit. Inserting or removing at the gap
+ * moves no elements, and moving the gap by {@code d} positions copies
+ * {@code d} elements, so runs of edits near a cursor cost amortized constant
+ * time per element while positional reads stay plain array reads.
+ *
+ * @param <E> the element type.
+ */
+public class GapBufferList<E> extends AbstractList<E> implements RandomAccess {
+
+    /** The default initial capacity of the buffer. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The elements occupy {@code [0, gapStart)} and
+     * {@code [gapEnd, buffer.length)}.
+     */
+    private Object[] buffer;
+
+    private int gapStart;
+    private int gapEnd;
+
+    /**
+     * Constructs an empty list.
+     */
+    public GapBufferList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the given initial capacity.
+     *
+     * @param capacity the initial capacity.
+     */
+    public GapBufferList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                    "Negative capacity: " + capacity);
+        }
+
+        buffer = new Object[capacity];
+        gapEnd = capacity;
+    }
+
+    /**
+     * Constructs a list containing the elements of the given collection.
+     *
+     * @param c the collection whose elements to add.
+     */
+    public GapBufferList(Collection<? extends E> c) {
+        Object[] array = c.toArray();
+        buffer = Arrays.copyOf(array,
+                               Math.max(DEFAULT_CAPACITY, array.length),
+                               Object[].class);
+        gapStart = array.length;
+        gapEnd = buffer.length;
+    }
+
+    @Override
+    public int size() {
+        return buffer.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkElementIndex(index);
+        return (E) buffer[toBufferIndex(index)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkElementIndex(index);
+        int bufferIndex = toBufferIndex(index);
+        E old = (E) buffer[bufferIndex];
+        buffer[bufferIndex] = element;
+        return old;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+        ensureGap(1);
+        moveGap(index);
+        buffer[gapStart++] = element;
+        ++modCount;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkElementIndex(index);
+        moveGap(index);
+        E old = (E) buffer[gapEnd];
+        buffer[gapEnd++] = null;
+        ++modCount;
+        return old;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        checkPositionIndex(index);
+        Object[] array = c.toArray();
+
+        if (array.length == 0) {
+            return false;
+        }
+
+        ensureGap(array.length);
+        moveGap(index);
+        System.arraycopy(array, 0, buffer, gapStart, array.length);
+        gapStart += array.length;
+        ++modCount;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(buffer, 0, gapStart, null);
+        Arrays.fill(buffer, gapEnd, buffer.length, null);
+        gapStart = 0;
+        gapEnd = buffer.length;
+        ++modCount;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        System.arraycopy(buffer, 0, array, 0, gapStart);
+        System.arraycopy(buffer, gapEnd,
+                         array, gapStart,
+                         buffer.length - gapEnd);
+        return array;
+    }
+
+    /**
+     * Moves the gap to {@code fromIndex} and widens it over the removed
+     * elements.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+
+        moveGap(fromIndex);
+        int newGapEnd = gapEnd + (toIndex - fromIndex);
+        Arrays.fill(buffer, gapEnd, newGapEnd, null);
+        gapEnd = newGapEnd;
+        ++modCount;
+    }
+
+    /**
+     * Returns the position of the gap, that is, the list index at which the
+     * next edit costs no element moves.
+     *
+     * @return the list index of the gap.
+     */
+    public int getGapIndex() {
+        return gapStart;
+    }
+
+    // Private methods:
+
+    private int toBufferIndex(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    /**
+     * Moves the gap so that it starts at the list index {@code index}.
+     */
+    private void moveGap(int index) {
+        int gapLength = gapEnd - gapStart;
+
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(buffer, index, buffer, index + gapLength, count);
+            Arrays.fill(buffer, index, Math.min(gapStart, index + gapLength),
+                        null);
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+            Arrays.fill(buffer, Math.max(gapEnd, index), gapEnd + count,
+                        null);
+        }
+
+        gapStart = index;
+        gapEnd = index + gapLength;
+    }
+
+    /**
+     * Grows the buffer, keeping the gap in place, until the gap holds at
+     * least {@code length} elements.
+     */
+    private void ensureGap(int length) {
+        if (gapEnd - gapStart >= length) {
+            return;
+        }
+
+        int size = size();
+        int capacity = Math.max(size + length,
+                                Math.max(DEFAULT_CAPACITY,
+                                         buffer.length + (buffer.length >> 1)));
+        Object[] newBuffer = new Object[capacity];
+        int suffixLength = buffer.length - gapEnd;
+        System.arraycopy(buffer, 0, newBuffer, 0, gapStart);
+        System.arraycopy(buffer, gapEnd,
+                         newBuffer, capacity - suffixLength,
+                         suffixLength);
+        buffer = newBuffer;
+        gapEnd = capacity - suffixLength;
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", size: " + size());
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", size: " + size());
+        }
+    }
+}
@@ -0,0 +1,531 @@
+package com.coderodde;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A chunked list like {@link UnrolledLinkedList} that also keeps a hash
+ * index from every value to the chunks holding it, so that
+ * {@link #contains(Object)}, {@link #indexOf(Object)},
+ * {@link #lastIndexOf(Object)} and {@link #remove(Object)} look up the chunks
+ * instead of scanning the list. The index is a multimap: a value stored
+ * several times maps to every chunk holding it, along with the number of
+ * copies in that chunk.
+ * <p>
+ * Looking up a value costs one hash lookup, a pass over the chunks holding
+ * the value to find the first or the last one, and a scan of that chunk of
+ * at most {@value #CHUNK_CAPACITY} elements. Every modification updates the
+ * index, and a chunk split or merge re-indexes the elements it moves.
+ *
+ * @param <E> the element type.
+ */
+public class HashIndexedList<E> extends AbstractList<E> {
+
+    /** The maximum number of elements in a chunk. */
+    public static final int CHUNK_CAPACITY = 64;
+
+    private static final int INITIAL_CHUNK_INDEX_LENGTH = 8;
+
+    /** A run of consecutive elements. */
+    private static final class Chunk {
+        final Object[] items = new Object[CHUNK_CAPACITY];
+        int size;
+
+        /** The position of this chunk in the chunk index. */
+        int position;
+    }
+
+    /** The chunks holding a value and the number of copies in each. */
+    private static final class Occurrences {
+        Chunk[] chunks = new Chunk[1];
+        int[] counts = new int[1];
+        int length;
+
+        void add(Chunk chunk) {
+            for (int i = 0; i < length; ++i) {
+                if (chunks[i] == chunk) {
+                    ++counts[i];
+                    return;
+                }
+            }
+
+            if (length == chunks.length) {
+                chunks = Arrays.copyOf(chunks, length * 2);
+                counts = Arrays.copyOf(counts, length * 2);
+            }
+
+            chunks[length] = chunk;
+            counts[length++] = 1;
+        }
+
+        void remove(Chunk chunk) {
+            for (int i = 0; i < length; ++i) {
+                if (chunks[i] == chunk) {
+                    if (--counts[i] == 0) {
+                        chunks[i] = chunks[--length];
+                        counts[i] = counts[length];
+                        chunks[length] = null;
+                    }
+
+                    return;
+                }
+            }
+        }
+
+        Chunk first() {
+            Chunk first = chunks[0];
+
+            for (int i = 1; i < length; ++i) {
+                if (chunks[i].position < first.position) {
+                    first = chunks[i];
+                }
+            }
+
+            return first;
+        }
+
+        Chunk last() {
+            Chunk last = chunks[0];
+
+            for (int i = 1; i < length; ++i) {
+                if (chunks[i].position > last.position) {
+                    last = chunks[i];
+                }
+            }
+
+            return last;
+        }
+    }
+
+    private final Map<Object, Occurrences> index = new HashMap<>();
+
+    /** The chunks, in order, at the indices {@code [0, chunkCount)}. */
+    private Chunk[] chunks = new Chunk[INITIAL_CHUNK_INDEX_LENGTH];
+    private int[] starts = new int[INITIAL_CHUNK_INDEX_LENGTH];
+    private int chunkCount;
+
+    /** The chunk starts at {@code [0, validStarts)} are up to date. */
+    private int validStarts;
+
+    private int size;
+
+    /**
+     * Constructs an empty list.
+     */
+    public HashIndexedList() {
+    }
+
+    /**
+     * Constructs a list containing the elements of the given collection.
+     *
+     * @param c the collection whose elements to add.
+     */
+    public HashIndexedList(Collection<? extends E> c) {
+        for (final E e : c) {
+            append(e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkElementIndex(index);
+        final int chunk = findChunk(index);
+        return (E) chunks[chunk].items[index - starts[chunk]];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkElementIndex(index);
+        final int position = findChunk(index);
+        final Chunk chunk = chunks[position];
+        final int offset = index - starts[position];
+        final E old = (E) chunk.items[offset];
+
+        removeOccurrence(old, chunk);
+        addOccurrence(element, chunk);
+        chunk.items[offset] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(E e) {
+        append(e);
+        ++modCount;
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+
+        if (index == size) {
+            add(element);
+            return;
+        }
+
+        int position = findChunk(index);
+        int offset = index - starts[position];
+
+        if (chunks[position].size == CHUNK_CAPACITY) {
+            split(position);
+
+            if (offset > chunks[position].size) {
+                offset -= chunks[position].size;
+                ++position;
+            }
+        }
+
+        final Chunk chunk = chunks[position];
+        System.arraycopy(chunk.items, offset,
+                         chunk.items, offset + 1,
+                         chunk.size - offset);
+        chunk.items[offset] = element;
+        ++chunk.size;
+        addOccurrence(element, chunk);
+        ++size;
+        ++modCount;
+        invalidateStarts(position + 1);
+    }
+
+    @Override
+    public E remove(int index) {
+        checkElementIndex(index);
+        final int position = findChunk(index);
+        return removeAt(position, index - starts[position]);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        final Occurrences occurrences = index.get(o);
+
+        if (occurrences == null) {
+            return false;
+        }
+
+        final Chunk chunk = occurrences.first();
+        removeAt(chunk.position, firstOffset(chunk, o));
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return index.containsKey(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        final Occurrences occurrences = index.get(o);
+
+        if (occurrences == null) {
+            return -1;
+        }
+
+        final Chunk chunk = occurrences.first();
+        updateStarts();
+        return starts[chunk.position] + firstOffset(chunk, o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        final Occurrences occurrences = index.get(o);
+
+        if (occurrences == null) {
+            return -1;
+        }
+
+        final Chunk chunk = occurrences.last();
+        int offset = chunk.size - 1;
+
+        while (!Objects.equals(o, chunk.items[offset])) {
+            --offset;
+        }
+
+        updateStarts();
+        return starts[chunk.position] + offset;
+    }
+
+    /**
+     * Removes every element equal to an element of {@code c}. Only the chunks
+     * holding such elements are visited, and the emptied chunks are dropped
+     * in one pass over the chunk index.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        boolean modified = false;
+
+        for (final Object o : c) {
+            final Occurrences occurrences = index.remove(o);
+
+            if (occurrences == null) {
+                continue;
+            }
+
+            for (int i = 0; i < occurrences.length; ++i) {
+                final Chunk chunk = occurrences.chunks[i];
+                int kept = 0;
+
+                for (int j = 0; j < chunk.size; ++j) {
+                    if (!Objects.equals(o, chunk.items[j])) {
+                        chunk.items[kept++] = chunk.items[j];
+                    }
+                }
+
+                Arrays.fill(chunk.items, kept, chunk.size, null);
+                size -= chunk.size - kept;
+                chunk.size = kept;
+                invalidateStarts(chunk.position + 1);
+            }
+
+            modified = true;
+        }
+
+        if (modified) {
+            dropEmptyChunks();
+            ++modCount;
+        }
+
+        return modified;
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+        Arrays.fill(chunks, 0, chunkCount, null);
+        chunkCount = 0;
+        validStarts = 0;
+        size = 0;
+        ++modCount;
+    }
+
+    // Private methods:
+
+    private void append(Object element) {
+        if (chunkCount == 0 || chunks[chunkCount - 1].size == CHUNK_CAPACITY) {
+            openChunk(chunkCount);
+        }
+
+        final Chunk last = chunks[chunkCount - 1];
+        last.items[last.size++] = element;
+        addOccurrence(element, last);
+        ++size;
+    }
+
+    private void addOccurrence(Object element, Chunk chunk) {
+        index.computeIfAbsent(element, e -> new Occurrences()).add(chunk);
+    }
+
+    private void removeOccurrence(Object element, Chunk chunk) {
+        final Occurrences occurrences = index.get(element);
+        occurrences.remove(chunk);
+
+        if (occurrences.length == 0) {
+            index.remove(element);
+        }
+    }
+
+    private static int firstOffset(Chunk chunk, Object o) {
+        int offset = 0;
+
+        while (!Objects.equals(o, chunk.items[offset])) {
+            ++offset;
+        }
+
+        return offset;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E removeAt(int position, int offset) {
+        final Chunk chunk = chunks[position];
+        final E old = (E) chunk.items[offset];
+
+        System.arraycopy(chunk.items, offset + 1,
+                         chunk.items, offset,
+                         chunk.size - offset - 1);
+        chunk.items[--chunk.size] = null;
+        removeOccurrence(old, chunk);
+        --size;
+        ++modCount;
+        invalidateStarts(position + 1);
+
+        if (chunk.size == 0) {
+            closeChunk(position);
+        } else {
+            mergeIfSparse(position);
+        }
+
+        return old;
+    }
+
+    private int findChunk(int index) {
+        final int last = chunkCount - 1;
+
+        if (index >= size - chunks[last].size) {
+            starts[last] = size - chunks[last].size;
+            return last;
+        }
+
+        updateStarts();
+
+        int low = 0;
+        int high = last;
+
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+
+            if (starts[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private void updateStarts() {
+        int position = validStarts;
+
+        if (position == 0) {
+            starts[0] = 0;
+            position = 1;
+        }
+
+        for (; position < chunkCount; ++position) {
+            starts[position] = starts[position - 1] + chunks[position - 1].size;
+        }
+
+        validStarts = chunkCount;
+    }
+
+    private void invalidateStarts(int position) {
+        validStarts = Math.min(validStarts, position);
+    }
+
+    /** Moves the upper half of the full chunk into a new chunk after it. */
+    private void split(int position) {
+        openChunk(position + 1);
+        final Chunk left = chunks[position];
+        final Chunk right = chunks[position + 1];
+        final int leftSize = left.size / 2;
+
+        for (int i = leftSize; i < left.size; ++i) {
+            moveElement(left.items[i], left, right);
+        }
+
+        right.size = left.size - leftSize;
+        System.arraycopy(left.items, leftSize, right.items, 0, right.size);
+        Arrays.fill(left.items, leftSize, left.size, null);
+        left.size = leftSize;
+    }
+
+    /**
+     * Merges the chunk with a neighbour if it is below a quarter of the
+     * capacity and the merged chunk stays within three quarters of it.
+     */
+    private void mergeIfSparse(int position) {
+        if (chunks[position].size >= CHUNK_CAPACITY / 4) {
+            return;
+        }
+
+        final int limit = CHUNK_CAPACITY * 3 / 4;
+        final int length = chunks[position].size;
+
+        if (position + 1 < chunkCount
+                && length + chunks[position + 1].size <= limit) {
+            merge(position);
+        } else if (position > 0
+                && chunks[position - 1].size + length <= limit) {
+            merge(position - 1);
+        }
+    }
+
+    /** Appends the elements of the next chunk to the chunk and removes the
+     * emptied chunk.
+     */
+    private void merge(int position) {
+        final Chunk left = chunks[position];
+        final Chunk right = chunks[position + 1];
+
+        for (int i = 0; i < right.size; ++i) {
+            moveElement(right.items[i], right, left);
+        }
+
+        System.arraycopy(right.items, 0, left.items, left.size, right.size);
+        left.size += right.size;
+        closeChunk(position + 1);
+    }
+
+    private void moveElement(Object element, Chunk from, Chunk to) {
+        final Occurrences occurrences = index.get(element);
+        occurrences.remove(from);
+        occurrences.add(to);
+    }
+
+    private void openChunk(int at) {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            starts = Arrays.copyOf(starts, chunkCount * 2);
+        }
+
+        System.arraycopy(chunks, at, chunks, at + 1, chunkCount - at);
+        chunks[at] = new Chunk();
+        ++chunkCount;
+        updatePositions(at);
+        invalidateStarts(at);
+    }
+
+    private void closeChunk(int position) {
+        System.arraycopy(chunks, position + 1,
+                         chunks, position,
+                         chunkCount - position - 1);
+        chunks[--chunkCount] = null;
+        updatePositions(position);
+        invalidateStarts(position);
+    }
+
+    private void dropEmptyChunks() {
+        int kept = 0;
+
+        for (int i = 0; i < chunkCount; ++i) {
+            if (chunks[i].size > 0) {
+                chunks[kept++] = chunks[i];
+            }
+        }
+
+        Arrays.fill(chunks, kept, chunkCount, null);
+        chunkCount = kept;
+        updatePositions(0);
+        invalidateStarts(0);
+    }
+
+    private void updatePositions(int from) {
+        for (int i = from; i < chunkCount; ++i) {
+            chunks[i].position = i;
+        }
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", size: " + size);
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", size: " + size);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.coderodde;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Removal of a batch of distinct random positions from a list, once with one
+ * {@code remove(int)} call per position and once as a single batch.
+ * <ul>
+ * <li>{@code loopRemove} removes the positions from the highest to the
+ * lowest, so every position still refers to the original list.</li>
+ * <li>{@code batchRemove} hands the unsorted positions to
+ * {@link UnrolledLinkedList#removeAt(int[])},
+ * {@link IntIndexedLinkedList#removeAt(int[])} or, for the other lists, to
+ * {@link BatchRemoval#removeAt(java.util.List, int[])}, so its score includes
+ * sorting them.</li>
+ * </ul>
+ * Every invocation removes from a freshly built list. The loop is
+ * {@code O(k n)} on a {@link java.util.LinkedList}, which makes its
+ * largest batches slow to measure.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms4G", "-Xmx4G"})
+public class IndexedLinkedListBatchRemovePerformance {
+
+    /** Batch removal benchmark state. */
+    @State(Scope.Thread)
+    public static class BatchRemoveState {
+
+        /** The number of elements in the list. */
+        @Param({"100000", "1000000"})
+        private int size;
+
+        /** The number of positions to remove. */
+        @Param({"10", "100", "1000", "10000", "100000"})
+        private int batchSize;
+
+        /** The list implementation under test. */
+        @Param({
+            "ArrayList",
+            "LinkedList",
+            "TreeList",
+            "IndexedLinkedList",
+            "UnrolledLinkedList",
+            "IntIndexedLinkedList",
+        })
+        private String listType;
+
+        @Param("13")
+        private long seed;
+
+        private List<Integer> elements;
+        private int[] indices;
+        private int[] descendingIndices;
+
+        private List<Integer> list;
+        private IntIndexedLinkedList intList;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            if (batchSize > size) {
+                throw new IllegalArgumentException(
+                        "Batch size " + batchSize
+                                + " exceeds list size " + size);
+            }
+
+            final Random random = new Random(seed);
+            final BitSet chosen = new BitSet(size);
+            elements = IndexedLinkedListPerformance.populate(
+                    new ArrayList<>(size),
+                    size);
+            indices = new int[batchSize];
+
+            for (int i = 0; i < batchSize;) {
+                final int index = random.nextInt(size);
+
+                if (!chosen.get(index)) {
+                    chosen.set(index);
+                    indices[i++] = index;
+                }
+            }
+
+            descendingIndices = new int[batchSize];
+
+            for (int i = 0, index = chosen.length() - 1;
+                    i < batchSize;
+                    ++i, index = chosen.previousSetBit(index - 1)) {
+                descendingIndices[i] = index;
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void setupInvocation() {
+            if (isIntList()) {
+                intList = new IntIndexedLinkedList();
+
+                for (int i = 0; i < size; ++i) {
+                    intList.addInt(i);
+                }
+            } else {
+                list = IndexedLinkedListConcurrencyPerformance
+                        .<Integer>createList(listType)
+                        .get();
+                list.addAll(elements);
+            }
+        }
+
+        public boolean isIntList() {
+            return listType.equals("IntIndexedLinkedList");
+        }
+
+        public List<Integer> getList() {
+            return list;
+        }
+
+        public IntIndexedLinkedList getIntList() {
+            return intList;
+        }
+
+        public int[] getIndices() {
+            return indices;
+        }
+
+        public int[] getDescendingIndices() {
+            return descendingIndices;
+        }
+    }
+
+    @Benchmark
+    public int loopRemove(final BatchRemoveState state) {
+        if (state.isIntList()) {
+            final IntIndexedLinkedList intList = state.getIntList();
+
+            for (final int index : state.getDescendingIndices()) {
+                intList.removeAt(index);
+            }
+
+            return intList.size();
+        }
+
+        final List<Integer> list = state.getList();
+
+        for (final int index : state.getDescendingIndices()) {
+            list.remove(index);
+        }
+
+        return list.size();
+    }
+
+    @Benchmark
+    public int batchRemove(final BatchRemoveState state) {
+        if (state.isIntList()) {
+            state.getIntList().removeAt(state.getIndices());
+            return state.getIntList().size();
+        }
+
+        BatchRemoval.removeAt(state.getList(), state.getIndices());
+        return state.getList().size();
+    }
+
+    public static void main(String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                .include("\\."
+                       + IndexedLinkedListBatchRemovePerformance.class
+                                                            .getSimpleName()
+                       + "\\.")
+                .build();
+
+        printResults(new Runner(opt).run());
+    }
+
+    private static void printResults(final Collection<RunResult> runResults) {
+        System.out.printf("| %11s | %20s | %8s | %8s | %10s |\n",
+                          "Removal",
+                          "List",
+                          "Size",
+                          "Batch",
+                          "ms/op");
+
+        for (final RunResult rr : runResults) {
+            System.out.printf("| %11s | %20s | %8s | %8s | %10.3f |\n",
+                              rr.getPrimaryResult().getLabel(),
+                              rr.getParams().getParam("listType"),
+                              rr.getParams().getParam("size"),
+                              rr.getParams().getParam("batchSize"),
+                              rr.getPrimaryResult().getScore());
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.coderodde;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Bulk removal scenarios: one {@code removeIf}, {@code removeAll} or
+ * {@code retainAll} call removing a given percentage of the elements of a
+ * list, the victims being spread uniformly at random over the list. Unlike
+ * {@code profileRemoveAll} of {@link IndexedLinkedListPerformance}, every
+ * list type goes through its own bulk operation, so the scores show the
+ * cost of one unlink per victim against a single compaction pass.
+ * <p>
+ * {@code removeAll} is handed a hash set of the victims and
+ * {@code retainAll} a hash set of the survivors. The
+ * {@link IntIndexedLinkedList} takes sorted arrays of the values instead,
+ * which are sorted once per trial.
+ * <p>
+ * A bulk removal on a small list takes microseconds, too little to time on
+ * its own, and rebuilding the list before every invocation would add the
+ * setup noise to every sample. Instead, {@value #LISTS_PER_INVOCATION}
+ * copies of the list are built before every iteration and a single shot
+ * runs the bulk operation once on each of them.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OperationsPerInvocation(IndexedLinkedListBulkRemovePerformance
+                                 .LISTS_PER_INVOCATION)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms4G", "-Xmx4G"})
+public class IndexedLinkedListBulkRemovePerformance {
+
+    /** The number of lists a single shot removes from. */
+    static final int LISTS_PER_INVOCATION = 10;
+
+    /** Bulk removal benchmark state. */
+    @State(Scope.Thread)
+    public static class BulkRemoveState {
+
+        /** The number of elements in the list. */
+        @Param({"10000", "100000", "1000000"})
+        private int size;
+
+        /** The percentage of the elements to remove. */
+        @Param({"1", "10", "50", "90"})
+        private int density;
+
+        /** The list implementation under test. */
+        @Param({
+            "ArrayList",
+            "LinkedList",
+            "TreeList",
+            "IndexedLinkedList",
+            "UnrolledLinkedList",
+            "IntIndexedLinkedList",
+        })
+        private String listType;
+
+        @Param("13")
+        private long seed;
+
+        private List<Integer> elements;
+        private boolean[] victims;
+        private Set<Integer> victimSet;
+        private Set<Integer> survivorSet;
+        private int[] victimValues;
+        private int[] survivorValues;
+
+        private final List<List<Integer>> lists = new ArrayList<>();
+        private final List<IntIndexedLinkedList> intLists = new ArrayList<>();
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            final Random random = new Random(seed);
+            elements = IndexedLinkedListPerformance.populate(
+                    new ArrayList<>(size),
+                    size);
+            victims = new boolean[size];
+            victimSet = new HashSet<>();
+            survivorSet = new HashSet<>();
+
+            for (int i = 0; i < size; ++i) {
+                victims[i] = random.nextInt(100) < density;
+                (victims[i] ? victimSet : survivorSet).add(i);
+            }
+
+            victimValues = toSortedArray(victimSet);
+            survivorValues = toSortedArray(survivorSet);
+        }
+
+        @Setup(Level.Iteration)
+        public void setupIteration() {
+            lists.clear();
+            intLists.clear();
+
+            for (int copy = 0; copy < LISTS_PER_INVOCATION; ++copy) {
+                if (isIntList()) {
+                    final IntIndexedLinkedList intList =
+                            new IntIndexedLinkedList();
+
+                    for (int i = 0; i < size; ++i) {
+                        intList.addInt(i);
+                    }
+
+                    intLists.add(intList);
+                } else {
+                    final List<Integer> list =
+                            IndexedLinkedListConcurrencyPerformance
+                                    .<Integer>createList(listType)
+                                    .get();
+                    list.addAll(elements);
+                    lists.add(list);
+                }
+            }
+        }
+
+        public boolean isIntList() {
+            return listType.equals("IntIndexedLinkedList");
+        }
+
+        public boolean isVictim(final int value) {
+            return victims[value];
+        }
+
+        public List<Integer> getList(final int copy) {
+            return lists.get(copy);
+        }
+
+        public IntIndexedLinkedList getIntList(final int copy) {
+            return intLists.get(copy);
+        }
+
+        public Set<Integer> getVictimSet() {
+            return victimSet;
+        }
+
+        public Set<Integer> getSurvivorSet() {
+            return survivorSet;
+        }
+
+        public int[] getVictimValues() {
+            return victimValues;
+        }
+
+        public int[] getSurvivorValues() {
+            return survivorValues;
+        }
+
+        private static int[] toSortedArray(final Set<Integer> values) {
+            return values.stream()
+                         .mapToInt(Integer::intValue)
+                         .sorted()
+                         .toArray();
+        }
+    }
+
+    @Benchmark
+    public int removeIf(final BulkRemoveState state) {
+        int modified = 0;
+
+        for (int copy = 0; copy < LISTS_PER_INVOCATION; ++copy) {
+            if (state.isIntList()
+                    ? state.getIntList(copy).removeIf(state::isVictim)
+                    : state.getList(copy).removeIf(state::isVictim)) {
+                ++modified;
+            }
+        }
+
+        return modified;
+    }
+
+    @Benchmark
+    public int removeAll(final BulkRemoveState state) {
+        int modified = 0;
+
+        for (int copy = 0; copy < LISTS_PER_INVOCATION; ++copy) {
+            if (state.isIntList()
+                    ? state.getIntList(copy)
+                           .removeAllInts(state.getVictimValues())
+                    : state.getList(copy)
+                           .removeAll(state.getVictimSet())) {
+                ++modified;
+            }
+        }
+
+        return modified;
+    }
+
+    @Benchmark
+    public int retainAll(final BulkRemoveState state) {
+        int modified = 0;
+
+        for (int copy = 0; copy < LISTS_PER_INVOCATION; ++copy) {
+            if (state.isIntList()
+                    ? state.getIntList(copy)
+                           .retainAllInts(state.getSurvivorValues())
+                    : state.getList(copy)
+                           .retainAll(state.getSurvivorSet())) {
+                ++modified;
+            }
+        }
+
+        return modified;
+    }
+
+    public static void main(String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                .include("\\."
+                       + IndexedLinkedListBulkRemovePerformance.class
+                                                           .getSimpleName()
+                       + "\\.")
+                .build();
+
+        printResults(new Runner(opt).run());
+    }
+
+    private static void printResults(final Collection<RunResult> runResults) {
+        System.out.printf("| %9s | %20s | %8s | %7s | %10s |\n",
+                          "Operation",
+                          "List",
+                          "Size",
+                          "Victims",
+                          "ms/op");
+
+        for (final RunResult rr : runResults) {
+            System.out.printf("| %9s | %20s | %8s | %6s%% | %10.3f |\n",
+                              rr.getPrimaryResult().getLabel(),
+                              rr.getParams().getParam("listType"),
+                              rr.getParams().getParam("size"),
+                              rr.getParams().getParam("density"),
+                              rr.getPrimaryResult().getScore());
+        }
+    }
+}
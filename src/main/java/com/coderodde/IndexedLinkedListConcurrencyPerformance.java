@@ -0,0 +1,541 @@
+package com.coderodde;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+import org.apache.commons.collections4.list.TreeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import com.github.coderodde.util.IndexedLinkedList;
+
+/**
+ * Reader/writer contention benchmarks for a single list shared by several
+ * threads. Readers call {@code get(int)} or iterate the list while writers
+ * call {@code add(int, E)} followed by {@code remove(int)}, so the list size
+ * stays put during a measurement.
+ * <p>
+ * The {@code @GroupThreads} values below are only defaults; {@link #main}
+ * reruns the groups with {@code threadGroups(readers, writers)} for every
+ * reader/writer ratio and thread count.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx2G"})
+public class IndexedLinkedListConcurrencyPerformance {
+
+    /** Reader-to-writer ratios swept by {@link #main}. */
+    private static final int[][] READER_WRITER_RATIOS = {
+        { 1, 1 },
+        { 3, 1 },
+        { 7, 1 },
+        { 15, 1 },
+    };
+
+    /** Shared list benchmark state. One instance per thread group. */
+    @State(Scope.Group)
+    public static class SharedListState {
+
+        /** The number of elements in the shared list. */
+        @Param({"10000", "100000"})
+        private int size;
+
+        /** The list implementation under test. */
+        @Param({"ArrayList", "LinkedList", "TreeList", "IndexedLinkedList"})
+        private String listType;
+
+        /** The guard protecting the shared list. */
+        @Param({"synchronized", "readWriteLock", "stampedLock"})
+        private String guard;
+
+        private GuardedList list;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            final List<Integer> delegate =
+                    IndexedLinkedListConcurrencyPerformance
+                            .<Integer>createList(listType)
+                            .get();
+
+            for (int i = 0; i < size; ++i) {
+                delegate.add(i);
+            }
+
+            list = createGuardedList(guard, delegate);
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public GuardedList getList() {
+            return list;
+        }
+    }
+
+    /** Per-thread random index source. */
+    @State(Scope.Thread)
+    public static class ThreadRandomState {
+
+        private Random random;
+
+        @Setup(Level.Iteration)
+        public void setup(final BenchmarkParams params) {
+            random = new Random(Thread.currentThread().threadId()
+                              ^ params.getThreads());
+        }
+
+        public Random getRandom() {
+            return random;
+        }
+    }
+
+    /** Operations a reader or writer thread may invoke on the shared list. */
+    interface GuardedList {
+
+        Integer get(int index);
+
+        void add(int index, Integer element);
+
+        Integer remove(int index);
+
+        /** Iterates over the whole list under a read guard.
+         * @param bh black hole instance
+         */
+        void iterate(Blackhole bh);
+    }
+
+    /** Guards the list with {@link Collections#synchronizedList(List)}. */
+    static final class SynchronizedGuardedList implements GuardedList {
+
+        private final List<Integer> list;
+
+        SynchronizedGuardedList(final List<Integer> list) {
+            this.list = Collections.synchronizedList(list);
+        }
+
+        @Override
+        public Integer get(final int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public void add(final int index, final Integer element) {
+            list.add(index, element);
+        }
+
+        @Override
+        public Integer remove(final int index) {
+            return list.remove(index);
+        }
+
+        @Override
+        public void iterate(final Blackhole bh) {
+            // Iterating a synchronized list requires locking on the list.
+            synchronized (list) {
+                for (final Integer element : list) {
+                    bh.consume(element);
+                }
+            }
+        }
+    }
+
+    /** Guards the list with a {@link ReentrantLock}, for readers and writers
+     * alike. Unlike a monitor, the lock parks a waiting virtual thread
+     * without pinning it to its carrier thread.
+     */
+    static final class ReentrantLockGuardedList implements GuardedList {
+
+        private final List<Integer> list;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        ReentrantLockGuardedList(final List<Integer> list) {
+            this.list = list;
+        }
+
+        @Override
+        public Integer get(final int index) {
+            lock.lock();
+
+            try {
+                return list.get(index);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void add(final int index, final Integer element) {
+            lock.lock();
+
+            try {
+                list.add(index, element);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public Integer remove(final int index) {
+            lock.lock();
+
+            try {
+                return list.remove(index);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void iterate(final Blackhole bh) {
+            lock.lock();
+
+            try {
+                for (final Integer element : list) {
+                    bh.consume(element);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** Guards the list with a {@link ReentrantReadWriteLock}. */
+    static final class ReadWriteLockGuardedList implements GuardedList {
+
+        private final List<Integer> list;
+        private final ReentrantReadWriteLock lock =
+                new ReentrantReadWriteLock();
+
+        ReadWriteLockGuardedList(final List<Integer> list) {
+            this.list = list;
+        }
+
+        @Override
+        public Integer get(final int index) {
+            lock.readLock().lock();
+
+            try {
+                return list.get(index);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public void add(final int index, final Integer element) {
+            lock.writeLock().lock();
+
+            try {
+                list.add(index, element);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public Integer remove(final int index) {
+            lock.writeLock().lock();
+
+            try {
+                return list.remove(index);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void iterate(final Blackhole bh) {
+            lock.readLock().lock();
+
+            try {
+                for (final Integer element : list) {
+                    bh.consume(element);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /** Guards the list with the read and write locks of a
+     * {@link StampedLock}. The lists under test are not safe to traverse
+     * while being modified, so readers take a full read lock instead of an
+     * optimistic read.
+     */
+    static final class StampedLockGuardedList implements GuardedList {
+
+        private final List<Integer> list;
+        private final StampedLock lock = new StampedLock();
+
+        StampedLockGuardedList(final List<Integer> list) {
+            this.list = list;
+        }
+
+        @Override
+        public Integer get(final int index) {
+            final long stamp = lock.readLock();
+
+            try {
+                return list.get(index);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        @Override
+        public void add(final int index, final Integer element) {
+            final long stamp = lock.writeLock();
+
+            try {
+                list.add(index, element);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        public Integer remove(final int index) {
+            final long stamp = lock.writeLock();
+
+            try {
+                return list.remove(index);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        public void iterate(final Blackhole bh) {
+            final long stamp = lock.readLock();
+
+            try {
+                for (final Integer element : list) {
+                    bh.consume(element);
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    /** Returns a factory for the list implementation with the given name.
+     * @param listType name of the list implementation
+     * @return list factory
+     */
+    static <E> Supplier<List<E>> createList(final String listType) {
+        switch (listType) {
+            case "ArrayList":
+                return ArrayList::new;
+
+            case "LinkedList":
+                return LinkedList::new;
+
+            case "TreeList":
+                return TreeList::new;
+
+            case "UnrolledLinkedList":
+                return UnrolledLinkedList::new;
+
+            case "GapBufferList":
+                return GapBufferList::new;
+
+            case "IndexedLinkedList":
+                return IndexedLinkedList::new;
+
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown list type: " + listType);
+        }
+    }
+
+    /** Wraps {@code list} into the guard with the given name.
+     * @param guard name of the guard
+     * @param list list to guard
+     * @return guarded list
+     */
+    static GuardedList createGuardedList(final String guard,
+                                         final List<Integer> list) {
+        switch (guard) {
+            case "synchronized":
+                return new SynchronizedGuardedList(list);
+
+            case "readWriteLock":
+                return new ReadWriteLockGuardedList(list);
+
+            case "reentrantLock":
+                return new ReentrantLockGuardedList(list);
+
+            case "stampedLock":
+                return new StampedLockGuardedList(list);
+
+            default:
+                throw new IllegalArgumentException("Unknown guard: " + guard);
+        }
+    }
+
+    /** Inserts an element at a random index and then removes an element at a
+     * random index. Every writer adds before it removes, so the shared list
+     * never shrinks below its initial size and the indices can be drawn from
+     * that size without holding a lock across both operations.
+     * @param state shared list state
+     * @param random random index source
+     * @return the removed element
+     */
+    private static Integer addAndRemove(final SharedListState state,
+                                        final Random random) {
+        final GuardedList list = state.getList();
+        final int size = state.getSize();
+        list.add(random.nextInt(size + 1), size);
+        return list.remove(random.nextInt(size));
+    }
+
+    @Benchmark
+    @Group("get")
+    @GroupThreads(3)
+    public Integer getReader(final SharedListState state,
+            final ThreadRandomState threadState) {
+        return state.getList()
+                    .get(threadState.getRandom().nextInt(state.getSize()));
+    }
+
+    @Benchmark
+    @Group("get")
+    @GroupThreads(1)
+    public Integer getWriter(final SharedListState state,
+            final ThreadRandomState threadState) {
+        return addAndRemove(state, threadState.getRandom());
+    }
+
+    @Benchmark
+    @Group("iterate")
+    @GroupThreads(3)
+    public void iterateReader(final SharedListState state,
+            final Blackhole bh) {
+        state.getList().iterate(bh);
+    }
+
+    @Benchmark
+    @Group("iterate")
+    @GroupThreads(1)
+    public Integer iterateWriter(final SharedListState state,
+            final ThreadRandomState threadState) {
+        return addAndRemove(state, threadState.getRandom());
+    }
+
+    /** Runs both groups for every reader/writer ratio in
+     * {@link #READER_WRITER_RATIOS} at 2, 4, 8, ... threads up to the number
+     * of available processors, and prints the reader and writer throughput of
+     * each run. A group needs at least one reader and one writer, so the
+     * sweep starts at two threads. At low thread counts several ratios round
+     * to the same split of readers and writers; each split runs only once,
+     * and the actual split is printed rather than the nominal ratio.
+     */
+    public static void main(String[] args) throws Exception {
+        final int cores = Runtime.getRuntime().availableProcessors();
+        final List<Integer> threadCounts = new ArrayList<>();
+
+        for (int threads = 2; threads < cores; threads *= 2) {
+            threadCounts.add(threads);
+        }
+
+        threadCounts.add(Math.max(2, cores));
+
+        final Set<String> splits = new HashSet<>();
+
+        System.out.printf("| %-7s | %-8s | %-17s | %-13s | %6s | %12s | %12s |\n",
+                          "R:W",
+                          "Threads",
+                          "List",
+                          "Guard",
+                          "Group",
+                          "Reads/ms",
+                          "Writes/ms");
+
+        for (final int[] ratio : READER_WRITER_RATIOS) {
+            for (final int threads : threadCounts) {
+                final int writers =
+                        Math.max(1, threads * ratio[1] / (ratio[0] + ratio[1]));
+
+                final int readers = Math.max(1, threads - writers);
+
+                if (!splits.add(readers + ":" + writers)) {
+                    continue;
+                }
+
+                final Options opt = new OptionsBuilder()
+                        .include(IndexedLinkedListConcurrencyPerformance
+                                .class.getSimpleName())
+                        .threadGroups(readers, writers)
+                        .measurementTime(TimeValue.seconds(1L))
+                        .build();
+
+                printResults(readers, writers, new Runner(opt).run());
+            }
+        }
+    }
+
+    private static void printResults(final int readers,
+                                     final int writers,
+                                     final Collection<RunResult> runResults) {
+        for (final RunResult runResult : runResults) {
+            final BenchmarkParams params = runResult.getParams();
+            final String group = runResult.getPrimaryResult().getLabel();
+            double reads = 0.0;
+            double writes = 0.0;
+
+            for (final String label :
+                    runResult.getSecondaryResults().keySet()) {
+                final double score =
+                        runResult.getSecondaryResults().get(label).getScore();
+
+                if (label.endsWith("Reader")) {
+                    reads += score;
+                } else if (label.endsWith("Writer")) {
+                    writes += score;
+                }
+            }
+
+            System.out.printf("| %7s | %8d | %17s | %13s | %6s | %12.3f | %12.3f |\n",
+                              readers + ":" + writers,
+                              readers + writers,
+                              params.getParam("listType"),
+                              params.getParam("guard"),
+                              group,
+                              reads,
+                              writes);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.coderodde;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Editor-like workload: runs of insertions and deletions at a cursor that
+ * moves by at most {@code k} positions between runs. Each invocation performs
+ * {@link #RUNS} runs of {@link #RUN_LENGTH} single-element edits. An insertion
+ * run types elements at the cursor, advancing it, and a deletion run removes
+ * the elements before the cursor like a backspace. A run is an insertion run
+ * with a probability falling linearly with the list length, so the list keeps
+ * close to {@code size} elements over the trial without being refilled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx2G"})
+public class IndexedLinkedListCursorPerformance {
+
+    /** Single object used as a list element. */
+    private static final Object ELEMENT = new Object();
+
+    /** The number of edit runs per benchmark invocation. */
+    static final int RUNS = 100;
+
+    /** The number of single-element edits in a run. */
+    static final int RUN_LENGTH = 32;
+
+    /** Cursor workload state. */
+    @State(Scope.Thread)
+    public static class CursorState {
+
+        /** The number of elements the list keeps close to. */
+        @Param({"10000", "100000", "1000000"})
+        private int size;
+
+        /** The maximum cursor move between two runs. */
+        @Param({"1", "64", "4096"})
+        private int k;
+
+        /** The list implementation under test. */
+        @Param({"ArrayList", "IndexedLinkedList", "GapBufferList"})
+        private String listType;
+
+        /** Seed for random number generation. */
+        @Param({"1"})
+        private long seed;
+
+        private UniformRandomProvider rng;
+        private List<Object> list;
+        private int cursor;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            rng = RandomSource.XO_RO_SHI_RO_128_PP.create(seed);
+            list = IndexedLinkedListConcurrencyPerformance
+                    .<Object>createList(listType)
+                    .get();
+
+            for (int i = 0; i < size; ++i) {
+                list.add(ELEMENT);
+            }
+
+            cursor = size / 2;
+        }
+
+        /** Moves the cursor by a uniformly drawn step within {@code [-k, k]},
+         * clamped to the list.
+         * @return the new cursor position
+         */
+        public int moveCursor() {
+            final int step = rng.nextInt(2 * k + 1) - k;
+            cursor = Math.max(0, Math.min(list.size(), cursor + step));
+            return cursor;
+        }
+
+        /** Decides whether the next run inserts or deletes.
+         * @return {@code true} for an insertion run
+         */
+        public boolean nextRunInserts() {
+            return rng.nextInt(2 * size) >= list.size();
+        }
+
+        public void setCursor(final int cursor) {
+            this.cursor = cursor;
+        }
+
+        public List<Object> getList() {
+            return list;
+        }
+    }
+
+    @Benchmark
+    public List<Object> cursorEdits(final CursorState state) {
+        final List<Object> list = state.getList();
+
+        for (int run = 0; run < RUNS; ++run) {
+            int cursor = state.moveCursor();
+
+            if (state.nextRunInserts()) {
+                for (int i = 0; i < RUN_LENGTH; ++i) {
+                    list.add(cursor++, ELEMENT);
+                }
+            } else {
+                for (int i = 0; i < RUN_LENGTH && cursor > 0; ++i) {
+                    list.remove(--cursor);
+                }
+            }
+
+            state.setCursor(cursor);
+        }
+
+        return list;
+    }
+}
@@ -0,0 +1,248 @@
+package com.coderodde;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.coderodde.util.IndexedLinkedList;
+
+/**
+ * Steady-state deque workloads. Every benchmark operation offers one element
+ * and polls one element, so the deque keeps its initial length, and every
+ * {@value #PEEK_INTERVAL}th operation also peeks at a random position.
+ * Deques that are also lists peek with {@code get(int)}, the others walk
+ * their iterator, which is the price of using a plain deque as an indexable
+ * job queue.
+ * <ul>
+ * <li>{@code fifo}: offer at the tail, poll at the head.</li>
+ * <li>{@code lifo}: offer and poll at the tail.</li>
+ * <li>{@code workStealing}: the owner pushes and pops at the tail, and every
+ * {@value #STEAL_INTERVAL}th pop is a steal from the head.</li>
+ * </ul>
+ * The work-stealing mix runs on a single thread, so it measures the access
+ * pattern and not the contention.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx2G"})
+public class IndexedLinkedListDequePerformance {
+
+    /** Every this many operations also peek at a random position. */
+    static final int PEEK_INTERVAL = 64;
+
+    /** Every this many pops of the work-stealing mix are steals. */
+    static final int STEAL_INTERVAL = 8;
+
+    /** Single object used as a deque element. */
+    private static final Integer ELEMENT = 13;
+
+    /** Deque benchmark state. */
+    @State(Scope.Thread)
+    public static class DequeState {
+
+        /** The steady-state number of elements in the deque. */
+        @Param({"100", "10000", "1000000"})
+        private int size;
+
+        /** The deque implementation under test. */
+        @Param({
+            "ArrayDeque",
+            "LinkedList",
+            "ConcurrentLinkedDeque",
+            "IndexedLinkedList",
+        })
+        private String dequeType;
+
+        private final Random random = new Random(13L);
+        private Deque<Integer> deque;
+        private int operation;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            deque = createDeque(dequeType).get();
+
+            for (int i = 0; i < size; ++i) {
+                deque.addLast(i);
+            }
+        }
+
+        public Deque<Integer> getDeque() {
+            return deque;
+        }
+
+        /** Returns the number of operations performed so far and counts one
+         * more.
+         * @return operation number
+         */
+        public int nextOperation() {
+            return operation++;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public Random getRandom() {
+            return random;
+        }
+    }
+
+    /** Returns a factory for the deque implementation with the given name.
+     * @param dequeType name of the deque implementation
+     * @return deque factory
+     */
+    static Supplier<Deque<Integer>> createDeque(final String dequeType) {
+        switch (dequeType) {
+            case "ArrayDeque":
+                return ArrayDeque::new;
+
+            case "LinkedList":
+                return LinkedList::new;
+
+            case "ConcurrentLinkedDeque":
+                return ConcurrentLinkedDeque::new;
+
+            case "IndexedLinkedList":
+                return IndexedLinkedList::new;
+
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown deque type: " + dequeType);
+        }
+    }
+
+    /** Peeks at a random position every {@link #PEEK_INTERVAL} operations.
+     * @param state deque state
+     * @param operation number of the current operation
+     * @param bh black hole instance
+     */
+    private static void maybePeek(final DequeState state,
+                                  final int operation,
+                                  final Blackhole bh) {
+        if (operation % PEEK_INTERVAL != 0) {
+            return;
+        }
+
+        final Deque<Integer> deque = state.getDeque();
+        final int index = state.getRandom().nextInt(state.getSize());
+
+        if (deque instanceof List) {
+            bh.consume(((List<Integer>) deque).get(index));
+        } else {
+            final Iterator<Integer> iterator = deque.iterator();
+
+            for (int i = 0; i < index; ++i) {
+                iterator.next();
+            }
+
+            bh.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public Integer fifo(final DequeState state, final Blackhole bh) {
+        final Deque<Integer> deque = state.getDeque();
+        deque.offerLast(ELEMENT);
+        maybePeek(state, state.nextOperation(), bh);
+        return deque.pollFirst();
+    }
+
+    @Benchmark
+    public Integer lifo(final DequeState state, final Blackhole bh) {
+        final Deque<Integer> deque = state.getDeque();
+        deque.offerLast(ELEMENT);
+        maybePeek(state, state.nextOperation(), bh);
+        return deque.pollLast();
+    }
+
+    @Benchmark
+    public Integer workStealing(final DequeState state, final Blackhole bh) {
+        final Deque<Integer> deque = state.getDeque();
+        final int operation = state.nextOperation();
+        deque.offerLast(ELEMENT);
+        maybePeek(state, operation, bh);
+
+        return operation % STEAL_INTERVAL == 0
+                ? deque.pollFirst()
+                : deque.pollLast();
+    }
+
+    /** Runs the deque suite and prints the throughput and the allocation per
+     * operation of every workload.
+     */
+    public static void main(String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                .include("\\."
+                       + IndexedLinkedListDequePerformance.class.getSimpleName()
+                       + "\\.")
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        final List<RunResult> runResults =
+                new ArrayList<>(new Runner(opt).run());
+
+        printResults(runResults);
+    }
+
+    private static void printResults(final Collection<RunResult> runResults) {
+        final List<RunResult> sortedResults = new ArrayList<>(runResults);
+
+        sortedResults.sort(
+                Comparator.comparing((RunResult rr) ->
+                                rr.getPrimaryResult().getLabel())
+                          .thenComparingInt(rr ->
+                                Integer.parseInt(
+                                        rr.getParams().getParam("size")))
+                          .thenComparing(rr ->
+                                rr.getParams().getParam("dequeType")));
+
+        System.out.printf("| %12s | %21s | %8s | %12s | %8s |\n",
+                          "Workload",
+                          "Deque",
+                          "Size",
+                          "ops/ms",
+                          "B/op");
+
+        for (final RunResult rr : sortedResults) {
+            System.out.printf("| %12s | %21s | %8s | %12.1f | %8.1f |\n",
+                              rr.getPrimaryResult().getLabel(),
+                              rr.getParams().getParam("dequeType"),
+                              rr.getParams().getParam("size"),
+                              rr.getPrimaryResult().getScore(),
+                              IndexedLinkedListPerformance.getSecondaryScore(
+                                      rr,
+                                      IndexedLinkedListPerformance
+                                              .GC_ALLOC_RATE_NORM));
+        }
+    }
+}
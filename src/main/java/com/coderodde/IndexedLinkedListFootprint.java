@@ -0,0 +1,160 @@
+package com.coderodde;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.apache.commons.collections4.list.TreeList;
+
+import com.github.coderodde.util.IndexedLinkedList;
+
+/**
+ * Measures the retained heap footprint per element of the benchmarked list
+ * implementations. Each list is populated the same way as the
+ * {@code *StateGet} states of {@link IndexedLinkedListPerformance}, and its
+ * footprint is the growth of the used heap across building it, with garbage
+ * collections forced before both readings. Small lists are built in several
+ * copies so that the heap delta stays well above the noise of the heap
+ * usage readings. The boxed {@code Integer} elements are retained by the
+ * lists and are counted in.
+ * <p>
+ * Run with a heap large enough for the biggest size, for example
+ * {@code -Xms7G -Xmx7G}. Sizes may be given as arguments and default to 1K
+ * through 10M elements.
+ */
+public final class IndexedLinkedListFootprint {
+
+    private static final int[] DEFAULT_SIZES = {
+        1_000,
+        10_000,
+        100_000,
+        1_000_000,
+        10_000_000,
+    };
+
+    /** Lists smaller than this are measured in several copies. */
+    private static final int MINIMUM_MEASURED_ELEMENTS = 1_000_000;
+
+    /** The maximum number of {@code System.gc()} calls per heap reading. */
+    private static final int MAXIMUM_GC_ROUNDS = 10;
+
+    private static final Map<String, IntFunction<Object>> CONTENDERS =
+            new LinkedHashMap<>();
+
+    static {
+        CONTENDERS.put("ArrayList", size ->
+                IndexedLinkedListPerformance.populate(new ArrayList<>(), size));
+
+        CONTENDERS.put("LinkedList", size ->
+                IndexedLinkedListPerformance.populate(new LinkedList<>(), size));
+
+        CONTENDERS.put("TreeList", size ->
+                IndexedLinkedListPerformance.populate(new TreeList<>(), size));
+
+        CONTENDERS.put("UnrolledList", size ->
+                IndexedLinkedListPerformance.populate(new UnrolledLinkedList<>(),
+                                                      size));
+
+        CONTENDERS.put("RoddeList", size ->
+                IndexedLinkedListPerformance.populate(new IndexedLinkedList<>(),
+                                                      size));
+
+        CONTENDERS.put("IntRoddeList", size ->
+                IndexedLinkedListPerformance.populate(new IntIndexedLinkedList(),
+                                                      size));
+    }
+
+    private IndexedLinkedListFootprint() {
+    }
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+
+        if (args.length > 0) {
+            sizes = new int[args.length];
+
+            for (int i = 0; i < args.length; ++i) {
+                sizes[i] = Integer.parseInt(args[i].replace("_", ""));
+            }
+        }
+
+        printFootprints(sizes);
+    }
+
+    /** Prints the retained bytes and bytes per element of every contender
+     * for each of the given sizes.
+     * @param sizes list sizes to measure
+     */
+    public static void printFootprints(int... sizes) {
+        System.out.printf("| %12s | %10s | %14s | %9s |\n",
+                          "List",
+                          "Size",
+                          "Retained B",
+                          "B/element");
+
+        // Load and warm up every contender so that class loading is not
+        // counted in the first measurement.
+        for (IntFunction<Object> builder : CONTENDERS.values()) {
+            builder.apply(1_000);
+        }
+
+        for (int size : sizes) {
+            for (Map.Entry<String, IntFunction<Object>> entry
+                    : CONTENDERS.entrySet()) {
+                long bytes = measureRetainedBytes(entry.getValue(), size);
+
+                System.out.printf("| %12s | %10d | %14d | %9.2f |\n",
+                                  entry.getKey(),
+                                  size,
+                                  bytes,
+                                  (double) bytes / size);
+            }
+        }
+    }
+
+    /** Returns the growth of the used heap caused by building and holding on
+     * to the structure returned by {@code builder}.
+     * @param builder builds the structure for a given size
+     * @param size size to pass to {@code builder}
+     * @return retained bytes of a single structure
+     */
+    static long measureRetainedBytes(IntFunction<Object> builder, int size) {
+        int copies = Math.max(1, MINIMUM_MEASURED_ELEMENTS / Math.max(1, size));
+        Object[] structures = new Object[copies];
+        long before = getUsedHeapAfterGc();
+
+        for (int i = 0; i < copies; ++i) {
+            structures[i] = builder.apply(size);
+        }
+
+        long after = getUsedHeapAfterGc();
+        Reference.reachabilityFence(structures);
+        return (after - before) / copies;
+    }
+
+    /** Forces garbage collections until the used heap stops shrinking and
+     * returns it.
+     */
+    private static long getUsedHeapAfterGc() {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+
+        for (int round = 0; round < MAXIMUM_GC_ROUNDS; ++round) {
+            System.gc();
+            long current = memoryBean.getHeapMemoryUsage().getUsed();
+
+            if (current >= used) {
+                break;
+            }
+
+            used = current;
+        }
+
+        return used;
+    }
+}
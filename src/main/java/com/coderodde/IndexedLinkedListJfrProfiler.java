@@ -0,0 +1,272 @@
+package com.coderodde;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.TextResult;
+import org.openjdk.jmh.runner.IterationType;
+
+/**
+ * Records the measurement iterations of every benchmark with Java Flight
+ * Recorder: execution samples, allocation samples and garbage collections.
+ * The recording of a benchmark is saved in the output directory as
+ * {@code <label>-<parameters>.jfr}, and the hottest methods and allocation
+ * sites of the benchmark thread are reported as the {@value #SUMMARY}
+ * secondary result.
+ * <p>
+ * JMH creates internal profilers in the JVM running the benchmark, which is
+ * a forked JVM unless the run has zero forks, so the recording always covers
+ * the benchmark code. When a benchmark runs in more than one fork, each fork
+ * saves its recording as {@code <label>-<parameters>-fork<N>.jfr}, taking the
+ * first number not yet used in the output directory, so the directory should
+ * be emptied between such runs.
+ */
+public final class IndexedLinkedListJfrProfiler implements InternalProfiler {
+
+    /** The label of the secondary result holding the summary. */
+    static final String SUMMARY = "jfr";
+
+    /** The output directory unless given in the profiler options. */
+    static final String DEFAULT_DIRECTORY = "jfr";
+
+    /** The number of methods and allocation sites in a summary. */
+    private static final int TOP_ENTRIES = 5;
+
+    /** The interval between two execution samples of a thread. */
+    private static final Duration SAMPLING_PERIOD = Duration.ofMillis(10);
+
+    /** JMH names the benchmark threads {@code <benchmark>-jmh-worker-N}. */
+    private static final String WORKER_THREAD_MARKER = "-jmh-worker-";
+
+    private final Path directory;
+    private Recording recording;
+    private int measurementIterations;
+
+    /**
+     * Constructs the profiler. JMH passes the text after the profiler name
+     * on the command line, which is taken as the output directory.
+     *
+     * @param initLine the output directory, or an empty string.
+     */
+    public IndexedLinkedListJfrProfiler(String initLine) {
+        this.directory = Paths.get(initLine == null || initLine.isBlank()
+                ? DEFAULT_DIRECTORY
+                : initLine.trim());
+    }
+
+    @Override
+    public String getDescription() {
+        return "Flight recording per benchmark with hot methods and "
+             + "allocation sites";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams,
+                                IterationParams iterationParams) {
+        if (iterationParams.getType() != IterationType.MEASUREMENT
+                || recording != null) {
+            return;
+        }
+
+        recording = new Recording();
+        recording.enable("jdk.ExecutionSample").withPeriod(SAMPLING_PERIOD);
+        recording.enable("jdk.ObjectAllocationSample");
+        recording.enable("jdk.GarbageCollection");
+        recording.enable("jdk.GCHeapSummary");
+        recording.start();
+        measurementIterations = 0;
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(
+            BenchmarkParams benchmarkParams,
+            IterationParams iterationParams,
+            IterationResult result) {
+        if (iterationParams.getType() != IterationType.MEASUREMENT
+                || ++measurementIterations < iterationParams.getCount()) {
+            return Collections.emptyList();
+        }
+
+        recording.stop();
+
+        try {
+            Files.createDirectories(directory);
+            Path file = createFile(benchmarkParams);
+            recording.dump(file);
+            return Collections.singletonList(
+                    new TextResult(summarize(file), SUMMARY));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * Returns the summary the profiler reported for a run, or {@code null} if
+     * the run was not profiled.
+     */
+    static String getSummary(RunResult runResult) {
+        Map<String, Result> secondaryResults = runResult.getSecondaryResults();
+        Result result = secondaryResults.get(SUMMARY);
+
+        if (result == null) {
+            result = secondaryResults.get("\u00b7" + SUMMARY);
+        }
+
+        return result == null ? null : result.extendedInfo();
+    }
+
+    /**
+     * Creates the file for the recording. A fork cannot tell its own index,
+     * so with several forks each one claims the first free fork number.
+     */
+    private Path createFile(BenchmarkParams benchmarkParams)
+            throws IOException {
+        String name = getFileName(benchmarkParams);
+
+        if (benchmarkParams.getForks()
+                + benchmarkParams.getWarmupForks() <= 1) {
+            return directory.resolve(name + ".jfr");
+        }
+
+        for (int fork = 1; ; ++fork) {
+            try {
+                return Files.createFile(
+                        directory.resolve(name + "-fork" + fork + ".jfr"));
+            } catch (FileAlreadyExistsException ex) {
+                // Taken by an earlier fork.
+            }
+        }
+    }
+
+    private static String getFileName(BenchmarkParams benchmarkParams) {
+        String benchmark = benchmarkParams.getBenchmark();
+        String label = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+        StringBuilder fileName = new StringBuilder(label);
+
+        for (String key : benchmarkParams.getParamsKeys()) {
+            fileName.append('-').append(benchmarkParams.getParam(key));
+        }
+
+        return fileName.toString();
+    }
+
+    /**
+     * Counts the execution samples of the benchmark threads by top frame and
+     * sums the sampled allocation weights by top frame and class.
+     */
+    private static String summarize(Path file) throws IOException {
+        Map<String, Long> methods = new HashMap<>();
+        Map<String, Long> allocationSites = new HashMap<>();
+        long samples = 0L;
+        long allocatedBytes = 0L;
+        long collections = 0L;
+
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            switch (event.getEventType().getName()) {
+                case "jdk.ExecutionSample":
+                    if (isWorker(event.getThread("sampledThread"))) {
+                        methods.merge(getTopFrame(event), 1L, Long::sum);
+                        ++samples;
+                    }
+
+                    break;
+
+                case "jdk.ObjectAllocationSample":
+                    if (isWorker(event.getThread("eventThread"))) {
+                        long weight = event.getLong("weight");
+                        String site = getTopFrame(event) + " ("
+                                + event.getClass("objectClass").getName()
+                                + ")";
+                        allocationSites.merge(site, weight, Long::sum);
+                        allocatedBytes += weight;
+                    }
+
+                    break;
+
+                case "jdk.GarbageCollection":
+                    ++collections;
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format(
+                "  Hot methods (%d execution samples):%n", samples));
+        appendTop(summary, methods, samples, "%5.1f%%");
+        summary.append(String.format(
+                "  Allocation sites (%.1f MB sampled, %d GCs):%n",
+                allocatedBytes / 1e6,
+                collections));
+        appendTop(summary, allocationSites, allocatedBytes, "%5.1f%%");
+        return summary.toString();
+    }
+
+    private static void appendTop(StringBuilder summary,
+                                  Map<String, Long> counts,
+                                  long total,
+                                  String shareFormat) {
+        List<Map.Entry<String, Long>> entries =
+                counts.entrySet()
+                      .stream()
+                      .sorted(Map.Entry.<String, Long>comparingByValue()
+                                       .reversed())
+                      .limit(TOP_ENTRIES)
+                      .toList();
+
+        for (Map.Entry<String, Long> entry : entries) {
+            summary.append("    ")
+                   .append(String.format(shareFormat,
+                                         100.0 * entry.getValue() / total))
+                   .append("  ")
+                   .append(entry.getKey())
+                   .append(System.lineSeparator());
+        }
+    }
+
+    private static boolean isWorker(RecordedThread thread) {
+        return thread != null
+                && thread.getJavaName() != null
+                && thread.getJavaName().contains(WORKER_THREAD_MARKER);
+    }
+
+    private static String getTopFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<unknown>";
+        }
+
+        RecordedFrame frame = stackTrace.getFrames().get(0);
+        return frame.getMethod().getType().getName() + "."
+             + frame.getMethod().getName();
+    }
+}
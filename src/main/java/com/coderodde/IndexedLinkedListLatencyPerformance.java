@@ -0,0 +1,113 @@
+package com.coderodde;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of single {@code add(int, E)}, {@code remove(int)} and
+ * {@code get(int)} calls at random indices, sampled per call with
+ * {@link Mode#SampleTime} so that the tail of the distribution, such as a
+ * finger rebalance or an array grow copy, shows up in the percentiles instead
+ * of being averaged away.
+ * <p>
+ * The index of every call is drawn before the call, and the list size is
+ * restored after every add and remove by removing or appending an element at
+ * the tail, outside of the measured call.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx2G"})
+public class IndexedLinkedListLatencyPerformance {
+
+    /** Single object used as a list element. */
+    private static final Integer ELEMENT = 13;
+
+    /** Latency benchmark state holding a populated list. */
+    @State(Scope.Thread)
+    public static class LatencyState {
+
+        /** The number of elements in the list. */
+        @Param({"1000", "100000", "1000000"})
+        private int size;
+
+        /** The list implementation under test. */
+        @Param({"ArrayList", "LinkedList", "TreeList", "IndexedLinkedList"})
+        private String listType;
+
+        private final Random random = new Random(13L);
+        private List<Integer> list;
+        private int index;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            list = IndexedLinkedListPerformance.populate(
+                    IndexedLinkedListConcurrencyPerformance
+                            .<Integer>createList(listType)
+                            .get(),
+                    size);
+        }
+
+        @Setup(Level.Invocation)
+        public void nextIndex() {
+            index = random.nextInt(list.size());
+        }
+
+        public List<Integer> getList() {
+            return list;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+    }
+
+    /** {@link LatencyState} that undoes every add. */
+    public static class AddLatencyState extends LatencyState {
+
+        @TearDown(Level.Invocation)
+        public void undoAdd() {
+            getList().remove(getList().size() - 1);
+        }
+    }
+
+    /** {@link LatencyState} that undoes every remove. */
+    public static class RemoveLatencyState extends LatencyState {
+
+        @TearDown(Level.Invocation)
+        public void undoRemove() {
+            getList().add(ELEMENT);
+        }
+    }
+
+    @Benchmark
+    public void add(final AddLatencyState state) {
+        state.getList().add(state.getIndex(), ELEMENT);
+    }
+
+    @Benchmark
+    public Integer remove(final RemoveLatencyState state) {
+        return state.getList().remove(state.getIndex());
+    }
+
+    @Benchmark
+    public Integer get(final LatencyState state) {
+        return state.getList().get(state.getIndex());
+    }
+}
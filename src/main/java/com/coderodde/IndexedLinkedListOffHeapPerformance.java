@@ -0,0 +1,380 @@
+package com.coderodde;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.coderodde.util.IndexedLinkedList;
+
+/**
+ * Get, add-at, remove-at and iterate scenarios over huge sequences of
+ * {@code int} values, comparing the heap-resident {@link IndexedLinkedList}
+ * of boxed values and {@link IntIndexedLinkedList} with the off-heap
+ * {@link OffHeapIntList}. Besides the operation scores, the suite runs a
+ * {@code System.gc()} with the list resident, so the cost of marking the
+ * list shows up as the score of {@code fullGc}, and {@link #main} reports the
+ * number and the time of the collections during every benchmark.
+ * <p>
+ * The add-at and remove-at scenarios undo their changes at the tail after
+ * every invocation, so the list keeps its length without a refill.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms8G", "-Xmx8G"})
+public class IndexedLinkedListOffHeapPerformance {
+
+    /** The number of operations per benchmark invocation. */
+    private static final int OPERATIONS = 1_000;
+
+    /** Minimal positional {@code int} sequence the contenders are driven
+     * through.
+     */
+    interface IntSequence extends AutoCloseable {
+        int size();
+        void add(int value);
+        void insertAt(int index, int value);
+        int get(int index);
+        int removeAt(int index);
+        PrimitiveIterator.OfInt iterator();
+
+        @Override
+        default void close() {
+        }
+    }
+
+    /** Off-heap benchmark state holding a populated sequence. */
+    @State(Scope.Thread)
+    public static class OffHeapState {
+
+        /** The number of values in the sequence. */
+        @Param({"1000000", "10000000", "50000000"})
+        private int size;
+
+        /** The sequence implementation under test. */
+        @Param({"IndexedLinkedList", "IntIndexedLinkedList", "OffHeapIntList"})
+        private String listType;
+
+        private final Random random = new Random(13L);
+        private IntSequence sequence;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            sequence = createSequence(listType);
+
+            for (int i = 0; i < size; ++i) {
+                sequence.add(i);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDownTrial() {
+            sequence.close();
+        }
+
+        public IntSequence getSequence() {
+            return sequence;
+        }
+
+        public Random getRandom() {
+            return random;
+        }
+    }
+
+    /** {@link OffHeapState} removing the values added by an invocation. */
+    public static class AddOffHeapState extends OffHeapState {
+
+        @TearDown(Level.Invocation)
+        public void undoAdds() {
+            for (int i = 0; i < OPERATIONS; ++i) {
+                getSequence().removeAt(getSequence().size() - 1);
+            }
+        }
+    }
+
+    /** {@link OffHeapState} restoring the values removed by an invocation. */
+    public static class RemoveOffHeapState extends OffHeapState {
+
+        @TearDown(Level.Invocation)
+        public void undoRemoves() {
+            for (int i = 0; i < OPERATIONS; ++i) {
+                getSequence().add(i);
+            }
+        }
+    }
+
+    /** Creates an empty sequence of the given implementation.
+     * @param listType name of the implementation
+     * @return empty sequence
+     */
+    static IntSequence createSequence(final String listType) {
+        switch (listType) {
+            case "IndexedLinkedList":
+                return new BoxedIntSequence(new IndexedLinkedList<>());
+
+            case "IntIndexedLinkedList":
+                return new IntIndexedLinkedListSequence();
+
+            case "OffHeapIntList":
+                return new OffHeapIntListSequence();
+
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown list type: " + listType);
+        }
+    }
+
+    private static final class BoxedIntSequence implements IntSequence {
+
+        private final List<Integer> list;
+
+        BoxedIntSequence(final List<Integer> list) {
+            this.list = list;
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public void add(final int value) {
+            list.add(value);
+        }
+
+        @Override
+        public void insertAt(final int index, final int value) {
+            list.add(index, value);
+        }
+
+        @Override
+        public int get(final int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public int removeAt(final int index) {
+            return list.remove(index);
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt iterator() {
+            final Iterator<Integer> iterator = list.iterator();
+
+            return new PrimitiveIterator.OfInt() {
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public int nextInt() {
+                    return iterator.next();
+                }
+            };
+        }
+    }
+
+    private static final class IntIndexedLinkedListSequence
+            implements IntSequence {
+
+        private final IntIndexedLinkedList list = new IntIndexedLinkedList();
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public void add(final int value) {
+            list.addInt(value);
+        }
+
+        @Override
+        public void insertAt(final int index, final int value) {
+            list.insertAt(index, value);
+        }
+
+        @Override
+        public int get(final int index) {
+            return list.getInt(index);
+        }
+
+        @Override
+        public int removeAt(final int index) {
+            return list.removeAt(index);
+        }
+
+        /** Walks the nodes in place through the list spliterator. */
+        @Override
+        public PrimitiveIterator.OfInt iterator() {
+            return Spliterators.iterator(list.spliterator());
+        }
+    }
+
+    private static final class OffHeapIntListSequence implements IntSequence {
+
+        private final OffHeapIntList list = new OffHeapIntList();
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public void add(final int value) {
+            list.addInt(value);
+        }
+
+        @Override
+        public void insertAt(final int index, final int value) {
+            list.insertAt(index, value);
+        }
+
+        @Override
+        public int get(final int index) {
+            return list.getInt(index);
+        }
+
+        @Override
+        public int removeAt(final int index) {
+            return list.removeAt(index);
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt iterator() {
+            return list.iterator();
+        }
+
+        @Override
+        public void close() {
+            list.close();
+        }
+    }
+
+    @Benchmark
+    public void get(final OffHeapState state, final Blackhole bh) {
+        final IntSequence sequence = state.getSequence();
+        final Random random = state.getRandom();
+
+        for (int i = 0; i < OPERATIONS; ++i) {
+            bh.consume(sequence.get(random.nextInt(sequence.size())));
+        }
+    }
+
+    @Benchmark
+    public void addAt(final AddOffHeapState state) {
+        final IntSequence sequence = state.getSequence();
+        final Random random = state.getRandom();
+
+        for (int i = 0; i < OPERATIONS; ++i) {
+            sequence.insertAt(random.nextInt(sequence.size() + 1), i);
+        }
+    }
+
+    @Benchmark
+    public void removeAt(final RemoveOffHeapState state, final Blackhole bh) {
+        final IntSequence sequence = state.getSequence();
+        final Random random = state.getRandom();
+
+        for (int i = 0; i < OPERATIONS; ++i) {
+            bh.consume(sequence.removeAt(random.nextInt(sequence.size())));
+        }
+    }
+
+    @Benchmark
+    public long iterate(final OffHeapState state) {
+        final PrimitiveIterator.OfInt iterator =
+                state.getSequence().iterator();
+        long sum = 0L;
+
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public IntSequence fullGc(final OffHeapState state) {
+        System.gc();
+        return state.getSequence();
+    }
+
+    /** Runs the off-heap suite with the GC profiler and prints the score,
+     * the collection count and the collection time of every benchmark.
+     */
+    public static void main(String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                .include("\\."
+                       + IndexedLinkedListOffHeapPerformance.class
+                                                            .getSimpleName()
+                       + "\\.")
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        printResults(new Runner(opt).run());
+    }
+
+    private static void printResults(final Collection<RunResult> runResults) {
+        final List<RunResult> sortedResults = new ArrayList<>(runResults);
+
+        sortedResults.sort(
+                Comparator.comparing((RunResult rr) ->
+                                rr.getPrimaryResult().getLabel())
+                          .thenComparingInt(rr ->
+                                IndexedLinkedListPerformance.getSize(rr))
+                          .thenComparing(rr ->
+                                rr.getParams().getParam("listType")));
+
+        System.out.printf("| %10s | %20s | %9s | %12s | %8s | %10s |\n",
+                          "Benchmark",
+                          "List",
+                          "Size",
+                          "ms/op",
+                          "GCs",
+                          "GC ms");
+
+        for (final RunResult rr : sortedResults) {
+            System.out.printf("| %10s | %20s | %9s | %12.3f | %8.0f | %10.0f |\n",
+                              rr.getPrimaryResult().getLabel(),
+                              rr.getParams().getParam("listType"),
+                              rr.getParams().getParam("size"),
+                              rr.getPrimaryResult().getScore(),
+                              IndexedLinkedListPerformance.getSecondaryScore(
+                                      rr,
+                                      IndexedLinkedListPerformance.GC_COUNT),
+                              IndexedLinkedListPerformance.getSecondaryScore(
+                                      rr,
+                                      IndexedLinkedListPerformance.GC_TIME));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.coderodde;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.coderodde.util.IndexedLinkedList;
+
+/**
+ * Read-mostly workloads on a list shared by all benchmark threads, comparing
+ * {@link ConcurrentIndexedList} with an {@link IndexedLinkedList} behind
+ * {@link Collections#synchronizedList(List)} and with
+ * {@link CopyOnWriteArrayList}. Every thread performs {@value #READS_PER_WRITE}
+ * reads per write on average, where a write is an {@code add(int, E)}
+ * followed by a {@code remove(int)}, so the list keeps its length.
+ * <ul>
+ * <li>{@code get}: a read is a {@code size()} and a {@code get(int)}.</li>
+ * <li>{@code iterate}: a read iterates the whole list, which is a snapshot
+ * for the concurrent lists and needs the list monitor for the synchronized
+ * wrapper.</li>
+ * </ul>
+ * {@link #main} reruns the suite at 1, 2, 4, ... threads up to the number of
+ * available processors.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx2G"})
+public class IndexedLinkedListOptimisticReadPerformance {
+
+    /** The average number of reads per write. */
+    static final int READS_PER_WRITE = 50;
+
+    /** Shared list benchmark state. */
+    @State(Scope.Benchmark)
+    public static class SharedListState {
+
+        /** The number of elements in the shared list. */
+        @Param({"10000", "100000"})
+        private int size;
+
+        /** The thread-safe list under test. */
+        @Param({
+            "synchronizedList",
+            "copyOnWriteArrayList",
+            "concurrentIndexedList",
+        })
+        private String listType;
+
+        private List<Integer> list;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            final List<Integer> elements =
+                    IndexedLinkedListPerformance.populate(
+                            new ArrayList<>(size),
+                            size);
+
+            switch (listType) {
+                case "synchronizedList":
+                    list = Collections.synchronizedList(
+                            new IndexedLinkedList<>(elements));
+                    break;
+
+                case "copyOnWriteArrayList":
+                    list = new CopyOnWriteArrayList<>(elements);
+                    break;
+
+                case "concurrentIndexedList":
+                    list = new ConcurrentIndexedList<>(
+                            new IndexedLinkedList<>(elements));
+                    break;
+
+                default:
+                    throw new IllegalArgumentException(
+                            "Unknown list type: " + listType);
+            }
+        }
+
+        public List<Integer> getList() {
+            return list;
+        }
+
+        public int getSize() {
+            return size;
+        }
+    }
+
+    /** Per-thread random source. */
+    @State(Scope.Thread)
+    public static class ThreadRandomState {
+
+        private final Random random =
+                new Random(Thread.currentThread().threadId());
+
+        public Random getRandom() {
+            return random;
+        }
+    }
+
+    /** Writes with a probability of {@code 1 / (READS_PER_WRITE + 1)}.
+     * @param state shared list state
+     * @param random random source of the calling thread
+     * @return {@code true} if a write was performed
+     */
+    private static boolean maybeWrite(final SharedListState state,
+                                      final Random random) {
+        if (random.nextInt(READS_PER_WRITE + 1) != 0) {
+            return false;
+        }
+
+        // Every writer adds before it removes, so the list never shrinks
+        // below its initial size and the indices can be drawn from it.
+        final List<Integer> list = state.getList();
+        final int size = state.getSize();
+        list.add(random.nextInt(size + 1), size);
+        list.remove(random.nextInt(size));
+        return true;
+    }
+
+    @Benchmark
+    public Integer get(final SharedListState state,
+                       final ThreadRandomState threadState) {
+        final Random random = threadState.getRandom();
+
+        if (maybeWrite(state, random)) {
+            return null;
+        }
+
+        final List<Integer> list = state.getList();
+        return list.get(random.nextInt(list.size()));
+    }
+
+    @Benchmark
+    public void iterate(final SharedListState state,
+                        final ThreadRandomState threadState,
+                        final Blackhole bh) {
+        if (maybeWrite(state, threadState.getRandom())) {
+            return;
+        }
+
+        final List<Integer> list = state.getList();
+
+        if (list instanceof ConcurrentIndexedList
+                || list instanceof CopyOnWriteArrayList) {
+            for (final Integer element : list) {
+                bh.consume(element);
+            }
+        } else {
+            synchronized (list) {
+                final Iterator<Integer> iterator = list.iterator();
+
+                while (iterator.hasNext()) {
+                    bh.consume(iterator.next());
+                }
+            }
+        }
+    }
+
+    /** Runs the suite at 1, 2, 4, ... threads up to the number of available
+     * processors and prints the throughput of every run.
+     */
+    public static void main(String[] args) throws Exception {
+        final int cores = Runtime.getRuntime().availableProcessors();
+        final List<Integer> threadCounts = new ArrayList<>();
+
+        for (int threads = 1; threads < cores; threads *= 2) {
+            threadCounts.add(threads);
+        }
+
+        threadCounts.add(cores);
+
+        System.out.printf("| %8s | %8s | %21s | %8s | %12s |\n",
+                          "Threads",
+                          "Workload",
+                          "List",
+                          "Size",
+                          "ops/ms");
+
+        for (final int threads : threadCounts) {
+            final Options opt = new OptionsBuilder()
+                    .include("\\."
+                           + IndexedLinkedListOptimisticReadPerformance.class
+                                                               .getSimpleName()
+                           + "\\.")
+                    .threads(threads)
+                    .build();
+
+            printResults(threads, new Runner(opt).run());
+        }
+    }
+
+    private static void printResults(final int threads,
+                                     final Collection<RunResult> runResults) {
+        for (final RunResult rr : runResults) {
+            System.out.printf("| %8d | %8s | %21s | %8s | %12.1f |\n",
+                              threads,
+                              rr.getPrimaryResult().getLabel(),
+                              rr.getParams().getParam("listType"),
+                              rr.getParams().getParam("size"),
+                              rr.getPrimaryResult().getScore());
+        }
+    }
+}
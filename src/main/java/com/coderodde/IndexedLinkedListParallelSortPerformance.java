@@ -0,0 +1,182 @@
+package com.coderodde;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Sorting {@code list.subList(10, size - 10)} of a shuffled list, as
+ * {@code profileSortRange} of {@link IndexedLinkedListPerformance} does,
+ * through the sequential {@link List#sort(java.util.Comparator)} path and
+ * through {@link ParallelListSort} on a {@link ForkJoinPool} of a given
+ * parallelism. The list is reshuffled before every invocation.
+ * <p>
+ * {@link #main} reruns {@code parallelSort} at a parallelism of 1, 2, 4, ...
+ * up to the number of available processors.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms4G", "-Xmx4G"})
+public class IndexedLinkedListParallelSortPerformance {
+
+    /** Sort benchmark state holding the list to sort. */
+    @State(Scope.Thread)
+    public static class SortState {
+
+        /** The number of elements in the list. */
+        @Param({"150000", "1000000", "10000000"})
+        private int size;
+
+        /** The list implementation under test. */
+        @Param({"ArrayList", "IndexedLinkedList"})
+        private String listType;
+
+        @Param("13")
+        private long seed;
+
+        private List<Integer> contentList;
+        private List<Integer> list;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            contentList = IndexedLinkedListPerformance.populate(
+                    new ArrayList<>(size),
+                    size);
+            Collections.shuffle(contentList, new Random(seed));
+            list = IndexedLinkedListConcurrencyPerformance
+                    .<Integer>createList(listType)
+                    .get();
+            list.addAll(contentList);
+        }
+
+        /** Restores the shuffled order without relinking the list. */
+        @Setup(Level.Invocation)
+        public void reshuffle() {
+            final ListIterator<Integer> iterator = list.listIterator();
+
+            for (final Integer element : contentList) {
+                iterator.next();
+                iterator.set(element);
+            }
+        }
+
+        public List<Integer> getRange() {
+            return list.subList(10, size - 10);
+        }
+    }
+
+    /** The pool {@code parallelSort} runs on. */
+    @State(Scope.Thread)
+    public static class PoolState {
+
+        /** The parallelism of the pool; 0 for all available processors. */
+        @Param("0")
+        private int parallelism;
+
+        private ForkJoinPool pool;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            pool = new ForkJoinPool(parallelism == 0
+                    ? Runtime.getRuntime().availableProcessors()
+                    : parallelism);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdown();
+        }
+
+        public ForkJoinPool getPool() {
+            return pool;
+        }
+    }
+
+    @Benchmark
+    public void listSort(final SortState state) {
+        state.getRange().sort(Integer::compare);
+    }
+
+    @Benchmark
+    public void parallelSort(final SortState state,
+                             final PoolState poolState) {
+        ParallelListSort.sort(state.getRange(),
+                              Integer::compare,
+                              poolState.getPool());
+    }
+
+    public static void main(String[] args) throws Exception {
+        final int cores = Runtime.getRuntime().availableProcessors();
+        final List<Integer> parallelisms = new ArrayList<>();
+
+        for (int parallelism = 1; parallelism < cores; parallelism *= 2) {
+            parallelisms.add(parallelism);
+        }
+
+        parallelisms.add(cores);
+
+        System.out.printf("| %12s | %17s | %8s | %11s | %10s |\n",
+                          "Sort",
+                          "List",
+                          "Size",
+                          "Parallelism",
+                          "ms/op");
+
+        final String prefix = "\\."
+                + IndexedLinkedListParallelSortPerformance.class
+                                                         .getSimpleName()
+                + "\\.";
+
+        printResults(new Runner(new OptionsBuilder()
+                .include(prefix + "listSort$")
+                .build()).run());
+
+        for (final int parallelism : parallelisms) {
+            final Options opt = new OptionsBuilder()
+                    .include(prefix + "parallelSort$")
+                    .param("parallelism", Integer.toString(parallelism))
+                    .build();
+
+            printResults(new Runner(opt).run());
+        }
+    }
+
+    private static void printResults(final Collection<RunResult> runResults) {
+        for (final RunResult rr : runResults) {
+            final String parallelism =
+                    rr.getParams().getParam("parallelism");
+
+            System.out.printf("| %12s | %17s | %8s | %11s | %10.3f |\n",
+                              rr.getPrimaryResult().getLabel(),
+                              rr.getParams().getParam("listType"),
+                              rr.getParams().getParam("size"),
+                              parallelism == null ? "1" : parallelism,
+                              rr.getPrimaryResult().getScore());
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.coderodde;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Parallel stream passes over a whole list, run on a {@link ForkJoinPool}
+ * of a given parallelism:
+ * <ul>
+ * <li>{@code sum}: {@code mapToLong(...).sum()}.</li>
+ * <li>{@code filterCount}: {@code filter(...).count()}.</li>
+ * <li>{@code collect}: {@code collect(Collectors.toList())}.</li>
+ * </ul>
+ * A list streams either through its own {@code parallelStream()}, which is
+ * the {@code default} spliterator, or through a {@link ListRangeSpliterator},
+ * the {@code range} spliterator. The {@code int*} benchmarks stream an
+ * {@link IntIndexedLinkedList} through its finger spliterator.
+ * <p>
+ * {@link #main} reruns the suite at a parallelism of 1, 2, 4, ... up to the
+ * number of available processors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms4G", "-Xmx4G"})
+public class IndexedLinkedListParallelStreamPerformance {
+
+    /** List stream benchmark state. */
+    @State(Scope.Thread)
+    public static class ListStreamState {
+
+        /** The number of elements in the list. */
+        @Param({"100000", "1000000"})
+        private int size;
+
+        /** The list implementation under test. */
+        @Param({"ArrayList", "LinkedList", "TreeList", "IndexedLinkedList"})
+        private String listType;
+
+        /** The spliterator the stream is built on. */
+        @Param({"default", "range"})
+        private String spliterator;
+
+        private List<Integer> list;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = IndexedLinkedListConcurrencyPerformance
+                    .<Integer>createList(listType)
+                    .get();
+            list.addAll(IndexedLinkedListPerformance.populate(
+                    new ArrayList<>(size),
+                    size));
+        }
+
+        public Stream<Integer> parallelStream() {
+            if (spliterator.equals("range")) {
+                return StreamSupport.stream(
+                        new ListRangeSpliterator<>(list),
+                        true);
+            }
+
+            return list.parallelStream();
+        }
+    }
+
+    /** {@link IntIndexedLinkedList} stream benchmark state. */
+    @State(Scope.Thread)
+    public static class IntStreamState {
+
+        /** The number of values in the list. */
+        @Param({"100000", "1000000"})
+        private int size;
+
+        private IntIndexedLinkedList list;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new IntIndexedLinkedList();
+
+            for (int i = 0; i < size; ++i) {
+                list.addInt(i);
+            }
+        }
+
+        public IntStream parallelStream() {
+            return list.parallelStream();
+        }
+    }
+
+    /** The pool the streams run on. */
+    @State(Scope.Thread)
+    public static class PoolState {
+
+        /** The parallelism of the pool; 0 for all available processors. */
+        @Param("0")
+        private int parallelism;
+
+        private ForkJoinPool pool;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            pool = new ForkJoinPool(parallelism == 0
+                    ? Runtime.getRuntime().availableProcessors()
+                    : parallelism);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdown();
+        }
+
+        /** Runs {@code task} in the pool, so that the parallel stream it
+         * builds forks its subtasks into the pool as well.
+         */
+        public <T> T run(final Callable<T> task) {
+            return pool.submit(task).join();
+        }
+    }
+
+    @Benchmark
+    public long sum(final ListStreamState state, final PoolState pool) {
+        return pool.run(() -> state.parallelStream()
+                                   .mapToLong(Integer::longValue)
+                                   .sum());
+    }
+
+    @Benchmark
+    public long filterCount(final ListStreamState state,
+                            final PoolState pool) {
+        return pool.run(() -> state.parallelStream()
+                                   .filter(i -> i % 3 == 0)
+                                   .count());
+    }
+
+    @Benchmark
+    public List<Integer> collect(final ListStreamState state,
+                                 final PoolState pool) {
+        return pool.run(() -> state.parallelStream()
+                                   .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public long intSum(final IntStreamState state, final PoolState pool) {
+        return pool.run(() -> state.parallelStream()
+                                   .asLongStream()
+                                   .sum());
+    }
+
+    @Benchmark
+    public long intFilterCount(final IntStreamState state,
+                               final PoolState pool) {
+        return pool.run(() -> state.parallelStream()
+                                   .filter(i -> i % 3 == 0)
+                                   .count());
+    }
+
+    @Benchmark
+    public List<Integer> intCollect(final IntStreamState state,
+                                    final PoolState pool) {
+        return pool.run(() -> state.parallelStream()
+                                   .boxed()
+                                   .collect(Collectors.toList()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        final int cores = Runtime.getRuntime().availableProcessors();
+        final List<Integer> parallelisms = new ArrayList<>();
+
+        for (int parallelism = 1; parallelism < cores; parallelism *= 2) {
+            parallelisms.add(parallelism);
+        }
+
+        parallelisms.add(cores);
+
+        System.out.printf("| %11s | %14s | %20s | %11s | %8s | %10s |\n",
+                          "Parallelism",
+                          "Pass",
+                          "List",
+                          "Spliterator",
+                          "Size",
+                          "ms/op");
+
+        for (final int parallelism : parallelisms) {
+            final Options opt = new OptionsBuilder()
+                    .include("\\."
+                           + IndexedLinkedListParallelStreamPerformance.class
+                                                               .getSimpleName()
+                           + "\\.")
+                    .param("parallelism", Integer.toString(parallelism))
+                    .build();
+
+            printResults(parallelism, new Runner(opt).run());
+        }
+    }
+
+    private static void printResults(final int parallelism,
+                                     final Collection<RunResult> runResults) {
+        for (final RunResult rr : runResults) {
+            final String listType = rr.getParams().getParam("listType");
+            final String spliterator =
+                    rr.getParams().getParam("spliterator");
+
+            System.out.printf("| %11d | %14s | %20s | %11s | %8s | %10.3f |\n",
+                              parallelism,
+                              rr.getPrimaryResult().getLabel(),
+                              listType == null
+                                      ? "IntIndexedLinkedList"
+                                      : listType,
+                              spliterator == null ? "finger" : spliterator,
+                              rr.getParams().getParam("size"),
+                              rr.getPrimaryResult().getScore());
+        }
+    }
+}
@@ -1,19 +1,24 @@
 package com.coderodde;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 import com.github.coderodde.util.IndexedLinkedList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.apache.commons.collections4.list.TreeList;
@@ -22,353 +27,522 @@ import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.results.Result;
 import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.runner.Runner;
-import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
-import org.openjdk.jmh.runner.options.TimeValue;
+import org.openjdk.jmh.util.Statistics;
 
 @State(Scope.Thread)
 public class IndexedLinkedListPerformance {
 
-    // Small data:
-//    private static final int ADD_FIRST_OPERATIONS           = 1_000;
-//    private static final int ADD_LAST_OPERATIONS            = 1_000;
-//    private static final int ADD_AT_OPERATIONS              = 1_000;
-//    private static final int ADD_COLLECTION_AT_OPERATIONS   = 1_000;
-//    private static final int ADD_COLLECTION_OPERATIONS      = 1_000;
-//    private static final int REMOVE_COLLECTION_SIZE         = 10_000;
-//    private static final int REMOVE_OBJECT_OPERATIONS       = 1_000;
-//    private static final int REMOVE_ALL_SIZE                = 10_000;
-//    private static final int REMOEVE_COLLECTION_CAPACITY    = 2_000;
-//    private static final int GET_SIZE                       = 10_000;
-//    private static final int GET_OPERATIONS                 = 1_000;
-//    private static final int CLEAR_LIST_SIZE                = 50_000;
-//    private static final int CLEAR_RANGE_SIZE               = 49_000;
-//    private static final int SORT_LIST_SIZE                 = 10_000;
-
-    // Medium size data:
-//    private static final int ADD_FIRST_OPERATIONS           = 3_000;
-//    private static final int ADD_LAST_OPERATIONS            = 3_000;
-//    private static final int ADD_AT_OPERATIONS              = 3_000;
-//    private static final int ADD_COLLECTION_AT_OPERATIONS   = 3_000;
-//    private static final int ADD_COLLECTION_OPERATIONS      = 3_000;
-//    private static final int REMOVE_COLLECTION_SIZE         = 30_000;
-//    private static final int REMOVE_OBJECT_OPERATIONS       = 3_000;
-//    private static final int REMOVE_ALL_SIZE                = 30_000;
-//    private static final int REMOEVE_COLLECTION_CAPACITY    = 6_000;
-//    private static final int GET_SIZE                       = 30_000;
-//    private static final int GET_OPERATIONS                 = 3_000;
-//    private static final int CLEAR_LIST_SIZE                = 100_000;
-//    private static final int CLEAR_RANGE_SIZE               = 99_000;
-//    private static final int SORT_LIST_SIZE                 = 50_000;
-    
-    // Larger data:
-    private static final int ADD_FIRST_OPERATIONS           = 5_000;
-    private static final int ADD_LAST_OPERATIONS            = 5_000;
-    private static final int ADD_AT_OPERATIONS              = 5_000;
-    private static final int ADD_COLLECTION_AT_OPERATIONS   = 5_000;
-    private static final int ADD_COLLECTION_OPERATIONS      = 5_000;
-    private static final int REMOVE_COLLECTION_SIZE         = 50_000;
-    private static final int REMOVE_OBJECT_OPERATIONS       = 5_000;
-    private static final int REMOVE_ALL_SIZE                = 50_000;
-    private static final int REMOEVE_COLLECTION_CAPACITY    = 10_000;
-    private static final int GET_SIZE                       = 50_000;
-    private static final int GET_OPERATIONS                 = 5_000;
-    private static final int CLEAR_LIST_SIZE                = 150_000;
-    private static final int CLEAR_RANGE_SIZE               = 149_000;
-    private static final int SORT_LIST_SIZE                 = 150_000;
+    // Operations per measured batch. The benchmarks that modify the list run 
+    // in single-shot mode, one operation per invocation and one batch per 
+    // iteration, so the list is refilled once per batch and no setup runs 
+    // between the timed calls. The list sizes come from the size parameter 
+    // of ListSizeState, so the scores are comparable across sizes.
+    private static final int ADD_FIRST_OPERATIONS           = 1_000;
+    private static final int ADD_LAST_OPERATIONS            = 1_000;
+    private static final int ADD_AT_OPERATIONS              = 1_000;
+    private static final int ADD_COLLECTION_AT_OPERATIONS   = 1_000;
+    private static final int ADD_COLLECTION_OPERATIONS      = 1_000;
+    private static final int REMOVE_AT_OPERATIONS           = 1_000;
+    private static final int REMOVE_FIRST_OPERATIONS        = 1_000;
+    private static final int REMOVE_LAST_OPERATIONS         = 1_000;
+    private static final int REMOVE_OBJECT_OPERATIONS       = 1_000;
+    private static final int REMOVE_ALL_OPERATIONS          = 1_000;
+    private static final int GET_OPERATIONS                 = 1_000;
+
+    // The smallest list size, ten removal batches, so that a batch takes at 
+    // most a tenth of the list and the list keeps its size over the batch.
+    private static final int MINIMUM_SIZE = 10 * REMOVE_ALL_OPERATIONS;
+
+    // Iterations of the single-shot benchmarks. A single shot is only one 
+    // batch, so it takes more of them to warm up and to estimate the error.
+    private static final int SINGLE_SHOT_WARMUP_ITERATIONS      = 10;
+    private static final int SINGLE_SHOT_MEASUREMENT_ITERATIONS = 5;
+
+    // Percentage of the list cleared by profileRemoveRange:
+    private static final int CLEAR_RANGE_PERCENTAGE = 99;
 
     private static final int MAXIMUM_INTEGER         = 1_000;
     private static final int MAXIMUM_COLLECTION_SIZE = 20;
 
     private static final long seed = System.currentTimeMillis();
 
+    private static final String SIZES_OPTION = "--sizes=";
+
+    private static final String HISTORY_OPTION = "--history=";
+
+    private static final String BASELINE_OPTION = "--baseline=";
+
+    private static final String JVMS_OPTION = "--jvms=";
+
+    private static final String NO_LATENCY_OPTION = "--no-latency";
+
+    private static final String PROFILE_OPTION = "--profile";
+
+    private static final String REPORT_OPTION = "--report";
+
+    /** 
+     * The JMH include pattern matching every benchmark of this class and of 
+     * {@link IndexedLinkedListPerformance2}, the two suites {@link #main} has 
+     * always run. The later suites run from their own {@code main} methods 
+     * or through {@code org.openjdk.jmh.Main}.
+     */
+    static final String BENCHMARK_INCLUDE = 
+            "\\.(" + IndexedLinkedListPerformance.class.getSimpleName() 
+          + "|" + IndexedLinkedListPerformance2.class.getSimpleName() 
+          + ")\\.";
+
+    // Secondary result keys reported by GCProfiler:
+    static final String GC_ALLOC_RATE_NORM = "gc.alloc.rate.norm";
+    static final String GC_COUNT           = "gc.count";
+    static final String GC_TIME            = "gc.time";
+
+    /**
+     * Base class of the benchmark states. The list size is a JMH parameter so 
+     * that a single run sweeps all sizes; {@link #main} fits the scores 
+     * against it.
+     */
+    public abstract static class ListSizeState {
+
+        /** The number of elements in the list before each iteration. */
+        @Param({"10000", "100000", "1000000", "5000000"})
+        public int size;
+    }
+
     //// State get /////////////////////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateGet {
+    public static class IndexedLinkedListStateGet extends ListSizeState {
         public List<Integer> list;
         public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
-            list = new IndexedLinkedList<>();
+            list = populate(new IndexedLinkedList<>(), size);
             random = new Random(seed);
-
-            for (int i = 0; i < GET_SIZE; ++i) {
-                list.add(i);
-            }
         }
     }
 
     @State(Scope.Benchmark)
-    public static class ArrayListStateGet {
+    public static class ArrayListStateGet extends ListSizeState {
         public List<Integer> list;
         public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
-            list = new ArrayList<>();
+            list = populate(new ArrayList<>(), size);
             random = new Random(seed);
-
-            for (int i = 0; i < GET_SIZE; ++i) {
-                list.add(i);
-            }
         }
     }
 
     @State(Scope.Benchmark)
-    public static class LinkedListStateGet {
+    public static class LinkedListStateGet extends ListSizeState {
         public List<Integer> list;
         public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
-            list = new LinkedList<>();
+            list = populate(new LinkedList<>(), size);
             random = new Random(seed);
+        }
+    }
 
-            for (int i = 0; i < GET_SIZE; ++i) {
-                list.add(i);
-            }
+    @State(Scope.Benchmark)
+    public static class TreeListStateGet extends ListSizeState {
+        public List<Integer> list;
+        public Random random;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = populate(new TreeList<>(), size);
+            random = new Random(seed);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class TreeListStateGet {
+    public static class UnrolledListStateGet extends ListSizeState {
         public List<Integer> list;
         public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
-            list = new TreeList<>();
+            list = populate(new UnrolledLinkedList<>(), size);
             random = new Random(seed);
+        }
+    }
 
-            for (int i = 0; i < GET_SIZE; ++i) {
-                list.add(i);
-            }
+    @State(Scope.Benchmark)
+    public static class IntIndexedLinkedListStateGet extends ListSizeState {
+        public IntIndexedLinkedList list;
+        public Random random;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = populate(new IntIndexedLinkedList(), size);
+            random = new Random(seed);
         }
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
-    //// State removeFirst /////////////////////////////////////////////////////
+    //// State add /////////////////////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateRemoveFirst {
+    public static class IndexedLinkedListStateAdd extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
+        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new IndexedLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            random = new Random(seed + 1);
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class ArrayListStateRemoveFirst {
+    public static class ArrayListStateAdd extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
+        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new ArrayList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            random = new Random(seed + 1);
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class LinkedListStateRemoveFirst {
+    public static class LinkedListStateAdd extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
+        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new LinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            random = new Random(seed + 1);
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class TreeListStateRemoveFirst {
+    public static class TreeListStateAdd extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
+        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new TreeList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            random = new Random(seed + 1);
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnrolledListStateAdd extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+        public Random random;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new UnrolledLinkedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            random = new Random(seed + 1);
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class IntIndexedLinkedListStateAdd extends ListSizeState {
+        public IntIndexedLinkedList list;
+        public int[] content;
+        public Random random;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new IntIndexedLinkedList();
+            content = toIntArray(populate(new ArrayList<>(size), size));
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            random = new Random(seed + 1);
+            list.clear();
+            list.addAllInts(content);
         }
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
-    //// State removeLast //////////////////////////////////////////////////////
+    //// State removeFirst /////////////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateRemoveLast {
+    public static class IndexedLinkedListStateRemoveFirst extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new IndexedLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class ArrayListStateRemoveLast {
+    public static class ArrayListStateRemoveFirst extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new ArrayList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class LinkedListStateRemoveLast {
+    public static class LinkedListStateRemoveFirst extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new LinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class TreeListStateRemoveLast {
+    public static class TreeListStateRemoveFirst extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new TreeList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnrolledListStateRemoveFirst extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new UnrolledLinkedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class IntIndexedLinkedListStateRemoveFirst extends ListSizeState {
+        public IntIndexedLinkedList list;
+        public int[] content;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new IntIndexedLinkedList();
+            content = toIntArray(populate(new ArrayList<>(size), size));
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAllInts(content);
         }
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
-    //// State removeAt ////////////////////////////////////////////////////////
+    //// State removeLast //////////////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateRemoveAt {
+    public static class IndexedLinkedListStateRemoveLast extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
-        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new IndexedLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class ArrayListStateRemoveAt {
+    public static class ArrayListStateRemoveLast extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
-        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new ArrayList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class LinkedListStateRemoveAt {
+    public static class LinkedListStateRemoveLast extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
-        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new LinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class TreeListStateRemoveAt {
+    public static class TreeListStateRemoveLast extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
-        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new TreeList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnrolledListStateRemoveLast extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new UnrolledLinkedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class IntIndexedLinkedListStateRemoveLast extends ListSizeState {
+        public IntIndexedLinkedList list;
+        public int[] content;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new IntIndexedLinkedList();
+            content = toIntArray(populate(new ArrayList<>(size), size));
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAllInts(content);
         }
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
-    //// State removeObject ////////////////////////////////////////////////////
+    //// State removeAt ////////////////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateRemoveObject {
+    public static class IndexedLinkedListStateRemoveAt extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
         public Random random;
@@ -376,17 +550,19 @@ public class IndexedLinkedListPerformance {
         @Setup(Level.Trial)
         public void setup() {
             list = new IndexedLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
+            contentList = populate(new ArrayList<>(size), size);
             random = new Random(seed);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class ArrayListStateRemoveObject {
+    public static class ArrayListStateRemoveAt extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
         public Random random;
@@ -394,17 +570,19 @@ public class IndexedLinkedListPerformance {
         @Setup(Level.Trial)
         public void setup() {
             list = new ArrayList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
+            contentList = populate(new ArrayList<>(size), size);
             random = new Random(seed);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class LinkedListStateRemoveObject {
+    public static class LinkedListStateRemoveAt extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
         public Random random;
@@ -412,17 +590,19 @@ public class IndexedLinkedListPerformance {
         @Setup(Level.Trial)
         public void setup() {
             list = new LinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
+            contentList = populate(new ArrayList<>(size), size);
             random = new Random(seed);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class TreeListStateRemoveObject {
+    public static class TreeListStateRemoveAt extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
         public Random random;
@@ -430,244 +610,530 @@ public class IndexedLinkedListPerformance {
         @Setup(Level.Trial)
         public void setup() {
             list = new TreeList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
+            contentList = populate(new ArrayList<>(size), size);
             random = new Random(seed);
+        }
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
-    ////////////////////////////////////////////////////////////////////////////
-
 
-    //// State removeRange /////////////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateRemoveRange {
+    public static class UnrolledListStateRemoveAt extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
+        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
-            list = new IndexedLinkedList<>();
-            contentList = new ArrayList<>(CLEAR_LIST_SIZE);
+            list = new UnrolledLinkedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+            random = new Random(seed);
+        }
 
-            for (int i = 0; i < CLEAR_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class ArrayListStateRemoveRange {
-        public List<Integer> list;
-        public List<Integer> contentList;
+    public static class IntIndexedLinkedListStateRemoveAt extends ListSizeState {
+        public IntIndexedLinkedList list;
+        public int[] content;
+        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
-            list = new ArrayList<>();
-            contentList = new ArrayList<>(CLEAR_LIST_SIZE);
+            list = new IntIndexedLinkedList();
+            content = toIntArray(populate(new ArrayList<>(size), size));
+            random = new Random(seed);
+        }
 
-            for (int i = 0; i < CLEAR_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAllInts(content);
         }
     }
+    ////////////////////////////////////////////////////////////////////////////
 
+
+    //// State removeObject ////////////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class LinkedListStateRemoveRange {
+    public static class IndexedLinkedListStateRemoveObject extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
+        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
-            list = new LinkedList<>();
-            contentList = new ArrayList<>(CLEAR_LIST_SIZE);
+            list = new IndexedLinkedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+            random = new Random(seed);
+        }
 
-            for (int i = 0; i < CLEAR_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class TreeListStateRemoveRange {
+    public static class ArrayListStateRemoveObject extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
+        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
-            list = new TreeList<>();
-            contentList = new ArrayList<>(CLEAR_LIST_SIZE);
+            list = new ArrayList<>();
+            contentList = populate(new ArrayList<>(size), size);
+            random = new Random(seed);
+        }
 
-            for (int i = 0; i < CLEAR_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
-    ////////////////////////////////////////////////////////////////////////////
-
 
-    //// State sortRange ///////////////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateSortRange {
+    public static class LinkedListStateRemoveObject extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
+        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
-            list = new IndexedLinkedList<>();
-            contentList = new ArrayList<>(SORT_LIST_SIZE);
-
-            for (int i = 0; i < SORT_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
+            list = new LinkedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+            random = new Random(seed);
+        }
 
-            Random random = new Random(seed + 3);
-            Collections.shuffle(contentList, random);
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class ArrayListStateSortRange {
+    public static class TreeListStateRemoveObject extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
+        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
-            list = new ArrayList<>();
-            contentList = new ArrayList<>(SORT_LIST_SIZE);
-
-            for (int i = 0; i < SORT_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
+            list = new TreeList<>();
+            contentList = populate(new ArrayList<>(size), size);
+            random = new Random(seed);
+        }
 
-            Random random = new Random(seed + 3);
-            Collections.shuffle(contentList, random);
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class LinkedListStateSortRange {
+    public static class UnrolledListStateRemoveObject extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
+        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
-            list = new LinkedList<>();
-            contentList = new ArrayList<>(SORT_LIST_SIZE);
-
-            for (int i = 0; i < SORT_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
+            list = new UnrolledLinkedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+            random = new Random(seed);
+        }
 
-            Random random = new Random(seed + 3);
-            Collections.shuffle(contentList, random);
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class TreeListStateSortRange {
+    public static class HashIndexedListStateRemoveObject extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
+        public Random random;
 
         @Setup(Level.Trial)
         public void setup() {
-            list = new TreeList<>();
-            contentList = new ArrayList<>(SORT_LIST_SIZE);
+            list = new HashIndexedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+            random = new Random(seed);
+        }
 
-            for (int i = 0; i < SORT_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
 
-            Random random = new Random(seed + 3);
-            Collections.shuffle(contentList, random);
+    @State(Scope.Benchmark)
+    public static class IntIndexedLinkedListStateRemoveObject extends ListSizeState {
+        public IntIndexedLinkedList list;
+        public int[] content;
+        public Random random;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new IntIndexedLinkedList();
+            content = toIntArray(populate(new ArrayList<>(size), size));
+            random = new Random(seed);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAllInts(content);
         }
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
-    //// State removeInCollection //////////////////////////////////////////////
+    //// State removeRange /////////////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateRemoveInCollection {
+    public static class IndexedLinkedListStateRemoveRange extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
-        public Set<Integer> set;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new IndexedLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_ALL_SIZE);
-            set = new HashSet<>();
-
-            for (int i = 0; i < REMOVE_ALL_SIZE; ++i) {
-                contentList.add(i);
-            }
-
-            Random random = new Random(seed + 3);
-
-            while (set.size() < REMOEVE_COLLECTION_CAPACITY) {
-                set.add(random.nextInt(contentList.size() + 100));
-            }
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            Collections.shuffle(contentList, random);
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class ArrayListStateRemoveInCollection {
+    public static class ArrayListStateRemoveRange extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
-        public Set<Integer> set;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new ArrayList<>();
-            contentList = new ArrayList<>(REMOVE_ALL_SIZE);
-            set = new HashSet<>();
-
-            for (int i = 0; i < REMOVE_ALL_SIZE; ++i) {
-                contentList.add(i);
-            }
-
-            Random random = new Random(seed + 3);
-
-            while (set.size() < REMOEVE_COLLECTION_CAPACITY) {
-                set.add(random.nextInt(contentList.size() + 100));
-            }
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            Collections.shuffle(contentList, random);
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
         }
     }
 
     @State(Scope.Benchmark)
-    public static class LinkedListStateRemoveInCollection {
+    public static class LinkedListStateRemoveRange extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
-        public Set<Integer> set;
 
         @Setup(Level.Trial)
         public void setup() {
             list = new LinkedList<>();
-            contentList = new ArrayList<>(REMOVE_ALL_SIZE);
-            set = new HashSet<>();
+            contentList = populate(new ArrayList<>(size), size);
+        }
 
-            for (int i = 0; i < REMOVE_ALL_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class TreeListStateRemoveRange extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new TreeList<>();
+            contentList = populate(new ArrayList<>(size), size);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnrolledListStateRemoveRange extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new UnrolledLinkedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class IntIndexedLinkedListStateRemoveRange extends ListSizeState {
+        public IntIndexedLinkedList list;
+        public int[] content;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new IntIndexedLinkedList();
+            content = toIntArray(populate(new ArrayList<>(size), size));
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAllInts(content);
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// State sortRange ///////////////////////////////////////////////////////
+    @State(Scope.Benchmark)
+    public static class IndexedLinkedListStateSortRange extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new IndexedLinkedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+
+            Random random = new Random(seed + 3);
+            Collections.shuffle(contentList, random);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ArrayListStateSortRange extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new ArrayList<>();
+            contentList = populate(new ArrayList<>(size), size);
+
+            Random random = new Random(seed + 3);
+            Collections.shuffle(contentList, random);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LinkedListStateSortRange extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new LinkedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+
+            Random random = new Random(seed + 3);
+            Collections.shuffle(contentList, random);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class TreeListStateSortRange extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new TreeList<>();
+            contentList = populate(new ArrayList<>(size), size);
+
+            Random random = new Random(seed + 3);
+            Collections.shuffle(contentList, random);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnrolledListStateSortRange extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new UnrolledLinkedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+
+            Random random = new Random(seed + 3);
+            Collections.shuffle(contentList, random);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class IntIndexedLinkedListStateSortRange extends ListSizeState {
+        public IntIndexedLinkedList list;
+        public int[] content;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new IntIndexedLinkedList();
+            List<Integer> contentList = populate(new ArrayList<>(size), size);
+
+            Random random = new Random(seed + 3);
+            Collections.shuffle(contentList, random);
+            content = toIntArray(contentList);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAllInts(content);
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// State removeInCollection //////////////////////////////////////////////
+    @State(Scope.Benchmark)
+    public static class IndexedLinkedListStateRemoveInCollection extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+        public Set<Integer> set;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new IndexedLinkedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+            set = new HashSet<>();
+
+            Random random = new Random(seed + 3);
+
+            while (set.size() < getRemoveAllVictims(size)) {
+                set.add(random.nextInt(contentList.size() + 100));
+            }
+
+            Collections.shuffle(contentList, random);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ArrayListStateRemoveInCollection extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+        public Set<Integer> set;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new ArrayList<>();
+            contentList = populate(new ArrayList<>(size), size);
+            set = new HashSet<>();
+
+            Random random = new Random(seed + 3);
+
+            while (set.size() < getRemoveAllVictims(size)) {
+                set.add(random.nextInt(contentList.size() + 100));
+            }
+
+            Collections.shuffle(contentList, random);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LinkedListStateRemoveInCollection extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+        public Set<Integer> set;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new LinkedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+            set = new HashSet<>();
 
             Random random = new Random(seed + 3);
 
-            while (set.size() < REMOEVE_COLLECTION_CAPACITY) {
+            while (set.size() < getRemoveAllVictims(size)) {
                 set.add(random.nextInt(contentList.size() + 100));
             }
 
             Collections.shuffle(contentList, random);
         }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
     }
 
     @State(Scope.Benchmark)
-    public static class TreeListStateRemoveInCollection {
+    public static class TreeListStateRemoveInCollection extends ListSizeState {
         public List<Integer> list;
         public List<Integer> contentList;
         public Set<Integer> set;
@@ -675,21 +1141,110 @@ public class IndexedLinkedListPerformance {
         @Setup(Level.Trial)
         public void setup() {
             list = new TreeList<>();
-            contentList = new ArrayList<>(REMOVE_ALL_SIZE);
+            contentList = populate(new ArrayList<>(size), size);
+            set = new HashSet<>();
+
+            Random random = new Random(seed + 3);
+
+            while (set.size() < getRemoveAllVictims(size)) {
+                set.add(random.nextInt(contentList.size() + 100));
+            }
+
+            Collections.shuffle(contentList, random);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnrolledListStateRemoveInCollection extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+        public Set<Integer> set;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new UnrolledLinkedList<>();
+            contentList = populate(new ArrayList<>(size), size);
             set = new HashSet<>();
 
-            for (int i = 0; i < REMOVE_ALL_SIZE; ++i) {
-                contentList.add(i);
+            Random random = new Random(seed + 3);
+
+            while (set.size() < getRemoveAllVictims(size)) {
+                set.add(random.nextInt(contentList.size() + 100));
             }
 
+            Collections.shuffle(contentList, random);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class HashIndexedListStateRemoveInCollection extends ListSizeState {
+        public List<Integer> list;
+        public List<Integer> contentList;
+        public Set<Integer> set;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new HashIndexedList<>();
+            contentList = populate(new ArrayList<>(size), size);
+            set = new HashSet<>();
+
             Random random = new Random(seed + 3);
 
-            while (set.size() < REMOEVE_COLLECTION_CAPACITY) {
+            while (set.size() < getRemoveAllVictims(size)) {
                 set.add(random.nextInt(contentList.size() + 100));
             }
 
             Collections.shuffle(contentList, random);
         }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAll(contentList);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class IntIndexedLinkedListStateRemoveInCollection extends ListSizeState {
+        public IntIndexedLinkedList list;
+        public int[] content;
+        public BitSet set;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new IntIndexedLinkedList();
+            List<Integer> contentList = populate(new ArrayList<>(size), size);
+            set = new BitSet(contentList.size() + 100);
+
+            Random random = new Random(seed + 3);
+
+            // The values removed are those of the boxed states, looked up 
+            // without boxing:
+            while (set.cardinality() < getRemoveAllVictims(size)) {
+                set.set(random.nextInt(contentList.size() + 100));
+            }
+
+            Collections.shuffle(contentList, random);
+            content = toIntArray(contentList);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            list.clear();
+            list.addAllInts(content);
+        }
     }
     ////////////////////////////////////////////////////////////////////////////
 
@@ -699,306 +1254,499 @@ public class IndexedLinkedListPerformance {
 
     //// profileAddFirst ///////////////////////////////////////////////////////
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_FIRST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_FIRST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileRoddeListAddFirst() {
-        profileAddFirst(new IndexedLinkedList<>(), ADD_FIRST_OPERATIONS);
+    public void profileRoddeListAddFirst(
+            IndexedLinkedListStateAdd state) {
+        profileAddFirst(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_FIRST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_FIRST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileLinkedListAddFirst() {
-        profileAddFirst(new LinkedList<>(), ADD_FIRST_OPERATIONS);
+    public void profileLinkedListAddFirst(
+            LinkedListStateAdd state) {
+        profileAddFirst(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_FIRST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_FIRST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileArrayListAddFirst() {
+    public void profileArrayListAddFirst(
+            ArrayListStateAdd state) {
 
-        profileAddFirst(new ArrayList<>(), ADD_FIRST_OPERATIONS);
+        profileAddFirst(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_FIRST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_FIRST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileTreeListAddFirst(
+            TreeListStateAdd state) {
+        profileAddFirst(state.list, state.random);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_FIRST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_FIRST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileUnrolledListAddFirst(
+            UnrolledListStateAdd state) {
+        profileAddFirst(state.list, state.random);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_FIRST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_FIRST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileTreeListAddFirst() {
-        profileAddFirst(new TreeList<>(), ADD_FIRST_OPERATIONS);
+    public void profileIntRoddeListAddFirst(
+            IntIndexedLinkedListStateAdd state) {
+        profileAddFirst(state.list, state.random);
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
     //// profileAddLast ////////////////////////////////////////////////////////
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_LAST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_LAST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileRoddeListAddLast() {
-        profileAddLast(new IndexedLinkedList<>(), ADD_LAST_OPERATIONS);
+    public void profileRoddeListAddLast(
+            IndexedLinkedListStateAdd state) {
+        profileAddLast(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_LAST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_LAST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileLinkedListAddLast() {
-        profileAddLast(new LinkedList<>(), ADD_LAST_OPERATIONS);
+    public void profileLinkedListAddLast(
+            LinkedListStateAdd state) {
+        profileAddLast(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_LAST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_LAST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileArrayListAddLast() {
-        profileAddLast(new ArrayList<>(), ADD_LAST_OPERATIONS);
+    public void profileArrayListAddLast(
+            ArrayListStateAdd state) {
+        profileAddLast(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_LAST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_LAST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileTreeListAddLast(
+            TreeListStateAdd state) {
+        profileAddLast(state.list, state.random);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_LAST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_LAST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileTreeListAddLast() {
-        profileAddLast(new TreeList<>(), ADD_LAST_OPERATIONS);
+    public void profileUnrolledListAddLast(
+            UnrolledListStateAdd state) {
+        profileAddLast(state.list, state.random);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_LAST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_LAST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileIntRoddeListAddLast(
+            IntIndexedLinkedListStateAdd state) {
+        profileAddLast(state.list, state.random);
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
     //// profileAddAtIndex ////////////////////////////////////////////////////////
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileRoddeListAddAtIndex() {
-        profileAddAtIndex(new IndexedLinkedList<>(), ADD_AT_OPERATIONS);
+    public void profileRoddeListAddAtIndex(
+            IndexedLinkedListStateAdd state) {
+        profileAddAtIndex(state.list, state.random);
+    }
 
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileLinkedListAddAtIndex(
+            LinkedListStateAdd state) {
+        profileAddAtIndex(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileLinkedListAddAtIndex() {
-        profileAddAtIndex(new LinkedList<>(), ADD_AT_OPERATIONS);
+    public void profileArrayListAddAtIndex(
+            ArrayListStateAdd state) {
+        profileAddAtIndex(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileArrayListAddAtIndex() {
-        profileAddAtIndex(new ArrayList<>(), ADD_AT_OPERATIONS);
+    public void profileTreeListAddAtIndex(
+            TreeListStateAdd state) {
+        profileAddAtIndex(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileUnrolledListAddAtIndex(
+            UnrolledListStateAdd state) {
+        profileAddAtIndex(state.list, state.random);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileTreeListAddAtIndex() {
-        profileAddAtIndex(new TreeList<>(), ADD_AT_OPERATIONS);
+    public void profileIntRoddeListAddAtIndex(
+            IntIndexedLinkedListStateAdd state) {
+        profileAddAtIndex(state.list, state.random);
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
     //// profileAddCollection //////////////////////////////////////////////////
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_COLLECTION_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_COLLECTION_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileRoddeListAddCollection() {
-        Random random = new Random(seed + 2);
-        profileAddCollection(new IndexedLinkedList<>(),
-                             ADD_COLLECTION_OPERATIONS, 
-                             random);
+    public void profileRoddeListAddCollection(
+            IndexedLinkedListStateAdd state) {
+        profileAddCollection(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_COLLECTION_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_COLLECTION_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileLinkedListAddCollection() {
-        Random random = new Random(seed + 2);
-        profileAddCollection(new LinkedList<>(),
-                             ADD_COLLECTION_OPERATIONS, 
-                             random);
+    public void profileLinkedListAddCollection(
+            LinkedListStateAdd state) {
+        profileAddCollection(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_COLLECTION_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_COLLECTION_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileArrayListAddCollection() {
-        Random random = new Random(seed + 2);
-        profileAddCollection(new ArrayList<>(),
-                             ADD_COLLECTION_OPERATIONS, 
-                             random);
+    public void profileArrayListAddCollection(
+            ArrayListStateAdd state) {
+        profileAddCollection(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_COLLECTION_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_COLLECTION_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileTreeListAddCollection(
+            TreeListStateAdd state) {
+        profileAddCollection(state.list, state.random);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_COLLECTION_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_COLLECTION_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileTreeListAddCollection() {
-        Random random = new Random(seed + 2);
-        profileAddCollection(new TreeList<>(),
-                             ADD_COLLECTION_OPERATIONS, 
-                             random);
+    public void profileUnrolledListAddCollection(
+            UnrolledListStateAdd state) {
+        profileAddCollection(state.list, state.random);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_COLLECTION_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_COLLECTION_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileIntRoddeListAddCollection(
+            IntIndexedLinkedListStateAdd state) {
+        profileAddCollection(state.list, state.random);
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
     //// profileAddCollectionAtIndex ///////////////////////////////////////////
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_COLLECTION_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_COLLECTION_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileRoddeListAddCollectionAtIndex() {
-        Random random = new Random(seed + 2);
-        profileAddCollectionAtIndex(new IndexedLinkedList<>(),
-                                    ADD_COLLECTION_AT_OPERATIONS, 
-                                    random);
+    public void profileRoddeListAddCollectionAtIndex(
+            IndexedLinkedListStateAdd state) {
+        profileAddCollectionAtIndex(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_COLLECTION_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_COLLECTION_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileLinkedListAddCollectionAtIndex() {
-        Random random = new Random(seed + 2);
-        profileAddCollectionAtIndex(new LinkedList<>(),
-                                    ADD_COLLECTION_AT_OPERATIONS, 
-                                    random);
+    public void profileLinkedListAddCollectionAtIndex(
+            LinkedListStateAdd state) {
+        profileAddCollectionAtIndex(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_COLLECTION_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_COLLECTION_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileArrayListAddCollectionAtIndex() {
-        Random random = new Random(seed + 2);
-        profileAddCollectionAtIndex(new ArrayList<>(),
-                                    ADD_COLLECTION_AT_OPERATIONS, 
-                                    random);
+    public void profileArrayListAddCollectionAtIndex(
+            ArrayListStateAdd state) {
+        profileAddCollectionAtIndex(state.list, state.random);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_COLLECTION_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_COLLECTION_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileTreeListAddCollectionAtIndex(
+            TreeListStateAdd state) {
+        profileAddCollectionAtIndex(state.list, state.random);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_COLLECTION_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_COLLECTION_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileUnrolledListAddCollectionAtIndex(
+            UnrolledListStateAdd state) {
+        profileAddCollectionAtIndex(state.list, state.random);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = ADD_COLLECTION_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = ADD_COLLECTION_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileTreeListAddCollectionAtIndex() {
-        Random random = new Random(seed + 2);
-        profileAddCollectionAtIndex(new TreeList<>(),
-                                    ADD_COLLECTION_AT_OPERATIONS, 
-                                    random);
+    public void profileIntRoddeListAddCollectionAtIndex(
+            IntIndexedLinkedListStateAdd state) {
+        profileAddCollectionAtIndex(state.list, state.random);
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
     //// profileRemoveAt ///////////////////////////////////////////////////////
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileRoddeListRemoveAtIndex(
             IndexedLinkedListStateRemoveAt state,
             Blackhole blackhole) {
 
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
         profileRemoveAt(state.list,
                         state.random,
                         blackhole);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileLinkedListRemoveAtIndex(LinkedListStateRemoveAt state,
                                                Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
         profileRemoveAt(state.list,
                         state.random,
                         blackhole);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileArrayListRemoveAtIndex(ArrayListStateRemoveAt state,
                                               Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
         profileRemoveAt(state.list,
                         state.random,
                         blackhole);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileTreeListRemoveAtIndex(TreeListStateRemoveAt state, 
                                              Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
+        profileRemoveAt(state.list,
+                        state.random,
+                        blackhole);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileUnrolledListRemoveAtIndex(UnrolledListStateRemoveAt state, 
+                                                 Blackhole blackhole) {
+        profileRemoveAt(state.list,
+                        state.random,
+                        blackhole);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_AT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_AT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileIntRoddeListRemoveAtIndex(
+            IntIndexedLinkedListStateRemoveAt state,
+            Blackhole blackhole) {
 
         profileRemoveAt(state.list,
                         state.random,
@@ -1009,116 +1757,163 @@ public class IndexedLinkedListPerformance {
 
     //// profileRemoveObject ///////////////////////////////////////////////////
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_OBJECT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_OBJECT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileRoddeListRemoveObject(
             IndexedLinkedListStateRemoveObject state,
             Blackhole blackhole) {
 
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveObject(state.list, state.random, blackhole);
+        profileRemoveObject(state.list, state.size, state.random, blackhole);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_OBJECT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_OBJECT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileLinkedListRemoveObject(LinkedListStateRemoveObject state,
                                               Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveObject(state.list, state.random, blackhole);
+        profileRemoveObject(state.list, state.size, state.random, blackhole);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_OBJECT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_OBJECT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileArrayListRemoveObject(ArrayListStateRemoveObject state,
                                              Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveObject(state.list, state.random, blackhole);
+        profileRemoveObject(state.list, state.size, state.random, blackhole);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_OBJECT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_OBJECT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileTreeListRemoveObject(TreeListStateRemoveObject state, 
                                             Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
+        profileRemoveObject(state.list, state.size, state.random, blackhole);
+    }
 
-        profileRemoveObject(state.list, state.random, blackhole);
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_OBJECT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_OBJECT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileUnrolledListRemoveObject(UnrolledListStateRemoveObject state, 
+                                                Blackhole blackhole) {
+        profileRemoveObject(state.list, state.size, state.random, blackhole);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_OBJECT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_OBJECT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileHashIndexedListRemoveObject(HashIndexedListStateRemoveObject state, 
+                                                   Blackhole blackhole) {
+        profileRemoveObject(state.list, state.size, state.random, blackhole);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_OBJECT_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_OBJECT_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileIntRoddeListRemoveObject(
+            IntIndexedLinkedListStateRemoveObject state,
+            Blackhole blackhole) {
+
+        profileRemoveObject(state.list, state.size, state.random, blackhole);
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
     //// profileRemoveObject ///////////////////////////////////////////////////
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileRoddeListRemoveRange(
             IndexedLinkedListStateRemoveRange state) {
 
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
         profileRemoveRange(state.list);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileLinkedListRemoveRange(LinkedListStateRemoveRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
         profileRemoveRange(state.list);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileArrayListRemoveRange(ArrayListStateRemoveRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
         profileRemoveRange(state.list);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileTreeListRemoveRange(TreeListStateRemoveRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
+        profileRemoveRange(state.list);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileUnrolledListRemoveRange(UnrolledListStateRemoveRange state) {
+        profileRemoveRange(state.list);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileIntRoddeListRemoveRange(
+            IntIndexedLinkedListStateRemoveRange state) {
 
         profileRemoveRange(state.list);
     }
@@ -1127,56 +1922,84 @@ public class IndexedLinkedListPerformance {
 
     //// profileRemoveFirst ////////////////////////////////////////////////////
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_FIRST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_FIRST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileRoddeListRemoveFirst(
             IndexedLinkedListStateRemoveFirst state,
             Blackhole blackhole) {
 
-        state.list.clear();
-        state.list.addAll(state.contentList);
         profileRemoveFirst(state.list, blackhole);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_FIRST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_FIRST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileLinkedListRemoveFirst(LinkedListStateRemoveFirst state,
                                               Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
         profileRemoveFirst(state.list, blackhole);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_FIRST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_FIRST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileArrayListRemoveFirst(ArrayListStateRemoveFirst state,
                                             Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
         profileRemoveFirst(state.list, blackhole);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_FIRST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_FIRST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileTreeListRemoveFirst(TreeListStateRemoveFirst state, 
                                            Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
+        profileRemoveFirst(state.list, blackhole);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_FIRST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_FIRST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileUnrolledListRemoveFirst(UnrolledListStateRemoveFirst state, 
+                                               Blackhole blackhole) {
+        profileRemoveFirst(state.list, blackhole);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_FIRST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_FIRST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileIntRoddeListRemoveFirst(
+            IntIndexedLinkedListStateRemoveFirst state,
+            Blackhole blackhole) {
+
         profileRemoveFirst(state.list, blackhole);
     }
     ////////////////////////////////////////////////////////////////////////////
@@ -1184,56 +2007,84 @@ public class IndexedLinkedListPerformance {
 
     //// profileRemoveLast /////////////////////////////////////////////////////
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_LAST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_LAST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileRoddeListRemoveLast(
             IndexedLinkedListStateRemoveLast state,
             Blackhole blackhole) {
 
-        state.list.clear();
-        state.list.addAll(state.contentList);
         profileRemoveLast(state.list, blackhole);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_LAST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_LAST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileLinkedListRemoveLast(LinkedListStateRemoveLast state,
                                             Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
         profileRemoveLast(state.list, blackhole);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_LAST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_LAST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileArrayListRemoveLast(ArrayListStateRemoveLast state,
                                            Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
         profileRemoveLast(state.list, blackhole);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_LAST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_LAST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileTreeListRemoveLast(TreeListStateRemoveLast state, 
+                                          Blackhole blackhole) {
+        profileRemoveLast(state.list, blackhole);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_LAST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_LAST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileUnrolledListRemoveLast(UnrolledListStateRemoveLast state, 
+                                              Blackhole blackhole) {
+        profileRemoveLast(state.list, blackhole);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS, 
+            batchSize = REMOVE_LAST_OPERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS, 
+                 batchSize = REMOVE_LAST_OPERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileTreeListRemoveLast(TreeListStateRemoveLast state, 
-                                          Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
+    public void profileIntRoddeListRemoveLast(
+            IntIndexedLinkedListStateRemoveLast state,
+            Blackhole blackhole) {
+
         profileRemoveLast(state.list, blackhole);
     }
     ////////////////////////////////////////////////////////////////////////////
@@ -1242,7 +2093,7 @@ public class IndexedLinkedListPerformance {
     //// profileGet ////////////////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
+    @Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 0)
@@ -1256,7 +2107,7 @@ public class IndexedLinkedListPerformance {
 
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
+    @Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
@@ -1270,7 +2121,7 @@ public class IndexedLinkedListPerformance {
 
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
+    @Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
@@ -1284,7 +2135,7 @@ public class IndexedLinkedListPerformance {
 
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
+    @Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
@@ -1293,56 +2144,93 @@ public class IndexedLinkedListPerformance {
 
         profileGet(state.list, GET_OPERATIONS, state.random, blackhole);
     }
-    ////////////////////////////////////////////////////////////////////////////
 
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileUnrolledListGet(UnrolledListStateGet state, 
+                                       Blackhole blackhole) {
+
+        profileGet(state.list, GET_OPERATIONS, state.random, blackhole);
+    }
 
-    //// profileSortRange //////////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
+    @Measurement(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileIntRoddeListGet(IntIndexedLinkedListStateGet state,
+                                       Blackhole blackhole) {
+
+        profileGet(state.list, GET_OPERATIONS, state.random, blackhole);
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileSortRange //////////////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 0)
     public void profileRoddeListSortRange(
             IndexedLinkedListStateSortRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
         profileSort(state.list);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileArrayListSortRange(ArrayListStateSortRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
         profileSort(state.list);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileLinkedListSortRange(LinkedListStateSortRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
         profileSort(state.list);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileTreeListSortRange(TreeListStateSortRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
+        profileSort(state.list);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileUnrolledListSortRange(UnrolledListStateSortRange state) {
+        profileSort(state.list);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileIntRoddeListSortRange(
+            IntIndexedLinkedListStateSortRange state) {
         profileSort(state.list);
     }
     ////////////////////////////////////////////////////////////////////////////
@@ -1350,207 +2238,660 @@ public class IndexedLinkedListPerformance {
 
     //// profileRemoveAll //////////////////////////////////////////////////////
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 0)
     public void profileRoddeListRemoveAll(
             IndexedLinkedListStateRemoveInCollection state) {
 
-        state.list.clear();
-        state.list.addAll(state.contentList);
         profileRemoveAll(state.list, state.set);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileArrayListRemoveAll(
             ArrayListStateRemoveInCollection state) {
 
-        state.list.clear();
-        state.list.addAll(state.contentList);
         profileRemoveAll(state.list, state.set);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileLinkedListRemoveAll(
             LinkedListStateRemoveInCollection state) {
 
-        state.list.clear();
-        state.list.addAll(state.contentList);
         profileRemoveAll(state.list, state.set);
     }
 
     @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
     public void profileTreeListRemoveAll(
             TreeListStateRemoveInCollection state) {
 
-        state.list.clear();
-        state.list.addAll(state.contentList);
+        profileRemoveAll(state.list, state.set);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileUnrolledListRemoveAll(
+            UnrolledListStateRemoveInCollection state) {
+
+        profileRemoveAll(state.list, state.set);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileHashIndexedListRemoveAll(
+            HashIndexedListStateRemoveInCollection state) {
+
+        profileRemoveAll(state.list, state.set);
+    }
+
+    @Benchmark
+    @Warmup(iterations = SINGLE_SHOT_WARMUP_ITERATIONS)
+    @Measurement(iterations = SINGLE_SHOT_MEASUREMENT_ITERATIONS)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileIntRoddeListRemoveAll(
+            IntIndexedLinkedListStateRemoveInCollection state) {
+
         profileRemoveAll(state.list, state.set);
     }
     ////////////////////////////////////////////////////////////////////////////
 
-    public static void main(String[] args) throws Exception {
-        Options opt = new OptionsBuilder()
+    /**
+     * Creates the options every benchmark of this class is run with. Only the
+     * {@code --sizes=} and {@code --profile} arguments are taken into 
+     * account; the caller adds the benchmarks to include. The iteration 
+     * counts come from the annotations of each benchmark, since the 
+     * single-shot benchmarks need more iterations than the timed ones.
+     */
+    static ChainedOptionsBuilder createOptions(String[] args) {
+        ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
                 .forks(0)
                 .warmupForks(0)
-                .warmupIterations(1)
-                .warmupTime(TimeValue.seconds(2L))
-                .measurementIterations(1)
-                .measurementTime(TimeValue.seconds(2L))
                 .jvmArgsPrepend("-server", "-Xms7G", "-Xmx7G")
                 .shouldDoGC(true)
                 .timeUnit(TimeUnit.MILLISECONDS)
                 .syncIterations(false)
-                .build();
+                .addProfiler(GCProfiler.class);
+
+        for (String arg : args) {
+            if (arg.startsWith(SIZES_OPTION)) {
+                optionsBuilder.param("size", parseSizes(arg));
+            } else if (arg.equals(PROFILE_OPTION)) {
+                optionsBuilder.addProfiler(
+                        IndexedLinkedListJfrProfiler.class,
+                        IndexedLinkedListJfrProfiler.DEFAULT_DIRECTORY);
+            } else if (arg.startsWith(PROFILE_OPTION + "=")) {
+                optionsBuilder.addProfiler(
+                        IndexedLinkedListJfrProfiler.class,
+                        arg.substring(PROFILE_OPTION.length() + 1));
+            }
+        }
 
-        System.out.println("--- Total running times:");
+        return optionsBuilder;
+    }
+
+    /**
+     * Runs all benchmarks of this class and of 
+     * {@link IndexedLinkedListPerformance2} over all list sizes and prints the
+     * scores, the totals per list family and size, and the empirical scaling 
+     * exponent of each benchmark. Pass {@code --sizes=10000,100000,...} to 
+     * override the list sizes, each at least {@link #MINIMUM_SIZE}, and 
+     * {@code --footprint} to also print the retained footprint of each list.
+     * <p>
+     * The results are appended to the result history 
+     * ({@code --history=FILE}, {@code results-history.tsv} by default). Pass 
+     * {@code --baseline=RUN} to compare this run against a recorded run and 
+     * flag the benchmarks that got significantly slower.
+     * <p>
+     * Pass {@code --jvms=K} to shard the benchmarks across {@code K} 
+     * concurrent child JVMs, see {@link IndexedLinkedListScheduler}.
+     * <p>
+     * Pass {@code --profile} or {@code --profile=DIR} to record every 
+     * benchmark with Java Flight Recorder into {@code DIR} ({@code jfr} by 
+     * default) and print its hottest methods and allocation sites next to its
+     * score, see {@link IndexedLinkedListJfrProfiler}.
+     * <p>
+     * Pass {@code --report} or {@code --report=DIR} to write all results as 
+     * JSON and as an HTML page with the speedups over {@code ArrayList} and 
+     * {@code IndexedLinkedList} into {@code DIR} ({@code report} by default),
+     * see {@link IndexedLinkedListReport}.
+     * <p>
+     * Afterwards the single-call latencies of 
+     * {@link IndexedLinkedListLatencyPerformance} are sampled over the same 
+     * sizes, those of {@code --sizes=} or else those of the benchmarks of 
+     * this class, and reported as percentiles, unless {@code --no-latency} is
+     * given.
+     */
+    public static void main(String[] args) throws Exception {
+        String historyFile = 
+                IndexedLinkedListResultHistory.DEFAULT_HISTORY_FILE;
+        String baselineRun = null;
+        String reportDirectory = null;
+        int jvms = 1;
+
+        for (String arg : args) {
+            if (arg.startsWith(HISTORY_OPTION)) {
+                historyFile = arg.substring(HISTORY_OPTION.length());
+            } else if (arg.startsWith(BASELINE_OPTION)) {
+                baselineRun = arg.substring(BASELINE_OPTION.length());
+            } else if (arg.startsWith(JVMS_OPTION)) {
+                jvms = Integer.parseInt(arg.substring(JVMS_OPTION.length()));
+            } else if (arg.equals(REPORT_OPTION)) {
+                reportDirectory = IndexedLinkedListReport.DEFAULT_DIRECTORY;
+            } else if (arg.startsWith(REPORT_OPTION + "=")) {
+                reportDirectory = arg.substring(REPORT_OPTION.length() + 1);
+            }
+        }
 
-        List<RunResult> runResults = new ArrayList<>(new Runner(opt).run());
-        
-        Map<String, Double> scoreMap = new HashMap<>();
+        List<RunResult> runResults;
         
-        for (RunResult runResult : runResults) {
-            scoreMap.put(runResult.getPrimaryResult().getLabel(), 
-                         runResult.getPrimaryResult().getScore());
+        if (jvms > 1) {
+            runResults = IndexedLinkedListScheduler.run(BENCHMARK_INCLUDE, 
+                                                        jvms, 
+                                                        args);
+        } else {
+            runResults = new ArrayList<>(
+                    new Runner(createOptions(args).include(BENCHMARK_INCLUDE)
+                                                  .build()).run());
         }
         
-        runResults.sort((r1, r2) -> {
-            String label1 = r1.getPrimaryResult().getLabel();
-            String label2 = r2.getPrimaryResult().getLabel();
-            
-            label1 = label1.replace("ArrayList",  "");
-            label1 = label1.replace("LinkedList", "");
-            label1 = label1.replace("RoddeList",  "");
-            label1 = label1.replace("TreeList",   "");
-            
-            label2 = label2.replace("ArrayList",  "");
-            label2 = label2.replace("LinkedList", "");
-            label2 = label2.replace("RoddeList",  "");
-            label2 = label2.replace("TreeList",   "");
-            
-            return label1.compareTo(label2);
-        });
+        runResults.sort(
+                Comparator.comparing((RunResult rr) -> 
+                                getScenario(rr.getPrimaryResult().getLabel()))
+                          .thenComparingInt(rr -> getSize(rr))
+                          .thenComparing(rr -> 
+                                rr.getPrimaryResult().getLabel()));
         
-        int index = 0;
+        String previousGroup = null;
+        int labelWidth = getLabelWidth(runResults);
         
-        System.out.println(
-                "|                                         |          |");
+        System.out.printf("| %" + labelWidth 
+                        + "s | %8s | %9s | %14s | %8s | %7s |\n",
+                          "Benchmark",
+                          "Size",
+                          "ms/op",
+                          "B/op",
+                          "GC count",
+                          "GC ms");
         
         for (RunResult rr : runResults) {
             Result result = rr.getPrimaryResult();
             String label = result.getLabel();
-            double score = scoreMap.get(label);
-            
-            System.out.printf("| %37s | %7.3f |\n", label, score);
+            String group = getScenario(label) + "@" + getSize(rr);
             
-            if (++index % 4 == 0) {
+            if (previousGroup != null && !previousGroup.equals(group)) {
                 System.out.println(
-                    "|                                         |         |");
-                
+                    "| " + " ".repeat(labelWidth) + " |          |"
+                  + "           |                |          |         |");
+            }
+            
+            previousGroup = group;
+            
+            System.out.printf(
+                    "| %" + labelWidth 
+                  + "s | %8d | %9.3f | %14.1f | %8.0f | %7.0f |\n",
+                    label,
+                    getSize(rr),
+                    result.getScore(),
+                    getSecondaryScore(rr, GC_ALLOC_RATE_NORM),
+                    getSecondaryScore(rr, GC_COUNT),
+                    getSecondaryScore(rr, GC_TIME));
+        }
+
+        System.out.println("--- Total running times (ms/op):");
+        printTotals(runResults, rr -> rr.getPrimaryResult().getScore());
+        System.out.println("--- Total allocations (B/op):");
+        printTotals(runResults, 
+                    rr -> getSecondaryScore(rr, GC_ALLOC_RATE_NORM));
+        System.out.println("--- Empirical scaling exponents (score ~ size^k):");
+        printScalingExponents(runResults);
+
+        if (runResults.stream()
+                      .anyMatch(rr -> 
+                              IndexedLinkedListJfrProfiler.getSummary(rr) 
+                                      != null)) {
+            System.out.println("--- Hot methods and allocation sites:");
+            printProfiles(runResults);
+        }
+
+        List<RunResult> recordedResults = new ArrayList<>(runResults);
+
+        if (!Arrays.asList(args).contains(NO_LATENCY_OPTION)) {
+            Collection<RunResult> latencyResults = new Runner(
+                    createOptions(args)
+                            .include("\\." 
+                                   + IndexedLinkedListLatencyPerformance.class
+                                                           .getSimpleName() 
+                                   + "\\.")
+                            .param("size", getSizes(args))
+                            .timeUnit(TimeUnit.NANOSECONDS)
+                            .build()).run();
+
+            System.out.println("--- Latency percentiles (ns/op):");
+            printLatencyPercentiles(latencyResults);
+            recordedResults.addAll(latencyResults);
+        }
+
+        IndexedLinkedListResultHistory history = 
+                new IndexedLinkedListResultHistory(Paths.get(historyFile));
+        
+        String run = history.append(recordedResults);
+        System.out.println("--- Recorded run " + run + " in " + historyFile);
+        
+        if (baselineRun != null) {
+            System.out.println("--- Comparison against run " + baselineRun 
+                             + ":");
+            IndexedLinkedListResultHistory.printComparisons(
+                    IndexedLinkedListResultHistory.compare(
+                            history.readRun(baselineRun),
+                            history.readRun(run),
+                            IndexedLinkedListResultHistory
+                                    .DEFAULT_CONFIDENCE));
+        }
+
+        if (reportDirectory != null) {
+            IndexedLinkedListReport.write(recordedResults, 
+                                          Paths.get(reportDirectory));
+            System.out.println("--- Wrote the report to " + reportDirectory);
+        }
+
+        if (Arrays.asList(args).contains("--footprint")) {
+            System.out.println("--- Retained footprint:");
+            IndexedLinkedListFootprint.main(new String[0]);
+        }
+    }
+
+    /**
+     * Returns the list sizes given with {@code --sizes=}, or else the default
+     * sizes of {@link ListSizeState}.
+     */
+    private static String[] getSizes(String[] args) 
+            throws ReflectiveOperationException {
+        for (String arg : args) {
+            if (arg.startsWith(SIZES_OPTION)) {
+                return parseSizes(arg);
             }
         }
 
-        printTotalDurations(runResults);
+        return ListSizeState.class.getField("size")
+                                  .getAnnotation(Param.class)
+                                  .value();
     }
 
-    private static void printTotalDurations(Collection<RunResult> runResults) {
-        Map<String, Double> map = new LinkedHashMap<>();
+    /**
+     * Returns the list sizes of a {@code --sizes=} argument. A size below 
+     * {@link #MINIMUM_SIZE} is rejected: the removal batches would empty 
+     * most of such a list.
+     */
+    private static String[] parseSizes(String arg) {
+        String[] sizes = arg.substring(SIZES_OPTION.length()).split(",");
 
-        map.put("ArrayList", 0.0);
-        map.put("LinkedList", 0.0);
-        map.put("RoddeList", 0.0);
-        map.put("TreeList", 0.0);
+        for (String size : sizes) {
+            if (Integer.parseInt(size.trim()) < MINIMUM_SIZE) {
+                throw new IllegalArgumentException(
+                        "List size " + size.trim() + " is below the " 
+                      + "minimum of " + MINIMUM_SIZE + ".");
+            }
+        }
+
+        return sizes;
+    }
+
+    /**
+     * Returns the number of distinct values the removeAll scenarios remove. 
+     * The values are drawn from {@code [0, size + 100)}, so there are always
+     * enough of them.
+     */
+    private static int getRemoveAllVictims(int size) {
+        return Math.min(REMOVE_ALL_OPERATIONS, size);
+    }
+
+    private static void printProfiles(Collection<RunResult> runResults) {
+        for (RunResult rr : runResults) {
+            String summary = IndexedLinkedListJfrProfiler.getSummary(rr);
+
+            if (summary != null) {
+                System.out.printf("%s, size %d: %.3f ms/op\n",
+                                  rr.getPrimaryResult().getLabel(),
+                                  getSize(rr),
+                                  rr.getPrimaryResult().getScore());
+                System.out.print(summary);
+            }
+        }
+    }
+
+    private static void printLatencyPercentiles(
+            Collection<RunResult> runResults) {
+        List<RunResult> sortedResults = new ArrayList<>(runResults);
+        
+        sortedResults.sort(
+                Comparator.comparing((RunResult rr) -> 
+                                rr.getPrimaryResult().getLabel())
+                          .thenComparingInt(rr -> getSize(rr))
+                          .thenComparing(rr -> 
+                                rr.getParams().getParam("listType")));
+        
+        System.out.printf("| %8s | %17s | %8s | %9s | %9s | %9s | %11s |\n",
+                          "Call",
+                          "List",
+                          "Size",
+                          "p50",
+                          "p99",
+                          "p99.9",
+                          "max");
+        
+        for (RunResult rr : sortedResults) {
+            Statistics statistics = rr.getPrimaryResult().getStatistics();
+            
+            System.out.printf(
+                    "| %8s | %17s | %8d | %9.0f | %9.0f | %9.0f | %11.0f |\n",
+                    rr.getPrimaryResult().getLabel(),
+                    rr.getParams().getParam("listType"),
+                    getSize(rr),
+                    statistics.getPercentile(50.0),
+                    statistics.getPercentile(99.0),
+                    statistics.getPercentile(99.9),
+                    statistics.getMax());
+        }
+    }
+
+    /**
+     * Returns the benchmark label with the list family removed, so that the 
+     * benchmarks of the same scenario compare equal.
+     */
+    static String getScenario(String label) {
+        label = label.replace("ArrayList",  "");
+        label = label.replace("LinkedList", "");
+        label = label.replace("IntRoddeList", "");
+        label = label.replace("RoddeList",  "");
+        label = label.replace("TreeList",   "");
+        label = label.replace("UnrolledList", "");
+        label = label.replace("HashIndexedList", "");
+        return label;
+    }
+
+    /**
+     * Returns the width of the benchmark column, which fits the longest 
+     * label.
+     */
+    private static int getLabelWidth(Collection<RunResult> runResults) {
+        int width = "Benchmark".length();
+
+        for (RunResult runResult : runResults) {
+            width = Math.max(width, 
+                             runResult.getPrimaryResult().getLabel().length());
+        }
+
+        return width;
+    }
+
+    static int getSize(RunResult runResult) {
+        return Integer.parseInt(runResult.getParams().getParam("size"));
+    }
+
+    /**
+     * Returns the score of the secondary result {@code key} produced by a 
+     * profiler, or {@code NaN} if the profiler did not report it. JMH 1.35 
+     * prefixes profiler results with a middle dot, later versions do not.
+     */
+    static double getSecondaryScore(RunResult runResult, String key) {
+        Map<String, Result> secondaryResults = runResult.getSecondaryResults();
+        Result result = secondaryResults.get(key);
+
+        if (result == null) {
+            result = secondaryResults.get("\u00b7" + key);
+        }
+
+        return result == null ? Double.NaN : result.getScore();
+    }
+
+    private static void printTotals(Collection<RunResult> runResults,
+                                    ToDoubleFunction<RunResult> metric) {
+        Map<Integer, Map<String, Double>> sizeMap = new TreeMap<>();
 
         for (RunResult runResult : runResults) {
+            Map<String, Double> map = 
+                    sizeMap.computeIfAbsent(getSize(runResult), 
+                                            size -> createFamilyMap());
+
             Result result = runResult.getPrimaryResult();
             String label = result.getLabel();
-            double score = result.getScore();
+            double score = metric.applyAsDouble(runResult);
 
-            if (label.contains("ArrayList")) {
+            if (label.contains("HashIndexedList")) {
+                map.put("HashIndexedList", 
+                        map.get("HashIndexedList") + score);
+            } else if (label.contains("ArrayList")) {
                 map.put("ArrayList", map.get("ArrayList") + score);
             } else if (label.contains("LinkedList")) {
                 map.put("LinkedList", map.get("LinkedList") + score);
+            } else if (label.contains("IntRoddeList")) {
+                map.put("IntRoddeList", map.get("IntRoddeList") + score);
             } else if (label.contains("RoddeList")) {
                 map.put("RoddeList", map.get("RoddeList") + score);
             } else if (label.contains("TreeList")) {
                 map.put("TreeList", map.get("TreeList") + score);
+            } else if (label.contains("UnrolledList")) {
+                map.put("UnrolledList", map.get("UnrolledList") + score);
             }
         }
 
-        for (Map.Entry<String, Double> entry : map.entrySet()) {
-            System.out.printf("| Total of %28s | %6.3f |\n", 
-                              entry.getKey(), 
-                              entry.getValue());
+        for (Map.Entry<Integer, Map<String, Double>> sizeEntry 
+                : sizeMap.entrySet()) {
+            for (Map.Entry<String, Double> entry 
+                    : sizeEntry.getValue().entrySet()) {
+                System.out.printf("| Total of %15s at %8d | %14.3f |\n", 
+                                  entry.getKey(), 
+                                  sizeEntry.getKey(),
+                                  entry.getValue());
+            }
         }
     }
 
-    // private methods:
-    private void profileAddFirst(List<Integer> list, int operations) {
-        for (int i = 0; i < operations; i++) {
-            list.add(0, i);
+    private static Map<String, Double> createFamilyMap() {
+        Map<String, Double> map = new LinkedHashMap<>();
+
+        map.put("ArrayList", 0.0);
+        map.put("LinkedList", 0.0);
+        map.put("IntRoddeList", 0.0);
+        map.put("RoddeList", 0.0);
+        map.put("TreeList", 0.0);
+        map.put("UnrolledList", 0.0);
+        map.put("HashIndexedList", 0.0);
+
+        return map;
+    }
+
+    /**
+     * Fits {@code score = c * size^k} to the scores of every benchmark by 
+     * least squares on a log-log scale and prints {@code k} along with the 
+     * coefficient of determination of the fit. The results are expected to be
+     * sorted by scenario and size.
+     */
+    private static void printScalingExponents(List<RunResult> runResults) {
+        Map<String, List<RunResult>> labelMap = new TreeMap<>(
+                Comparator.comparing(IndexedLinkedListPerformance::getScenario)
+                          .thenComparing(Comparator.naturalOrder()));
+
+        for (RunResult runResult : runResults) {
+            labelMap.computeIfAbsent(runResult.getPrimaryResult().getLabel(), 
+                                     label -> new ArrayList<>())
+                    .add(runResult);
+        }
+
+        int labelWidth = getLabelWidth(runResults);
+
+        System.out.printf("| %" + labelWidth + "s | %8s | %6s |\n", 
+                          "Benchmark", 
+                          "Exponent", 
+                          "R^2");
+
+        for (Map.Entry<String, List<RunResult>> entry : labelMap.entrySet()) {
+            List<RunResult> results = entry.getValue();
+            double[] sizes = new double[results.size()];
+            double[] scores = new double[results.size()];
+
+            for (int i = 0; i < sizes.length; ++i) {
+                sizes[i] = getSize(results.get(i));
+                scores[i] = results.get(i).getPrimaryResult().getScore();
+            }
+
+            double[] fit = fitPowerLaw(sizes, scores);
+
+            System.out.printf("| %" + labelWidth + "s | %8.3f | %6.3f |\n", 
+                              entry.getKey(),
+                              fit[0],
+                              fit[1]);
         }
     }
 
-    private void profileAddLast(List<Integer> list, int operations) {
-        for (int i = 0; i < operations; i++) {
-            list.add(i);
+    /**
+     * Fits {@code y = c * x^k} by linear least squares on 
+     * {@code (ln x, ln y)}. Points with a non-positive or non-finite 
+     * coordinate are skipped.
+     * 
+     * @param x the sizes.
+     * @param y the scores.
+     * @return the exponent {@code k} and the coefficient of determination of 
+     *         the fit, or two {@code NaN}s if fewer than two points are usable.
+     */
+    static double[] fitPowerLaw(double[] x, double[] y) {
+        int n = 0;
+        double sumX = 0.0;
+        double sumY = 0.0;
+        double sumXX = 0.0;
+        double sumXY = 0.0;
+        double sumYY = 0.0;
+
+        for (int i = 0; i < x.length; ++i) {
+            if (!(x[i] > 0.0) || !(y[i] > 0.0) 
+                    || Double.isInfinite(x[i]) || Double.isInfinite(y[i])) {
+                continue;
+            }
+
+            double lx = Math.log(x[i]);
+            double ly = Math.log(y[i]);
+
+            ++n;
+            sumX += lx;
+            sumY += ly;
+            sumXX += lx * lx;
+            sumXY += lx * ly;
+            sumYY += ly * ly;
+        }
+
+        double sxx = sumXX - sumX * sumX / n;
+        double sxy = sumXY - sumX * sumY / n;
+        double syy = sumYY - sumY * sumY / n;
+
+        if (n < 2 || sxx == 0.0) {
+            return new double[]{ Double.NaN, Double.NaN };
         }
+
+        double exponent = sxy / sxx;
+        double rSquared = syy == 0.0 ? 1.0 : sxy * sxy / (sxx * syy);
+        return new double[]{ exponent, rSquared };
+    }
+
+    // private methods. Each call of the per-operation helpers is a single 
+    // operation; JMH times them in batches.
+    private void profileAddFirst(List<Integer> list, Random random) {
+        list.add(0, getRandomInteger(random));
+    }
+
+    private void profileAddFirst(IntIndexedLinkedList list, Random random) {
+        list.insertAt(0, getRandomInteger(random));
+    }
+
+    private void profileAddLast(List<Integer> list, Random random) {
+        list.add(getRandomInteger(random));
     }
 
-    private void profileAddCollection(List<Integer> list,
-                                      int operations, 
+    private void profileAddLast(IntIndexedLinkedList list, Random random) {
+        list.addInt(getRandomInteger(random));
+    }
+
+    private void profileAddCollection(List<Integer> list, Random random) {
+        list.addAll(getCollection(random));
+    }
+
+    private void profileAddCollection(IntIndexedLinkedList list, 
                                       Random random) {
-        for (int i = 0; i < operations; ++i) {
-            List<Integer> col = getCollection(random);
-            list.addAll(col);
-        }
+        list.addAllInts(getIntCollection(random));
     }
 
     private void profileAddCollectionAtIndex(List<Integer> list,
-                                             int operations, 
                                              Random random) {
-        for (int i = 0; i < operations; ++i) {
-            List<Integer> col = getCollection(random);
-            int index = random.nextInt(list.size() + 1);
-            list.addAll(index, col);
-        }
+        List<Integer> col = getCollection(random);
+        int index = random.nextInt(list.size() + 1);
+        list.addAll(index, col);
+    }
+
+    private void profileAddCollectionAtIndex(IntIndexedLinkedList list,
+                                             Random random) {
+        int[] col = getIntCollection(random);
+        int index = random.nextInt(list.size() + 1);
+        list.insertAllAt(index, col);
     }
 
     private void profileRemoveAt(List<Integer> list,
                                  Random random, 
                                  Blackhole blackhole) {
-        while (!list.isEmpty()) {
-            int index = random.nextInt(list.size());
-            Integer i = list.remove(index);
-            blackhole.consume(i);
+        if (!list.isEmpty()) {
+            blackhole.consume(list.remove(random.nextInt(list.size())));
+        }
+    }
+
+    private void profileRemoveAt(IntIndexedLinkedList list,
+                                 Random random, 
+                                 Blackhole blackhole) {
+        if (list.size() > 0) {
+            blackhole.consume(list.removeAt(random.nextInt(list.size())));
         }
     }
 
     private void profileRemoveObject(List<Integer> list,
+                                     int size,
                                      Random random, 
                                      Blackhole blackhole) {
-        for (int i = 0; i < REMOVE_OBJECT_OPERATIONS; ++i) {
-            Integer value = random.nextInt(REMOVE_COLLECTION_SIZE);
-            list.remove((Object) value);
-            blackhole.consume(value);
-        }
+        Integer value = random.nextInt(size);
+        list.remove((Object) value);
+        blackhole.consume(value);
+    }
+
+    private void profileRemoveObject(IntIndexedLinkedList list,
+                                     int size,
+                                     Random random, 
+                                     Blackhole blackhole) {
+        int value = random.nextInt(size);
+        list.removeInt(value);
+        blackhole.consume(value);
     }
 
     private void profileRemoveRange(List<Integer> list) {
@@ -1560,7 +2901,7 @@ public class IndexedLinkedListPerformance {
 
             clearFromTreeList(list, fromIndex, toIndex);
 
-            fromIndex = (list.size() - CLEAR_RANGE_SIZE) / 2;
+            fromIndex = (list.size() - getClearRangeSize(list.size())) / 2;
             toIndex = list.size() - fromIndex;
 
             clearFromTreeList(list, fromIndex, toIndex);
@@ -1570,13 +2911,29 @@ public class IndexedLinkedListPerformance {
 
             list.subList(fromIndex, toIndex).clear();
 
-            fromIndex = (list.size() - CLEAR_RANGE_SIZE) / 2;
+            fromIndex = (list.size() - getClearRangeSize(list.size())) / 2;
             toIndex = list.size() - fromIndex;
 
             list.subList(fromIndex, toIndex).clear();   
         }
     }
 
+    private void profileRemoveRange(IntIndexedLinkedList list) {
+        int fromIndex = list.size() / 2;
+        int toIndex = fromIndex + 1;
+
+        list.removeRange(fromIndex, toIndex);
+
+        fromIndex = (list.size() - getClearRangeSize(list.size())) / 2;
+        toIndex = list.size() - fromIndex;
+
+        list.removeRange(fromIndex, toIndex);
+    }
+
+    private static int getClearRangeSize(int listSize) {
+        return (int) ((long) listSize * CLEAR_RANGE_PERCENTAGE / 100);
+    }
+
     private void clearFromTreeList(List<Integer> list, 
                                    int fromIndex, 
                                    int toIndex) {
@@ -1586,47 +2943,53 @@ public class IndexedLinkedListPerformance {
     }
 
     private void profileRemoveFirst(List<Integer> list, Blackhole blackhole) {
-        if (list instanceof Deque) {
-            Deque<Integer> deque = (Deque<Integer>) list;
+        if (list.isEmpty()) {
+            return;
+        }
 
-            while (!deque.isEmpty()) {
-                Integer num = deque.removeFirst();
-                blackhole.consume(num);
-            }
+        if (list instanceof Deque) {
+            blackhole.consume(((Deque<Integer>) list).removeFirst());
         } else {
-            while (!list.isEmpty()) {
-                Integer num = list.remove(0);
-                blackhole.consume(num);
-            }
+            blackhole.consume(list.remove(0));
+        }
+    }
+
+    private void profileRemoveFirst(IntIndexedLinkedList list, 
+                                    Blackhole blackhole) {
+        if (list.size() > 0) {
+            blackhole.consume(list.removeAt(0));
         }
     }
 
     private void profileRemoveLast(List<Integer> list, Blackhole blackhole) {
-        if (list instanceof Deque) {
-            Deque<Integer> deque = (Deque<Integer>) list;
+        if (list.isEmpty()) {
+            return;
+        }
 
-            while (!deque.isEmpty()) {
-                Integer num = deque.removeLast();
-                blackhole.consume(num);
-            }
+        if (list instanceof Deque) {
+            blackhole.consume(((Deque<Integer>) list).removeLast());
         } else {
-            while (!list.isEmpty()) {
-                Integer num = list.remove(list.size() - 1);
-                blackhole.consume(num);
-            }
+            blackhole.consume(list.remove(list.size() - 1));
         }
     }
 
-    private void profileAddAtIndex(List<Integer> list, int operations) {
-        Random random = new Random(seed + 1L);
-
-        for (int i = 0; i < operations; i++) {
-            int index = random.nextInt(list.size() + 1);
-            Integer value = getRandomInteger(random);
-            list.add(index, value);
+    private void profileRemoveLast(IntIndexedLinkedList list, 
+                                   Blackhole blackhole) {
+        if (list.size() > 0) {
+            blackhole.consume(list.removeAt(list.size() - 1));
         }
     }
 
+    private void profileAddAtIndex(List<Integer> list, Random random) {
+        int index = random.nextInt(list.size() + 1);
+        list.add(index, getRandomInteger(random));
+    }
+
+    private void profileAddAtIndex(IntIndexedLinkedList list, Random random) {
+        int index = random.nextInt(list.size() + 1);
+        list.insertAt(index, getRandomInteger(random));
+    }
+
     private void profileGet(List<Integer> list,
                             int operations, 
                             Random random, 
@@ -1637,10 +3000,24 @@ public class IndexedLinkedListPerformance {
         }
     }
 
+    private void profileGet(IntIndexedLinkedList list,
+                            int operations, 
+                            Random random, 
+                            Blackhole blackhole) {
+        for (int i = 0; i < operations; i++) {
+            int j = list.getInt(random.nextInt(list.size()));
+            blackhole.consume(j);
+        }
+    }
+
     private void profileSort(List<Integer> list) {
         list.subList(10, list.size() - 10).sort(Integer::compare);
     }
 
+    private void profileSort(IntIndexedLinkedList list) {
+        list.sort(10, list.size() - 10);
+    }
+
     private void profileRemoveAll(List<Integer> list, 
                                   Collection<Integer> toRemove) {
         if (list instanceof TreeList || list instanceof LinkedList) {
@@ -1652,6 +3029,10 @@ public class IndexedLinkedListPerformance {
         }
     }
 
+    private void profileRemoveAll(IntIndexedLinkedList list, BitSet toRemove) {
+        list.removeIf(toRemove::get);
+    }
+
     private static List<Integer> getCollection(Random random) {
         List<Integer> list = new ArrayList<>();
         int listSize = random.nextInt(MAXIMUM_COLLECTION_SIZE + 1);
@@ -1662,4 +3043,45 @@ public class IndexedLinkedListPerformance {
 
         return list;
     }
+
+    /**
+     * Appends the integers {@code 0, 1, ..., size - 1} to {@code list}. This is
+     * how the get states populate their lists, and the footprint measurement 
+     * in {@link IndexedLinkedListFootprint} reuses it.
+     */
+    static <L extends List<Integer>> L populate(L list, int size) {
+        for (int i = 0; i < size; ++i) {
+            list.add(i);
+        }
+
+        return list;
+    }
+
+    static IntIndexedLinkedList populate(IntIndexedLinkedList list, int size) {
+        for (int i = 0; i < size; ++i) {
+            list.addInt(i);
+        }
+
+        return list;
+    }
+
+    private static int[] getIntCollection(Random random) {
+        int[] array = new int[random.nextInt(MAXIMUM_COLLECTION_SIZE + 1)];
+
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = i;
+        }
+
+        return array;
+    }
+
+    private static int[] toIntArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = list.get(i);
+        }
+
+        return array;
+    }
 }
@@ -117,6 +117,13 @@ public class IndexedLinkedListPerformance2 {
         }
     }
 
+    /** {@link PrepopulatedBenchmarkState} containing an {@link UnrolledLinkedList} */
+    public static class UnrolledLinkedListPrepopulatedBenchmarkState extends PrepopulatedBenchmarkState {
+        public UnrolledLinkedListPrepopulatedBenchmarkState() {
+            super(UnrolledLinkedList::new);
+        }
+    }
+
     /** {@link PrepopulatedBenchmarkState} containing an {@link IndexedLinkedList} */
     public static class IndexedLinkedListPrepopulatedBenchmarkState extends PrepopulatedBenchmarkState {
         public IndexedLinkedListPrepopulatedBenchmarkState() {
@@ -396,6 +403,54 @@ public class IndexedLinkedListPerformance2 {
         return iterateAndModify(state.getPopulatedList(), state.getRng(), bh);
     }
 
+    @Benchmark
+    public List<Object> unrolledLinkedListAddAtEnd(final ListBenchmarkState state) {
+        return addAtEnd(new UnrolledLinkedList<>(), state.getSize());
+    }
+
+    @Benchmark
+    public List<Object> unrolledLinkedListAddAtBeginning(final ListBenchmarkState state) {
+        return addAtBeginning(new UnrolledLinkedList<>(), state.getSize());
+    }
+
+    @Benchmark
+    public List<Object> unrolledLinkedListAddRandom(final ListBenchmarkState state) {
+        return addRandom(new UnrolledLinkedList<>(), state.getSize(), state.getRng());
+    }
+
+    @Benchmark
+    public List<Object> unrolledLinkedListRemoveFromEnd(final UnrolledLinkedListPrepopulatedBenchmarkState state) {
+        return removeFromEnd(state.getPopulatedList());
+    }
+
+    @Benchmark
+    public List<Object> unrolledLinkedListRemoveFromBeginning(final UnrolledLinkedListPrepopulatedBenchmarkState state) {
+        return removeFromBeginning(state.getPopulatedList());
+    }
+
+    @Benchmark
+    public List<Object> unrolledLinkedListRemoveRandom(final UnrolledLinkedListPrepopulatedBenchmarkState state) {
+        return removeRandom(state.getPopulatedList(), state.getRng());
+    }
+
+    @Benchmark
+    public List<Object> unrolledLinkedListGetRandom(final UnrolledLinkedListPrepopulatedBenchmarkState state,
+            final Blackhole bh) {
+        return getRandom(state.getPopulatedList(), state.getRng(), bh);
+    }
+
+    @Benchmark
+    public List<Object> unrolledLinkedListIterate(final UnrolledLinkedListPrepopulatedBenchmarkState state,
+            final Blackhole bh) {
+        return iterate(state.getPopulatedList(), bh);
+    }
+
+    @Benchmark
+    public List<Object> unrolledLinkedListIterateAndModify(final UnrolledLinkedListPrepopulatedBenchmarkState state,
+            final Blackhole bh) {
+        return iterateAndModify(state.getPopulatedList(), state.getRng(), bh);
+    }
+
     @Benchmark
     public List<Object> indexedLinkedListAddAtEnd(final ListBenchmarkState state) {
         return addAtEnd(new IndexedLinkedList<>(), state.getSize());
@@ -0,0 +1,768 @@
+package com.coderodde;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+/**
+ * Writes benchmark results as a JSON document and as a static, self-contained
+ * HTML page that can be shared without the console output.
+ * <p>
+ * Every result is assigned a scenario and a list. The list comes from the
+ * {@code listType} parameter, or else from the list family in the benchmark
+ * label, such as {@code RoddeList} for {@code IndexedLinkedList}; the
+ * scenario is the benchmark label without the list family. Within a
+ * scenario, every score is divided by the score of each of the
+ * {@link #BASELINES} at the same size and parameters, and expressed as a
+ * speedup: a value above one means the list is faster than the baseline,
+ * whatever the benchmark mode.
+ * <p>
+ * The page holds a speedup matrix per baseline, with the geometric mean
+ * speedup of every list in every scenario over all sizes, and a section per
+ * scenario with a log-log chart of the scores against the list size, error
+ * bars included, and a table of the scores, score errors, speedups and
+ * secondary profiler metrics. The JSON document holds the same numbers, one
+ * object per result, with {@code null} for the numbers JMH could not
+ * compute.
+ */
+public final class IndexedLinkedListReport {
+
+    /** The output directory unless another one is given. */
+    static final String DEFAULT_DIRECTORY = "report";
+
+    /** The name of the JSON document in the output directory. */
+    static final String JSON_FILE = "report.json";
+
+    /** The name of the HTML page in the output directory. */
+    static final String HTML_FILE = "report.html";
+
+    /** The lists every scenario is normalized to. */
+    static final List<String> BASELINES =
+            Collections.unmodifiableList(
+                    Arrays.asList("ArrayList", "IndexedLinkedList"));
+
+    /** Orders the baselines first and the other lists by name. */
+    private static final Comparator<String> LIST_ORDER =
+            Comparator.comparingInt((String list) -> {
+                int index = BASELINES.indexOf(list);
+                return index < 0 ? BASELINES.size() : index;
+            }).thenComparing(Comparator.naturalOrder());
+
+    /**
+     * The list families of the benchmark labels and the lists they stand
+     * for. A family containing another family comes first.
+     */
+    private static final String[][] LABEL_FAMILIES = {
+        {"IntRoddeList",    "IntIndexedLinkedList"},
+        {"RoddeList",       "IndexedLinkedList"},
+        {"HashIndexedList", "HashIndexedList"},
+        {"UnrolledList",    "UnrolledLinkedList"},
+        {"TreeList",        "TreeList"},
+        {"ArrayList",       "ArrayList"},
+        {"LinkedList",      "LinkedList"},
+    };
+
+    private static final String LIST_TYPE_PARAM = "listType";
+    private static final String SIZE_PARAM = "size";
+
+    /** The list of a result whose list is not known. */
+    private static final String NO_LIST = "-";
+
+    private static final String[] SERIES_COLORS = {
+        "#1f77b4", "#d62728", "#2ca02c", "#ff7f0e",
+        "#9467bd", "#8c564b", "#e377c2", "#17becf",
+    };
+
+    private static final int CHART_WIDTH = 600;
+    private static final int CHART_HEIGHT = 320;
+    private static final int CHART_LEFT = 70;
+    private static final int CHART_RIGHT = 170;
+    private static final int CHART_TOP = 20;
+    private static final int CHART_BOTTOM = 40;
+    private static final int CHART_Y_TICKS = 5;
+
+    /**
+     * A single result with the speedups over the baselines.
+     */
+    static final class Entry {
+
+        final String benchmark;
+        final String scenario;
+        final String list;
+        final String params;
+        final int size;
+        final String mode;
+        final String unit;
+        final double score;
+        final double error;
+        final Map<String, Result> secondaryResults;
+        final Map<String, Double> speedups = new LinkedHashMap<>();
+
+        Entry(final RunResult runResult) {
+            BenchmarkParams benchmarkParams = runResult.getParams();
+            Result result = runResult.getPrimaryResult();
+            String label = result.getLabel();
+            String listType = benchmarkParams.getParam(LIST_TYPE_PARAM);
+            String size = benchmarkParams.getParam(SIZE_PARAM);
+            String suite = benchmarkParams.getBenchmark();
+
+            suite = suite.substring(0, suite.lastIndexOf('.'));
+            suite = suite.substring(suite.lastIndexOf('.') + 1);
+
+            this.benchmark = benchmarkParams.getBenchmark();
+            this.list = listType != null ? listType : getListFamily(label);
+            this.scenario = suite + "."
+                    + (listType != null
+                            ? label
+                            : IndexedLinkedListPerformance.getScenario(label));
+            this.params = getOtherParams(benchmarkParams);
+            this.size = size == null ? 0 : Integer.parseInt(size);
+            this.mode = benchmarkParams.getMode().shortLabel();
+            this.unit = result.getScoreUnit();
+            this.score = result.getScore();
+            this.error = result.getScoreError();
+            this.secondaryResults = new TreeMap<>();
+
+            for (Map.Entry<String, Result> entry
+                    : runResult.getSecondaryResults().entrySet()) {
+                if (!Double.isNaN(entry.getValue().getScore())) {
+                    secondaryResults.put(
+                            entry.getKey().replace("\u00b7", ""),
+                            entry.getValue());
+                }
+            }
+        }
+
+        /**
+         * Returns the key of the scenario, parameters and mode, which the
+         * entries compared with each other share.
+         */
+        String getGroupKey() {
+            return params.isEmpty()
+                    ? scenario + " (" + mode + ")"
+                    : scenario + " [" + params + "] (" + mode + ")";
+        }
+
+        boolean isLowerBetter() {
+            return !mode.equals("thrpt");
+        }
+
+        /**
+         * Returns how many times faster this entry is than {@code baseline}.
+         */
+        double getSpeedup(final Entry baseline) {
+            return isLowerBetter()
+                    ? baseline.score / score
+                    : score / baseline.score;
+        }
+    }
+
+    private IndexedLinkedListReport() {
+    }
+
+    /**
+     * Writes {@value #JSON_FILE} and {@value #HTML_FILE} for the given
+     * results into {@code directory}, which is created if needed.
+     *
+     * @param runResults the results to report.
+     * @param directory  the output directory.
+     * @throws IOException if a file cannot be written.
+     */
+    static void write(final Collection<RunResult> runResults,
+                      final Path directory) throws IOException {
+        Map<String, List<Entry>> groups = createGroups(runResults);
+        String generated = Instant.now().toString();
+
+        Files.createDirectories(directory);
+
+        try (Writer writer =
+                Files.newBufferedWriter(directory.resolve(JSON_FILE),
+                                        StandardCharsets.UTF_8)) {
+            writer.write(toJson(groups, generated));
+        }
+
+        try (Writer writer =
+                Files.newBufferedWriter(directory.resolve(HTML_FILE),
+                                        StandardCharsets.UTF_8)) {
+            writer.write(toHtml(groups, generated));
+        }
+    }
+
+    /**
+     * Groups the results by scenario, parameters and mode, sorts every group
+     * by size and list, and computes the speedups over the baselines.
+     */
+    static Map<String, List<Entry>> createGroups(
+            final Collection<RunResult> runResults) {
+        Map<String, List<Entry>> groups = new TreeMap<>();
+
+        for (RunResult runResult : runResults) {
+            Entry entry = new Entry(runResult);
+            groups.computeIfAbsent(entry.getGroupKey(),
+                                   key -> new ArrayList<>())
+                  .add(entry);
+        }
+
+        for (List<Entry> entries : groups.values()) {
+            entries.sort(Comparator.comparingInt((Entry e) -> e.size)
+                                   .thenComparing(e -> e.list,
+                                                  LIST_ORDER));
+
+            for (Entry entry : entries) {
+                for (String baselineList : BASELINES) {
+                    Entry baseline = find(entries, baselineList, entry.size);
+
+                    if (baseline != null && !entry.list.equals(NO_LIST)) {
+                        entry.speedups.put(baselineList,
+                                           entry.getSpeedup(baseline));
+                    }
+                }
+            }
+        }
+
+        return groups;
+    }
+
+    private static Entry find(final List<Entry> entries,
+                              final String list,
+                              final int size) {
+        for (Entry entry : entries) {
+            if (entry.size == size && entry.list.equals(list)) {
+                return entry;
+            }
+        }
+
+        return null;
+    }
+
+    private static String getListFamily(final String label) {
+        for (String[] family : LABEL_FAMILIES) {
+            if (label.contains(family[0])) {
+                return family[1];
+            }
+        }
+
+        return NO_LIST;
+    }
+
+    /**
+     * Returns the parameters other than the list and the size as
+     * {@code key=value} pairs sorted by key and separated by commas.
+     */
+    private static String getOtherParams(final BenchmarkParams params) {
+        StringBuilder sb = new StringBuilder();
+
+        for (String key : new TreeSet<>(params.getParamsKeys())) {
+            if (key.equals(LIST_TYPE_PARAM) || key.equals(SIZE_PARAM)) {
+                continue;
+            }
+
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+
+            sb.append(key).append('=').append(params.getParam(key));
+        }
+
+        return sb.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // JSON
+    ////////////////////////////////////////////////////////////////////////////
+
+    private static String toJson(final Map<String, List<Entry>> groups,
+                                 final String generated) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("{\n");
+        sb.append("  \"generated\": ").append(jsonString(generated))
+          .append(",\n");
+        sb.append("  \"jvm\": ")
+          .append(jsonString(IndexedLinkedListResultHistory.getJvm()))
+          .append(",\n");
+        sb.append("  \"baselines\": [");
+
+        for (int i = 0; i < BASELINES.size(); ++i) {
+            sb.append(i > 0 ? ", " : "").append(jsonString(BASELINES.get(i)));
+        }
+
+        sb.append("],\n");
+        sb.append("  \"results\": [");
+
+        boolean first = true;
+
+        for (List<Entry> entries : groups.values()) {
+            for (Entry entry : entries) {
+                sb.append(first ? "\n" : ",\n");
+                appendJson(sb, entry);
+                first = false;
+            }
+        }
+
+        sb.append("\n  ]\n}\n");
+        return sb.toString();
+    }
+
+    private static void appendJson(final StringBuilder sb, final Entry entry) {
+        sb.append("    {\"benchmark\": ").append(jsonString(entry.benchmark))
+          .append(", \"scenario\": ").append(jsonString(entry.scenario))
+          .append(", \"list\": ").append(jsonString(entry.list))
+          .append(", \"params\": ").append(jsonString(entry.params))
+          .append(", \"size\": ").append(entry.size)
+          .append(", \"mode\": ").append(jsonString(entry.mode))
+          .append(", \"unit\": ").append(jsonString(entry.unit))
+          .append(", \"score\": ").append(jsonNumber(entry.score))
+          .append(", \"error\": ").append(jsonNumber(entry.error))
+          .append(", \"speedup\": {");
+
+        boolean first = true;
+
+        for (Map.Entry<String, Double> speedup : entry.speedups.entrySet()) {
+            sb.append(first ? "" : ", ")
+              .append(jsonString(speedup.getKey()))
+              .append(": ")
+              .append(jsonNumber(speedup.getValue()));
+            first = false;
+        }
+
+        sb.append("}, \"secondary\": {");
+        first = true;
+
+        for (Map.Entry<String, Result> secondary
+                : entry.secondaryResults.entrySet()) {
+            Result result = secondary.getValue();
+
+            sb.append(first ? "" : ", ")
+              .append(jsonString(secondary.getKey()))
+              .append(": {\"score\": ")
+              .append(jsonNumber(result.getScore()))
+              .append(", \"error\": ")
+              .append(jsonNumber(result.getScoreError()))
+              .append(", \"unit\": ")
+              .append(jsonString(result.getScoreUnit()))
+              .append('}');
+            first = false;
+        }
+
+        sb.append("}}");
+    }
+
+    private static String jsonNumber(final double value) {
+        return Double.isFinite(value) ? Double.toString(value) : "null";
+    }
+
+    private static String jsonString(final String value) {
+        StringBuilder sb = new StringBuilder("\"");
+
+        for (int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+
+                case '\n':
+                    sb.append("\\n");
+                    break;
+
+                case '\t':
+                    sb.append("\\t");
+                    break;
+
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+
+        return sb.append('"').toString();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // HTML
+    ////////////////////////////////////////////////////////////////////////////
+
+    private static String toHtml(final Map<String, List<Entry>> groups,
+                                 final String generated) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("<!DOCTYPE html>\n<html lang=\"en\">\n<head>\n")
+          .append("<meta charset=\"utf-8\">\n")
+          .append("<title>IndexedLinkedList benchmark report</title>\n")
+          .append("<style>\n")
+          .append("body { font-family: sans-serif; margin: 2em; }\n")
+          .append("table { border-collapse: collapse; margin: 1em 0; }\n")
+          .append("th, td { border: 1px solid #ccc; padding: 2px 8px; ")
+          .append("text-align: right; }\n")
+          .append("th:first-child, td:first-child { text-align: left; }\n")
+          .append(".faster { background: #d9f2d9; }\n")
+          .append(".slower { background: #f8d7d7; }\n")
+          .append("</style>\n</head>\n<body>\n")
+          .append("<h1>IndexedLinkedList benchmark report</h1>\n")
+          .append("<p>Generated ").append(html(generated)).append(" on ")
+          .append(html(IndexedLinkedListResultHistory.getJvm()))
+          .append(". A speedup is how many times faster a list is than the ")
+          .append("baseline at the same size; above one is faster.</p>\n");
+
+        for (String baseline : BASELINES) {
+            appendSpeedupMatrix(sb, groups, baseline);
+        }
+
+        int groupIndex = 0;
+
+        for (Map.Entry<String, List<Entry>> group : groups.entrySet()) {
+            sb.append("<h2 id=\"").append(getAnchor(groupIndex++))
+              .append("\">").append(html(group.getKey())).append("</h2>\n");
+            appendChart(sb, group.getValue());
+            appendScoreTable(sb, group.getValue());
+        }
+
+        sb.append("</body>\n</html>\n");
+        return sb.toString();
+    }
+
+    /**
+     * Appends a table with a row per scenario and a column per list holding
+     * the geometric mean speedup over {@code baseline} across all sizes.
+     */
+    private static void appendSpeedupMatrix(
+            final StringBuilder sb,
+            final Map<String, List<Entry>> groups,
+            final String baseline) {
+        TreeSet<String> lists = new TreeSet<>(LIST_ORDER);
+
+        for (List<Entry> entries : groups.values()) {
+            for (Entry entry : entries) {
+                if (entry.speedups.containsKey(baseline)) {
+                    lists.add(entry.list);
+                }
+            }
+        }
+
+        if (lists.isEmpty()) {
+            return;
+        }
+
+        sb.append("<h2>Speedup over ").append(html(baseline))
+          .append(" (geometric mean over sizes)</h2>\n<table>\n<tr><th>")
+          .append("Scenario</th>");
+
+        for (String list : lists) {
+            sb.append("<th>").append(html(list)).append("</th>");
+        }
+
+        sb.append("</tr>\n");
+
+        int groupIndex = 0;
+
+        for (Map.Entry<String, List<Entry>> group : groups.entrySet()) {
+            String anchor = getAnchor(groupIndex++);
+            Map<String, double[]> logSums = new LinkedHashMap<>();
+
+            for (Entry entry : group.getValue()) {
+                Double speedup = entry.speedups.get(baseline);
+
+                if (speedup != null && speedup > 0.0) {
+                    double[] logSum = logSums.computeIfAbsent(
+                            entry.list, list -> new double[2]);
+                    logSum[0] += Math.log(speedup);
+                    logSum[1] += 1.0;
+                }
+            }
+
+            if (logSums.isEmpty()) {
+                continue;
+            }
+
+            sb.append("<tr><td><a href=\"#").append(anchor)
+              .append("\">").append(html(group.getKey())).append("</a></td>");
+
+            for (String list : lists) {
+                double[] logSum = logSums.get(list);
+
+                if (logSum == null) {
+                    sb.append("<td></td>");
+                } else {
+                    appendSpeedupCell(sb, Math.exp(logSum[0] / logSum[1]));
+                }
+            }
+
+            sb.append("</tr>\n");
+        }
+
+        sb.append("</table>\n");
+    }
+
+    private static String getAnchor(final int groupIndex) {
+        return "scenario-" + groupIndex;
+    }
+
+    private static void appendScoreTable(final StringBuilder sb,
+                                         final List<Entry> entries) {
+        TreeSet<String> metrics = new TreeSet<>();
+
+        for (Entry entry : entries) {
+            metrics.addAll(entry.secondaryResults.keySet());
+        }
+
+        sb.append("<table>\n<tr><th>List</th><th>Size</th><th>Score</th>")
+          .append("<th>Error</th><th>Unit</th>");
+
+        for (String baseline : BASELINES) {
+            sb.append("<th>vs ").append(html(baseline)).append("</th>");
+        }
+
+        for (String metric : metrics) {
+            sb.append("<th>").append(html(metric)).append("</th>");
+        }
+
+        sb.append("</tr>\n");
+
+        for (Entry entry : entries) {
+            sb.append("<tr><td>").append(html(entry.list))
+              .append("</td><td>").append(entry.size)
+              .append("</td><td>").append(format(entry.score))
+              .append("</td><td>&plusmn; ").append(format(entry.error))
+              .append("</td><td>").append(html(entry.unit)).append("</td>");
+
+            for (String baseline : BASELINES) {
+                Double speedup = entry.speedups.get(baseline);
+
+                if (speedup == null) {
+                    sb.append("<td></td>");
+                } else {
+                    appendSpeedupCell(sb, speedup);
+                }
+            }
+
+            for (String metric : metrics) {
+                Result result = entry.secondaryResults.get(metric);
+
+                sb.append("<td>");
+
+                if (result != null) {
+                    sb.append(format(result.getScore())).append(' ')
+                      .append(html(result.getScoreUnit()));
+                }
+
+                sb.append("</td>");
+            }
+
+            sb.append("</tr>\n");
+        }
+
+        sb.append("</table>\n");
+    }
+
+    private static void appendSpeedupCell(final StringBuilder sb,
+                                          final double speedup) {
+        String cell = speedup > 1.0 ? "<td class=\"faster\">"
+                    : speedup < 1.0 ? "<td class=\"slower\">"
+                    : "<td>";
+
+        sb.append(cell)
+          .append(String.format(Locale.ROOT, "%.2f&times;", speedup))
+          .append("</td>");
+    }
+
+    /**
+     * Appends an SVG chart of the scores against the list size on log-log
+     * axes, with a line and error bars per list. Nothing is appended unless
+     * the group has at least two sizes.
+     */
+    private static void appendChart(final StringBuilder sb,
+                                    final List<Entry> entries) {
+        Map<String, List<Entry>> series = new TreeMap<>(LIST_ORDER);
+        TreeSet<Integer> sizes = new TreeSet<>();
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+
+        for (Entry entry : entries) {
+            if (entry.size <= 0 || !(entry.score > 0.0)) {
+                continue;
+            }
+
+            series.computeIfAbsent(entry.list, list -> new ArrayList<>())
+                  .add(entry);
+            sizes.add(entry.size);
+
+            double[] range = getErrorRange(entry);
+            minY = Math.min(minY, Math.log10(range[0]));
+            maxY = Math.max(maxY, Math.log10(range[1]));
+        }
+
+        if (sizes.size() < 2) {
+            return;
+        }
+
+        if (maxY - minY < 1e-9) {
+            minY -= 0.5;
+            maxY += 0.5;
+        }
+
+        double minX = Math.log10(sizes.first());
+        double maxX = Math.log10(sizes.last());
+        int plotWidth = CHART_WIDTH - CHART_LEFT - CHART_RIGHT;
+        int plotHeight = CHART_HEIGHT - CHART_TOP - CHART_BOTTOM;
+        String unit = entries.get(0).unit;
+
+        sb.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"")
+          .append(CHART_WIDTH).append("\" height=\"").append(CHART_HEIGHT)
+          .append("\" font-size=\"11\">\n");
+        sb.append(String.format(
+                Locale.ROOT,
+                "<rect x=\"%d\" y=\"%d\" width=\"%d\" height=\"%d\" "
+              + "fill=\"none\" stroke=\"#999\"/>\n",
+                CHART_LEFT, CHART_TOP, plotWidth, plotHeight));
+
+        for (int size : sizes) {
+            double x = scale(Math.log10(size), minX, maxX,
+                             CHART_LEFT, CHART_LEFT + plotWidth);
+
+            sb.append(String.format(
+                    Locale.ROOT,
+                    "<text x=\"%.1f\" y=\"%d\" text-anchor=\"middle\">%d"
+                  + "</text>\n",
+                    x, CHART_HEIGHT - CHART_BOTTOM + 15, size));
+        }
+
+        for (int i = 0; i < CHART_Y_TICKS; ++i) {
+            double logY = minY + (maxY - minY) * i / (CHART_Y_TICKS - 1);
+            double y = scale(logY, minY, maxY,
+                             CHART_TOP + plotHeight, CHART_TOP);
+
+            sb.append(String.format(
+                    Locale.ROOT,
+                    "<text x=\"%d\" y=\"%.1f\" text-anchor=\"end\">%s"
+                  + "</text>\n",
+                    CHART_LEFT - 5, y + 4, format(Math.pow(10.0, logY))));
+        }
+
+        sb.append(String.format(
+                Locale.ROOT,
+                "<text x=\"%d\" y=\"%d\" text-anchor=\"middle\">size</text>\n"
+              + "<text x=\"12\" y=\"%d\" text-anchor=\"middle\" "
+              + "transform=\"rotate(-90 12 %d)\">%s</text>\n",
+                CHART_LEFT + plotWidth / 2, CHART_HEIGHT - 5,
+                CHART_TOP + plotHeight / 2, CHART_TOP + plotHeight / 2,
+                html(unit)));
+
+        int seriesIndex = 0;
+
+        for (Map.Entry<String, List<Entry>> list : series.entrySet()) {
+            String color =
+                    SERIES_COLORS[seriesIndex % SERIES_COLORS.length];
+            StringBuilder points = new StringBuilder();
+
+            for (Entry entry : list.getValue()) {
+                double x = scale(Math.log10(entry.size), minX, maxX,
+                                 CHART_LEFT, CHART_LEFT + plotWidth);
+                double y = scale(Math.log10(entry.score), minY, maxY,
+                                 CHART_TOP + plotHeight, CHART_TOP);
+                double[] range = getErrorRange(entry);
+
+                points.append(String.format(Locale.ROOT, "%.1f,%.1f ", x, y));
+                sb.append(String.format(
+                        Locale.ROOT,
+                        "<line x1=\"%.1f\" y1=\"%.1f\" x2=\"%.1f\" "
+                      + "y2=\"%.1f\" stroke=\"%s\"/>\n"
+                      + "<circle cx=\"%.1f\" cy=\"%.1f\" r=\"3\" "
+                      + "fill=\"%s\"><title>%s %d: %s &#177; %s %s"
+                      + "</title></circle>\n",
+                        x,
+                        scale(Math.log10(range[0]), minY, maxY,
+                              CHART_TOP + plotHeight, CHART_TOP),
+                        x,
+                        scale(Math.log10(range[1]), minY, maxY,
+                              CHART_TOP + plotHeight, CHART_TOP),
+                        color,
+                        x, y, color,
+                        html(entry.list), entry.size,
+                        format(entry.score), format(entry.error),
+                        html(entry.unit)));
+            }
+
+            int legendY = CHART_TOP + 10 + 16 * seriesIndex;
+
+            sb.append(String.format(
+                    Locale.ROOT,
+                    "<polyline points=\"%s\" fill=\"none\" stroke=\"%s\"/>\n"
+                  + "<rect x=\"%d\" y=\"%d\" width=\"10\" height=\"10\" "
+                  + "fill=\"%s\"/>\n"
+                  + "<text x=\"%d\" y=\"%d\">%s</text>\n",
+                    points.toString().trim(), color,
+                    CHART_WIDTH - CHART_RIGHT + 10, legendY - 9, color,
+                    CHART_WIDTH - CHART_RIGHT + 25, legendY,
+                    html(list.getKey())));
+            ++seriesIndex;
+        }
+
+        sb.append("</svg>\n");
+    }
+
+    /**
+     * Returns the score minus and plus its error, falling back to the score
+     * where the error is unknown or reaches below zero.
+     */
+    private static double[] getErrorRange(final Entry entry) {
+        if (!Double.isFinite(entry.error)) {
+            return new double[]{ entry.score, entry.score };
+        }
+
+        double low = entry.score - entry.error;
+        return new double[]{
+            low > 0.0 ? low : entry.score,
+            entry.score + entry.error
+        };
+    }
+
+    private static double scale(final double value,
+                                final double min,
+                                final double max,
+                                final double from,
+                                final double to) {
+        return max == min
+                ? (from + to) / 2.0
+                : from + (value - min) / (max - min) * (to - from);
+    }
+
+    private static String format(final double value) {
+        return Double.isFinite(value)
+                ? String.format(Locale.ROOT, "%.4g", value)
+                : "n/a";
+    }
+
+    private static String html(final String text) {
+        return text.replace("&", "&amp;")
+                   .replace("<", "&lt;")
+                   .replace(">", "&gt;")
+                   .replace("\"", "&quot;");
+    }
+}
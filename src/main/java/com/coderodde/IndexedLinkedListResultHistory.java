@@ -0,0 +1,541 @@
+package com.coderodde;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.BenchmarkResult;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.util.ListStatistics;
+
+import com.github.coderodde.util.IndexedLinkedList;
+
+/**
+ * An append-only store of benchmark results with a comparator that flags
+ * statistically significant regressions between two recorded runs.
+ * <p>
+ * Every line of the history file is one benchmark of one run and holds
+ * tab-separated columns: the run id, the benchmark name, its parameters, the
+ * JVM, the {@code IndexedLinkedList} library version, the benchmark mode, the
+ * score unit and the per-iteration scores of all forks. Numbers are always
+ * written with {@link Locale#ROOT}, so the file reads the same on every
+ * machine.
+ * <p>
+ * Two runs are compared benchmark by benchmark on the name and the
+ * parameters, so a run on a new library version or JVM can be compared to a
+ * run on the previous one. A difference counts as significant when Welch's
+ * t-test rejects equal means at the requested confidence, which needs at
+ * least two iterations on both sides.
+ * <p>
+ * Usage: {@code IndexedLinkedListResultHistory [--history=FILE]
+ * [--confidence=0.99] [BASELINE_RUN [CANDIDATE_RUN]]}. Without run ids the
+ * recorded runs are listed. The candidate defaults to the latest run.
+ */
+public final class IndexedLinkedListResultHistory {
+
+    /** The history file used unless another one is given. */
+    static final String DEFAULT_HISTORY_FILE = "results-history.tsv";
+
+    /** The default confidence level of the regression test. */
+    static final double DEFAULT_CONFIDENCE = 0.99;
+
+    /** The run id that refers to the most recent run in the history. */
+    static final String LATEST_RUN = "latest";
+
+    private static final String HEADER =
+            "run\tbenchmark\tparams\tjvm\tlibrary\tmode\tunit\tscores";
+
+    private static final String LIBRARY_POM_PROPERTIES =
+            "/META-INF/maven/io.github.coderodde/IndexedLinkedList/"
+          + "pom.properties";
+
+    private static final String LIBRARY_VERSION_PROPERTY =
+            "indexedlinkedlist.version";
+
+    /**
+     * A single benchmark of a single recorded run.
+     */
+    static final class Record {
+
+        final String run;
+        final String benchmark;
+        final String params;
+        final String jvm;
+        final String library;
+        final String mode;
+        final String unit;
+        final double[] scores;
+
+        Record(final String run,
+               final String benchmark,
+               final String params,
+               final String jvm,
+               final String library,
+               final String mode,
+               final String unit,
+               final double[] scores) {
+            this.run = run;
+            this.benchmark = benchmark;
+            this.params = params;
+            this.jvm = jvm;
+            this.library = library;
+            this.mode = mode;
+            this.unit = unit;
+            this.scores = scores;
+        }
+
+        /**
+         * Returns the key two runs are matched on.
+         */
+        String getKey() {
+            return params.isEmpty() ? benchmark : benchmark + " " + params;
+        }
+
+        ListStatistics getStatistics() {
+            return new ListStatistics(scores);
+        }
+
+        /**
+         * Returns {@code true} if a lower score is better in this mode.
+         */
+        boolean isLowerBetter() {
+            return !mode.equals("thrpt");
+        }
+
+        String toLine() {
+            StringBuilder sb = new StringBuilder();
+
+            sb.append(run).append('\t')
+              .append(benchmark).append('\t')
+              .append(params).append('\t')
+              .append(jvm).append('\t')
+              .append(library).append('\t')
+              .append(mode).append('\t')
+              .append(unit).append('\t');
+
+            for (int i = 0; i < scores.length; ++i) {
+                if (i > 0) {
+                    sb.append(';');
+                }
+
+                sb.append(Double.toString(scores[i]));
+            }
+
+            return sb.toString();
+        }
+
+        static Record fromLine(final String line) {
+            String[] columns = line.split("\t", -1);
+
+            if (columns.length != 8) {
+                throw new IllegalArgumentException(
+                        "Malformed history line: " + line);
+            }
+
+            String[] scoreStrings = columns[7].split(";");
+            double[] scores = new double[scoreStrings.length];
+
+            for (int i = 0; i < scores.length; ++i) {
+                scores[i] = Double.parseDouble(scoreStrings[i]);
+            }
+
+            return new Record(columns[0],
+                              columns[1],
+                              columns[2],
+                              columns[3],
+                              columns[4],
+                              columns[5],
+                              columns[6],
+                              scores);
+        }
+    }
+
+    /**
+     * The verdict on a single benchmark present in both compared runs.
+     */
+    enum Verdict {
+        REGRESSION,
+        IMPROVEMENT,
+        UNCHANGED,
+        INCONCLUSIVE;
+    }
+
+    /**
+     * The comparison of a single benchmark in the baseline and the candidate
+     * runs.
+     */
+    static final class Comparison {
+
+        final Record baseline;
+        final Record candidate;
+        final double change;
+        final Verdict verdict;
+
+        Comparison(final Record baseline,
+                   final Record candidate,
+                   final double confidence) {
+            this.baseline = baseline;
+            this.candidate = candidate;
+
+            ListStatistics baselineStatistics = baseline.getStatistics();
+            ListStatistics candidateStatistics = candidate.getStatistics();
+            double baselineMean = baselineStatistics.getMean();
+            double candidateMean = candidateStatistics.getMean();
+
+            this.change = (candidateMean - baselineMean) / baselineMean;
+
+            if (baselineStatistics.getN() < 2
+                    || candidateStatistics.getN() < 2) {
+                this.verdict = Verdict.INCONCLUSIVE;
+            } else if (!baselineStatistics.isDifferent(candidateStatistics,
+                                                       confidence)) {
+                this.verdict = Verdict.UNCHANGED;
+            } else if ((candidateMean > baselineMean)
+                    == baseline.isLowerBetter()) {
+                this.verdict = Verdict.REGRESSION;
+            } else {
+                this.verdict = Verdict.IMPROVEMENT;
+            }
+        }
+    }
+
+    private final Path path;
+
+    IndexedLinkedListResultHistory(final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Appends the given results to the history as a new run.
+     *
+     * @param runResults the results to append.
+     * @return the id of the new run.
+     * @throws IOException if the history file cannot be written.
+     */
+    String append(final Collection<RunResult> runResults) throws IOException {
+        String run = Instant.now().toString();
+        String jvm = getJvm();
+        String library = getLibraryVersion();
+        boolean writeHeader = !Files.exists(path);
+
+        try (BufferedWriter writer =
+                Files.newBufferedWriter(path,
+                                        StandardCharsets.UTF_8,
+                                        StandardOpenOption.CREATE,
+                                        StandardOpenOption.APPEND)) {
+            if (writeHeader) {
+                writer.write(HEADER);
+                writer.newLine();
+            }
+
+            for (RunResult runResult : runResults) {
+                BenchmarkParams params = runResult.getParams();
+                Record record =
+                        new Record(run,
+                                   params.getBenchmark(),
+                                   getParams(params),
+                                   jvm,
+                                   library,
+                                   params.getMode().shortLabel(),
+                                   runResult.getPrimaryResult()
+                                            .getScoreUnit(),
+                                   getIterationScores(runResult));
+
+                writer.write(record.toLine());
+                writer.newLine();
+            }
+        }
+
+        return run;
+    }
+
+    /**
+     * Reads all records of the history, grouped by run id in the order the
+     * runs were appended.
+     *
+     * @return the records of each run.
+     * @throws IOException if the history file cannot be read.
+     */
+    Map<String, List<Record>> read() throws IOException {
+        Map<String, List<Record>> runs = new LinkedHashMap<>();
+
+        if (!Files.exists(path)) {
+            return runs;
+        }
+
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.isEmpty() || line.equals(HEADER)) {
+                continue;
+            }
+
+            Record record = Record.fromLine(line);
+            runs.computeIfAbsent(record.run, run -> new ArrayList<>())
+                .add(record);
+        }
+
+        return runs;
+    }
+
+    /**
+     * Returns the records of the given run. {@link #LATEST_RUN} refers to the
+     * most recent run.
+     *
+     * @param run the run id.
+     * @return the records of the run.
+     * @throws IOException if the history file cannot be read.
+     */
+    List<Record> readRun(final String run) throws IOException {
+        Map<String, List<Record>> runs = read();
+        List<Record> records = null;
+
+        if (run.equals(LATEST_RUN)) {
+            for (List<Record> runRecords : runs.values()) {
+                records = runRecords;
+            }
+        } else {
+            records = runs.get(run);
+        }
+
+        if (records == null) {
+            throw new IllegalArgumentException(
+                    "No run '" + run + "' in " + path);
+        }
+
+        return records;
+    }
+
+    /**
+     * Compares every benchmark present in both runs.
+     *
+     * @param baseline   the records of the baseline run.
+     * @param candidate  the records of the candidate run.
+     * @param confidence the confidence level of the test, such as 0.99.
+     * @return the comparisons sorted by benchmark and parameters.
+     */
+    static List<Comparison> compare(final List<Record> baseline,
+                                    final List<Record> candidate,
+                                    final double confidence) {
+        Map<String, Record> baselineMap = new TreeMap<>();
+
+        for (Record record : baseline) {
+            baselineMap.put(record.getKey(), record);
+        }
+
+        Map<String, Comparison> comparisons = new TreeMap<>();
+
+        for (Record record : candidate) {
+            Record baselineRecord = baselineMap.get(record.getKey());
+
+            if (baselineRecord != null) {
+                comparisons.put(record.getKey(),
+                                new Comparison(baselineRecord,
+                                               record,
+                                               confidence));
+            }
+        }
+
+        return new ArrayList<>(comparisons.values());
+    }
+
+    /**
+     * Prints the comparisons and returns the number of regressions among
+     * them.
+     *
+     * @param comparisons the comparisons to print.
+     * @return the number of significant regressions.
+     */
+    static int printComparisons(final List<Comparison> comparisons) {
+        int regressions = 0;
+
+        System.out.printf("| %50s | %20s | %12s | %12s | %8s | %12s |\n",
+                          "Benchmark",
+                          "Params",
+                          "Baseline",
+                          "Candidate",
+                          "Change",
+                          "Verdict");
+
+        for (Comparison comparison : comparisons) {
+            if (comparison.verdict == Verdict.REGRESSION) {
+                ++regressions;
+            }
+
+            System.out.printf(
+                    Locale.ROOT,
+                    "| %50s | %20s | %12.3f | %12.3f | %+7.1f%% | %12s |\n",
+                    getSimpleName(comparison.candidate.benchmark),
+                    comparison.candidate.params,
+                    comparison.baseline.getStatistics().getMean(),
+                    comparison.candidate.getStatistics().getMean(),
+                    100.0 * comparison.change,
+                    comparison.verdict);
+        }
+
+        System.out.printf("--- %d regression(s) in %d benchmark(s).\n",
+                          regressions,
+                          comparisons.size());
+
+        return regressions;
+    }
+
+    /**
+     * Returns the version of the {@code IndexedLinkedList} library on the
+     * class path. The version may be forced with the system property
+     * {@code indexedlinkedlist.version}; otherwise it is taken from the Maven
+     * metadata bundled with the library, then from the name of its jar.
+     *
+     * @return the library version, or {@code "unknown"}.
+     */
+    static String getLibraryVersion() {
+        String version = System.getProperty(LIBRARY_VERSION_PROPERTY);
+
+        if (version != null) {
+            return version;
+        }
+
+        try (InputStream in = IndexedLinkedList.class
+                .getResourceAsStream(LIBRARY_POM_PROPERTIES)) {
+            if (in != null) {
+                Properties properties = new Properties();
+                properties.load(in);
+                version = properties.getProperty("version");
+
+                if (version != null) {
+                    return version;
+                }
+            }
+        } catch (IOException ex) {
+            // Fall back to the jar name.
+        }
+
+        URL location = IndexedLinkedList.class.getProtectionDomain()
+                                              .getCodeSource()
+                                              .getLocation();
+
+        String fileName = Paths.get(location.getPath())
+                               .getFileName()
+                               .toString();
+
+        if (fileName.startsWith("IndexedLinkedList-")
+                && fileName.endsWith(".jar")) {
+            return fileName.substring("IndexedLinkedList-".length(),
+                                      fileName.length() - ".jar".length());
+        }
+
+        return "unknown";
+    }
+
+    static String getJvm() {
+        return System.getProperty("java.vm.name") + " "
+             + System.getProperty("java.vm.version");
+    }
+
+    /**
+     * Returns the parameters of the benchmark as {@code key=value} pairs
+     * sorted by key and separated by commas.
+     */
+    private static String getParams(final BenchmarkParams params) {
+        List<String> keys = new ArrayList<>(params.getParamsKeys());
+        StringBuilder sb = new StringBuilder();
+
+        Collections.sort(keys);
+
+        for (String key : keys) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+
+            sb.append(key).append('=').append(params.getParam(key));
+        }
+
+        return sb.toString();
+    }
+
+    private static double[] getIterationScores(final RunResult runResult) {
+        List<Double> scores = new ArrayList<>();
+
+        for (BenchmarkResult benchmarkResult
+                : runResult.getBenchmarkResults()) {
+            for (IterationResult iterationResult
+                    : benchmarkResult.getIterationResults()) {
+                scores.add(iterationResult.getPrimaryResult().getScore());
+            }
+        }
+
+        double[] array = new double[scores.size()];
+
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = scores.get(i);
+        }
+
+        return array;
+    }
+
+    private static String getSimpleName(final String benchmark) {
+        int index = benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1);
+        return benchmark.substring(index + 1);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(DEFAULT_HISTORY_FILE);
+        double confidence = DEFAULT_CONFIDENCE;
+        List<String> runs = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.startsWith("--history=")) {
+                path = Paths.get(arg.substring("--history=".length()));
+            } else if (arg.startsWith("--confidence=")) {
+                confidence = Double.parseDouble(
+                        arg.substring("--confidence=".length()));
+            } else {
+                runs.add(arg);
+            }
+        }
+
+        IndexedLinkedListResultHistory history =
+                new IndexedLinkedListResultHistory(path);
+
+        if (runs.isEmpty()) {
+            for (Map.Entry<String, List<Record>> entry
+                    : history.read().entrySet()) {
+                Record first = entry.getValue().get(0);
+                System.out.printf("%s  %3d benchmark(s)  library %s  %s\n",
+                                  entry.getKey(),
+                                  entry.getValue().size(),
+                                  first.library,
+                                  first.jvm);
+            }
+
+            return;
+        }
+
+        List<Record> baseline = history.readRun(runs.get(0));
+        List<Record> candidate =
+                history.readRun(runs.size() > 1 ? runs.get(1) : LATEST_RUN);
+
+        int regressions =
+                printComparisons(compare(baseline, candidate, confidence));
+
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.coderodde;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.BenchmarkList;
+import org.openjdk.jmh.runner.BenchmarkListEntry;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.format.OutputFormatFactory;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+/**
+ * Shards the benchmarks of {@link IndexedLinkedListPerformance} across
+ * several child JVMs that run concurrently, and merges their results.
+ * <p>
+ * The benchmark methods are dealt round-robin to the shards, so that every
+ * shard gets a similar mix of list families and scenarios. Each child JVM is
+ * pinned to its own contiguous range of CPUs with {@code taskset}, when
+ * available, and gets an equal share of the heap. A child runs its shard
+ * with the options of {@link IndexedLinkedListPerformance#createOptions} and
+ * serializes the results to a file the parent reads back once all children
+ * have exited. The output of each child goes to a log file in a temporary
+ * directory.
+ * <p>
+ * The children still share the memory bandwidth and the last-level caches
+ * of the machine, so the scores of a sharded run are comparable to other
+ * sharded runs with the same number of JVMs rather than to serial runs.
+ */
+public final class IndexedLinkedListScheduler {
+
+    /** Tells a child JVM where to write its results. */
+    private static final String SHARD_OPTION = "--shard=";
+
+    /** The heap of each child JVM, for example {@code --heap=4G}. */
+    private static final String HEAP_OPTION = "--heap=";
+
+    /** The largest heap given to a child JVM unless set explicitly. */
+    private static final long MAXIMUM_HEAP_MEGABYTES = 7 * 1024;
+
+    /** The share of the physical memory handed out to the child heaps. */
+    private static final double PHYSICAL_MEMORY_SHARE = 0.75;
+
+    private IndexedLinkedListScheduler() {
+    }
+
+    /**
+     * Runs the benchmarks matching {@code include} in {@code jvms} concurrent
+     * child JVMs and returns the results of all of them.
+     *
+     * @param include the JMH include pattern of the benchmarks.
+     * @param jvms    the number of child JVMs.
+     * @param args    the command line arguments, passed on to the children.
+     * @return the merged results.
+     * @throws IOException          if a child cannot be started or its
+     *                              results cannot be read.
+     * @throws InterruptedException if interrupted while waiting for the
+     *                              children.
+     */
+    static List<RunResult> run(String include, int jvms, String[] args)
+            throws IOException, InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        if (jvms < 1 || jvms > cores) {
+            throw new IllegalArgumentException(
+                    "The number of JVMs must be within [1, " + cores + "]: "
+                            + jvms);
+        }
+
+        List<List<String>> shards = createShards(getBenchmarks(include), jvms);
+        String heap = getHeap(jvms, args);
+        boolean pin = isTasksetAvailable();
+        Path directory = Files.createTempDirectory("benchmark-shards");
+        List<Process> processes = new ArrayList<>();
+
+        System.out.printf("--- Running %d shard(s) with -Xmx%s%s, logs in "
+                        + "%s\n",
+                          shards.size(),
+                          heap,
+                          pin ? ", pinned with taskset" : "",
+                          directory);
+
+        List<RunResult> runResults = new ArrayList<>();
+
+        // A failed shard ends the run; the other children would otherwise
+        // keep their cores and heaps for hours.
+        try {
+            for (int i = 0; i < shards.size(); ++i) {
+                List<String> command = new ArrayList<>();
+
+                if (pin) {
+                    command.add("taskset");
+                    command.add("-c");
+                    command.add(getCpuSet(i, shards.size(), cores));
+                }
+
+                command.add(Paths.get(System.getProperty("java.home"),
+                                      "bin",
+                                      "java").toString());
+                command.add("-server");
+                command.add("-Xms" + heap);
+                command.add("-Xmx" + heap);
+                // JMH guards against concurrent runs with a machine-wide
+                // lock.
+                command.add("-Djmh.ignoreLock=true");
+                command.add("-cp");
+                command.add(System.getProperty("java.class.path"));
+                command.add(IndexedLinkedListScheduler.class.getName());
+                command.add(SHARD_OPTION + getResultFile(directory, i));
+                command.addAll(Arrays.asList(args));
+                command.addAll(shards.get(i));
+
+                processes.add(new ProcessBuilder(command)
+                        .redirectErrorStream(true)
+                        .redirectOutput(getLogFile(directory, i).toFile())
+                        .start());
+            }
+
+            for (int i = 0; i < processes.size(); ++i) {
+                int exitCode = processes.get(i).waitFor();
+
+                if (exitCode != 0) {
+                    throw new IllegalStateException(
+                            "Shard " + i + " exited with " + exitCode
+                                    + ", see " + getLogFile(directory, i));
+                }
+
+                runResults.addAll(readResults(getResultFile(directory, i)));
+            }
+        } finally {
+            for (Process process : processes) {
+                if (process.isAlive()) {
+                    process.destroyForcibly();
+                }
+            }
+        }
+
+        return runResults;
+    }
+
+    /**
+     * Runs a single shard. The arguments are those of
+     * {@link IndexedLinkedListPerformance#main} followed by
+     * {@code --shard=FILE} and the full names of the benchmarks to run.
+     */
+    public static void main(String[] args) throws Exception {
+        ChainedOptionsBuilder optionsBuilder =
+                IndexedLinkedListPerformance.createOptions(args);
+        Path resultFile = null;
+
+        for (String arg : args) {
+            if (arg.startsWith(SHARD_OPTION)) {
+                resultFile = Paths.get(arg.substring(SHARD_OPTION.length()));
+            } else if (!arg.startsWith("--")) {
+                optionsBuilder.include("^" + Pattern.quote(arg) + "$");
+            }
+        }
+
+        if (resultFile == null) {
+            throw new IllegalArgumentException(
+                    "Missing " + SHARD_OPTION + "FILE");
+        }
+
+        List<RunResult> runResults =
+                new ArrayList<>(new Runner(optionsBuilder.build()).run());
+
+        try (OutputStream out = Files.newOutputStream(resultFile);
+             ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+            objectOut.writeObject(runResults);
+        }
+    }
+
+    /**
+     * Returns the full names of the compiled benchmarks matching
+     * {@code include}, sorted.
+     */
+    static List<String> getBenchmarks(String include) {
+        SortedSet<BenchmarkListEntry> entries =
+                BenchmarkList.defaultList().find(
+                        OutputFormatFactory.createFormatInstance(
+                                System.out,
+                                VerboseMode.SILENT),
+                        Collections.singletonList(include),
+                        Collections.emptyList());
+
+        List<String> benchmarks = new ArrayList<>();
+
+        for (BenchmarkListEntry entry : entries) {
+            if (!benchmarks.contains(entry.getUsername())) {
+                benchmarks.add(entry.getUsername());
+            }
+        }
+
+        Collections.sort(benchmarks);
+        return benchmarks;
+    }
+
+    /**
+     * Deals the benchmarks round-robin to at most {@code count} non-empty
+     * shards.
+     */
+    static List<List<String>> createShards(List<String> benchmarks,
+                                           int count) {
+        List<List<String>> shards = new ArrayList<>();
+
+        for (int i = 0; i < Math.min(count, benchmarks.size()); ++i) {
+            shards.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < benchmarks.size(); ++i) {
+            shards.get(i % shards.size()).add(benchmarks.get(i));
+        }
+
+        return shards;
+    }
+
+    /**
+     * Returns the {@code taskset} CPU list of the {@code shard}th of
+     * {@code shards} JVMs. Leftover CPUs go to the first shards.
+     */
+    static String getCpuSet(int shard, int shards, int cores) {
+        int cpus = cores / shards;
+        int extra = cores % shards;
+        int first = shard * cpus + Math.min(shard, extra);
+        int last = first + cpus - 1 + (shard < extra ? 1 : 0);
+        return first == last ? Integer.toString(first) : first + "-" + last;
+    }
+
+    /**
+     * Returns the heap size of each child JVM: the {@code --heap=} argument
+     * if given, otherwise an equal share of three quarters of the physical
+     * memory, capped at the 7G the serial run uses.
+     */
+    private static String getHeap(int jvms, String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith(HEAP_OPTION)) {
+                return arg.substring(HEAP_OPTION.length());
+            }
+        }
+
+        com.sun.management.OperatingSystemMXBean os =
+                (com.sun.management.OperatingSystemMXBean)
+                        ManagementFactory.getOperatingSystemMXBean();
+
+        long megabytes = (long) (os.getTotalMemorySize()
+                                * PHYSICAL_MEMORY_SHARE
+                                / jvms
+                                / (1024 * 1024));
+
+        return Math.min(megabytes, MAXIMUM_HEAP_MEGABYTES) + "m";
+    }
+
+    private static boolean isTasksetAvailable() {
+        for (String directory
+                : System.getenv().getOrDefault("PATH", "")
+                                 .split(File.pathSeparator)) {
+            if (Files.isExecutable(Paths.get(directory, "taskset"))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Path getResultFile(Path directory, int shard) {
+        return directory.resolve("shard-" + shard + ".ser");
+    }
+
+    private static Path getLogFile(Path directory, int shard) {
+        return directory.resolve("shard-" + shard + ".log");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<RunResult> readResults(Path resultFile)
+            throws IOException {
+        try (InputStream in = Files.newInputStream(resultFile);
+             ObjectInputStream objectIn = new ObjectInputStream(in)) {
+            return (List<RunResult>) objectIn.readObject();
+        } catch (ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.coderodde;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Checkpointing a list to a file and reading it back, with Java
+ * serialization through buffered object streams and with
+ * {@link IndexedListCodec} through a {@link FileChannel}. The read
+ * benchmarks rebuild a list of the same type, so their scores cover decoding
+ * and relinking together.
+ * <p>
+ * A list type that is not {@link Serializable}, such as
+ * {@link org.apache.commons.collections4.list.TreeList}, is serialized as an
+ * {@link ArrayList} copy and rebuilt with {@code addAll}, which is what a
+ * checkpoint of it would have to do.
+ * <p>
+ * The values are either {@code sequential}, {@code 0, 1, 2, ...}, or
+ * {@code random} within {@code [0, 4 * size)}. {@link #main} prints the
+ * number of bytes each format takes before running the suite.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms4G", "-Xmx4G"})
+public class IndexedLinkedListSerializationPerformance {
+
+    private static final String[] LIST_TYPES = {
+        "ArrayList",
+        "LinkedList",
+        "TreeList",
+        "IndexedLinkedList",
+    };
+
+    private static final String[] VALUE_PATTERNS = {"sequential", "random"};
+
+    /** Checkpoint benchmark state. */
+    @State(Scope.Thread)
+    public static class CheckpointState {
+
+        /** The number of elements in the list. */
+        @Param({"100000", "1000000", "5000000"})
+        private int size;
+
+        /** The list implementation under test. */
+        @Param({"ArrayList", "LinkedList", "TreeList", "IndexedLinkedList"})
+        private String listType;
+
+        /** The pattern of the element values. */
+        @Param({"sequential", "random"})
+        private String values;
+
+        @Param("13")
+        private long seed;
+
+        private List<Integer> list;
+        private Path directory;
+        private Path javaFile;
+        private Path codecFile;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            list = createList(listType, values, size, seed);
+            directory = Files.createTempDirectory("checkpoint");
+            javaFile = directory.resolve("list.ser");
+            codecFile = directory.resolve("list.ilc");
+            writeJava(list, javaFile);
+            writeCodec(list, codecFile);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(javaFile);
+            Files.deleteIfExists(codecFile);
+            Files.deleteIfExists(directory);
+        }
+
+        public List<Integer> getList() {
+            return list;
+        }
+
+        public Path getJavaFile() {
+            return javaFile;
+        }
+
+        public Path getCodecFile() {
+            return codecFile;
+        }
+
+        public List<Integer> newList() {
+            return IndexedLinkedListConcurrencyPerformance
+                    .<Integer>createList(listType)
+                    .get();
+        }
+    }
+
+    @Benchmark
+    public long javaWrite(final CheckpointState state) throws IOException {
+        return writeJava(state.getList(), state.getJavaFile());
+    }
+
+    @Benchmark
+    public long codecWrite(final CheckpointState state) throws IOException {
+        return writeCodec(state.getList(), state.getCodecFile());
+    }
+
+    @Benchmark
+    public List<Integer> javaRead(final CheckpointState state)
+            throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new BufferedInputStream(
+                        Files.newInputStream(state.getJavaFile())))) {
+            @SuppressWarnings("unchecked")
+            final List<Integer> read = (List<Integer>) in.readObject();
+
+            if (state.getList() instanceof Serializable) {
+                return read;
+            }
+
+            final List<Integer> list = state.newList();
+            list.addAll(read);
+            return list;
+        }
+    }
+
+    @Benchmark
+    public List<Integer> codecRead(final CheckpointState state)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(state.getCodecFile())) {
+            return IndexedListCodec.read(channel, state.newList());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        printFileSizes(1_000_000);
+
+        final Options opt = new OptionsBuilder()
+                .include("\\."
+                       + IndexedLinkedListSerializationPerformance.class
+                                                            .getSimpleName()
+                       + "\\.")
+                .build();
+
+        printResults(new Runner(opt).run());
+    }
+
+    private static List<Integer> createList(final String listType,
+                                            final String values,
+                                            final int size,
+                                            final long seed) {
+        final List<Integer> list = IndexedLinkedListConcurrencyPerformance
+                .<Integer>createList(listType)
+                .get();
+        final List<Integer> content = new ArrayList<>(size);
+        final Random random = new Random(seed);
+
+        for (int i = 0; i < size; ++i) {
+            switch (values) {
+                case "sequential":
+                    content.add(i);
+                    break;
+
+                case "random":
+                    content.add(random.nextInt(4 * size));
+                    break;
+
+                default:
+                    throw new IllegalArgumentException(
+                            "Unknown value pattern: " + values);
+            }
+        }
+
+        list.addAll(content);
+        return list;
+    }
+
+    /** Writes {@code list} with Java serialization.
+     * @return number of bytes written
+     */
+    private static long writeJava(final List<Integer> list, final Path file)
+            throws IOException {
+        try (ObjectOutputStream out = new ObjectOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeObject(list instanceof Serializable
+                    ? list
+                    : new ArrayList<>(list));
+        }
+
+        return Files.size(file);
+    }
+
+    /** Writes {@code list} with {@link IndexedListCodec}.
+     * @return number of bytes written
+     */
+    private static long writeCodec(final List<Integer> list, final Path file)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            IndexedListCodec.write(list, channel);
+            return channel.size();
+        }
+    }
+
+    private static void printFileSizes(final int size) throws IOException {
+        final Path directory = Files.createTempDirectory("checkpoint");
+        final Path file = directory.resolve("list");
+
+        System.out.printf("| %17s | %10s | %8s | %12s | %12s |\n",
+                          "List",
+                          "Values",
+                          "Size",
+                          "Java bytes",
+                          "Codec bytes");
+
+        try {
+            for (final String listType : LIST_TYPES) {
+                for (final String values : VALUE_PATTERNS) {
+                    final List<Integer> list =
+                            createList(listType, values, size, 13L);
+
+                    System.out.printf("| %17s | %10s | %8d | %12d | %12d |\n",
+                                      listType,
+                                      values,
+                                      size,
+                                      writeJava(list, file),
+                                      writeCodec(list, file));
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static void printResults(final Collection<RunResult> runResults) {
+        System.out.printf("| %10s | %17s | %10s | %8s | %10s |\n",
+                          "Benchmark",
+                          "List",
+                          "Values",
+                          "Size",
+                          "ms/op");
+
+        for (final RunResult rr : runResults) {
+            System.out.printf("| %10s | %17s | %10s | %8s | %10.3f |\n",
+                              rr.getPrimaryResult().getLabel(),
+                              rr.getParams().getParam("listType"),
+                              rr.getParams().getParam("values"),
+                              rr.getParams().getParam("size"),
+                              rr.getPrimaryResult().getScore());
+        }
+    }
+}
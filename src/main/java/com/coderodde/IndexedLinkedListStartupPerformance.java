@@ -0,0 +1,158 @@
+package com.coderodde;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.coderodde.util.IndexedLinkedList;
+
+/**
+ * Startup cost of a large positional list: rebuilding it with one
+ * {@code add} call per element, as the {@code setup()} methods of
+ * {@link IndexedLinkedListPerformance} do and as a service does after a
+ * restart, against reopening a {@link MappedIntList} written before. Every
+ * benchmark ends with one {@code get} in the middle of the list, so the
+ * list is usable when the measurement stops.
+ * <p>
+ * The reopened file is in the page cache of the operating system, so the
+ * reopen scores cover mapping the file and reading its chunk index, not
+ * reading the values from the storage device.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms4G", "-Xmx4G"})
+public class IndexedLinkedListStartupPerformance {
+
+    /** Startup benchmark state. */
+    @State(Scope.Thread)
+    public static class StartupState {
+
+        /** The number of elements in the list. */
+        @Param({"1000000", "10000000"})
+        private int size;
+
+        private Path directory;
+        private Path storedList;
+        private Path rebuiltList;
+        private MappedIntList openList;
+
+        @Setup(Level.Trial)
+        public void setupTrial() throws IOException {
+            directory = Files.createTempDirectory("startup");
+            storedList = directory.resolve("stored.list");
+            rebuiltList = directory.resolve("rebuilt.list");
+
+            try (MappedIntList list = MappedIntList.create(storedList)) {
+                for (int i = 0; i < size; ++i) {
+                    list.addInt(i);
+                }
+            }
+        }
+
+        /** Closes the list opened by the last invocation, outside of the
+         * measurement.
+         */
+        @TearDown(Level.Invocation)
+        public void closeList() throws IOException {
+            if (openList != null) {
+                openList.close();
+                openList = null;
+            }
+
+            Files.deleteIfExists(rebuiltList);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDownTrial() throws IOException {
+            Files.deleteIfExists(storedList);
+            Files.deleteIfExists(rebuiltList);
+            Files.deleteIfExists(directory);
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public Path getStoredList() {
+            return storedList;
+        }
+
+        public Path getRebuiltList() {
+            return rebuiltList;
+        }
+
+        public void setOpenList(final MappedIntList openList) {
+            this.openList = openList;
+        }
+    }
+
+    @Benchmark
+    public Integer rebuildArrayList(final StartupState state) {
+        return rebuild(new ArrayList<>(), state.getSize());
+    }
+
+    @Benchmark
+    public Integer rebuildIndexedLinkedList(final StartupState state) {
+        return rebuild(new IndexedLinkedList<>(), state.getSize());
+    }
+
+    @Benchmark
+    public int rebuildIntIndexedLinkedList(final StartupState state) {
+        final IntIndexedLinkedList list = new IntIndexedLinkedList();
+
+        for (int i = 0; i < state.getSize(); ++i) {
+            list.addInt(i);
+        }
+
+        return list.getInt(list.size() / 2);
+    }
+
+    @Benchmark
+    public int rebuildMappedIntList(final StartupState state)
+            throws IOException {
+        final MappedIntList list =
+                MappedIntList.create(state.getRebuiltList());
+        state.setOpenList(list);
+
+        for (int i = 0; i < state.getSize(); ++i) {
+            list.addInt(i);
+        }
+
+        return list.getInt(list.size() / 2);
+    }
+
+    @Benchmark
+    public int reopenMappedIntList(final StartupState state)
+            throws IOException {
+        final MappedIntList list = MappedIntList.open(state.getStoredList());
+        state.setOpenList(list);
+        return list.getInt(list.size() / 2);
+    }
+
+    private static Integer rebuild(final List<Integer> list, final int size) {
+        for (int i = 0; i < size; ++i) {
+            list.add(i);
+        }
+
+        return list.get(list.size() / 2);
+    }
+}
@@ -0,0 +1,561 @@
+package com.coderodde;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Replays an operation trace recorded with {@link TraceRecordingList}
+ * against each contender list. The trace is memory-mapped and decoded in
+ * place, and the elements, bulk collections and removal sets the trace
+ * calls for are prepared in the trial setup. The replay itself allocates
+ * only what the replayed operations allocate in the list under test, such
+ * as its iterators and {@code subList} views and the arrays of
+ * {@code toArray()}. Every invocation starts from a list refilled to the
+ * size the recording started at.
+ * <p>
+ * The trace holds positions, not elements, so the replay gives every element
+ * a distinct value. The trial setup replays the trace once against an
+ * {@link ArrayList} and resolves each recorded {@code remove(Object)},
+ * {@code indexOf} and {@code lastIndexOf} to the value at the recorded
+ * index, or to a value missing from the list. The replay then calls these
+ * methods of the list under test with those values, so every contender runs
+ * its own lookup. A lookup recorded on a {@code subList} view is replayed on
+ * the whole list, where the distinct value resolves to the same index.
+ * <p>
+ * The {@code trace} parameter is the path of the trace file. When empty, a
+ * synthetic trace is recorded in the trial setup: a cursor wandering over a
+ * list of {@value #SYNTHETIC_INITIAL_SIZE} elements with reads, writes,
+ * short iterations and lookups near the cursor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx2G"})
+public class IndexedLinkedListTraceReplayPerformance {
+
+    /** The number of distinct elements of the synthetic recording. */
+    private static final int ELEMENT_POOL_SIZE = 1024;
+
+    /** The elements of the synthetic recording, in a fixed shuffled order. */
+    private static final Integer[] ELEMENTS = createValues(ELEMENT_POOL_SIZE);
+
+    /** Stands in for the element of a lookup that found nothing. */
+    private static final Integer MISSING = -1;
+
+    private static final int SYNTHETIC_INITIAL_SIZE = 10_000;
+
+    private static final int SYNTHETIC_OPERATIONS = 20_000;
+
+    /** How far the synthetic cursor moves between two operations. */
+    private static final int SYNTHETIC_CURSOR_RADIUS = 64;
+
+    private static final int SYNTHETIC_ITERATION_LENGTH = 16;
+
+    private static final int SYNTHETIC_BULK_SIZE = 32;
+
+    /** Trace replay benchmark state. */
+    @State(Scope.Benchmark)
+    public static class TraceState {
+
+        /** The trace file, or empty for a synthetic trace. */
+        @Param({""})
+        private String trace;
+
+        /** The list implementation under test. */
+        @Param({"ArrayList", "LinkedList", "TreeList", "IndexedLinkedList"})
+        private String listType;
+
+        private Path syntheticTrace;
+        private ByteBuffer buffer;
+        private List<Integer> initialContent;
+
+        /** The distinct values of the elements the replay inserts. */
+        private Integer[] values;
+        private List<List<Integer>> bulks;
+        private List<BitSet> removals;
+
+        /** The values the lookups of the trace look for, in trace order. */
+        private Integer[] lookups;
+        private final RemovalPredicate predicate = new RemovalPredicate();
+        private List<Integer> list;
+
+        @Setup(Level.Trial)
+        public void setupTrial(final Blackhole bh) throws IOException {
+            Path path;
+
+            if (trace.isEmpty()) {
+                syntheticTrace = Files.createTempFile("synthetic", ".trace");
+                createSyntheticTrace(syntheticTrace);
+                path = syntheticTrace;
+            } else {
+                path = Paths.get(trace);
+            }
+
+            buffer = map(path);
+            prepareOperands(readHeader(buffer));
+            resolveLookups(bh);
+            list = IndexedLinkedListConcurrencyPerformance
+                    .<Integer>createList(listType)
+                    .get();
+        }
+
+        @Setup(Level.Invocation)
+        public void refill() {
+            list.clear();
+            list.addAll(initialContent);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDownTrial() throws IOException {
+            if (syntheticTrace != null) {
+                Files.deleteIfExists(syntheticTrace);
+            }
+        }
+
+        /**
+         * Creates the initial content, the collections of the bulk
+         * insertions and the removal sets of the bulk removals of the trace,
+         * in trace order. Every element gets a value of its own.
+         */
+        private void prepareOperands(final int initialSize) {
+            final ByteBuffer trace = buffer.duplicate();
+            final List<Integer> bulkSizes = new ArrayList<>();
+            int insertions = 0;
+            int lookupCount = 0;
+            removals = new ArrayList<>();
+            trace.position(TraceRecordingList.HEADER_SIZE);
+
+            while (trace.hasRemaining()) {
+                final byte operation = trace.get();
+
+                switch (operation) {
+                    case TraceRecordingList.ADD:
+                    case TraceRecordingList.ITERATOR_SET:
+                    case TraceRecordingList.ITERATOR_ADD:
+                        ++insertions;
+                        break;
+
+                    case TraceRecordingList.ADD_AT:
+                    case TraceRecordingList.SET:
+                        trace.getInt();
+                        ++insertions;
+                        break;
+
+                    case TraceRecordingList.ADD_ALL:
+                        bulkSizes.add(trace.getInt());
+                        break;
+
+                    case TraceRecordingList.ADD_ALL_AT:
+                        trace.getInt();
+                        bulkSizes.add(trace.getInt());
+                        break;
+
+                    case TraceRecordingList.REMOVE_OBJECT:
+                    case TraceRecordingList.INDEX_OF:
+                    case TraceRecordingList.LAST_INDEX_OF:
+                        trace.getInt();
+                        ++lookupCount;
+                        break;
+
+                    case TraceRecordingList.REMOVE_IF:
+                        final BitSet removed = new BitSet();
+                        final int count = trace.getInt();
+
+                        for (int i = 0; i < count; ++i) {
+                            removed.set(trace.getInt());
+                        }
+
+                        removals.add(removed);
+                        break;
+
+                    default:
+                        trace.position(trace.position()
+                                + Integer.BYTES * TraceRecordingList
+                                        .getOperandCount(operation));
+                }
+            }
+
+            final int bulkElements = bulkSizes.stream()
+                                              .mapToInt(Integer::intValue)
+                                              .sum();
+            final Integer[] all =
+                    createValues(initialSize + insertions + bulkElements);
+            int next = 0;
+
+            initialContent = new ArrayList<>(initialSize);
+
+            while (next < initialSize) {
+                initialContent.add(all[next++]);
+            }
+
+            values = Arrays.copyOfRange(all, next, next + insertions);
+            next += insertions;
+            bulks = new ArrayList<>(bulkSizes.size());
+
+            for (final int bulkSize : bulkSizes) {
+                bulks.add(new ArrayList<>(
+                        Arrays.asList(all).subList(next, next + bulkSize)));
+                next += bulkSize;
+            }
+
+            lookups = new Integer[lookupCount];
+        }
+
+        /**
+         * Replays the trace once against an {@link ArrayList} to find the
+         * value each lookup of the trace looks for.
+         */
+        private void resolveLookups(final Blackhole bh) {
+            final List<Integer> shadow = new ArrayList<>(initialContent);
+            replay(this, shadow, bh, true);
+        }
+    }
+
+    /**
+     * Removes the elements at the positions in a removal set, assuming the
+     * list tests its elements in list order.
+     */
+    private static final class RemovalPredicate implements Predicate<Integer> {
+
+        private BitSet removed;
+        private int position;
+
+        void reset(final BitSet removed) {
+            this.removed = removed;
+            this.position = 0;
+        }
+
+        @Override
+        public boolean test(final Integer element) {
+            return removed.get(position++);
+        }
+    }
+
+    @Benchmark
+    public void replay(final TraceState state, final Blackhole bh) {
+        replay(state, state.list, bh, false);
+    }
+
+    /**
+     * Replays the trace of {@code state} against {@code list}. With
+     * {@code resolve} set, each lookup first stores the value at its recorded
+     * index, or {@link #MISSING}, in {@code state.lookups}.
+     */
+    private static void replay(final TraceState state,
+                               final List<Integer> list,
+                               final Blackhole bh,
+                               final boolean resolve) {
+        final ByteBuffer trace = state.buffer;
+        final Integer[] values = state.values;
+        final Integer[] lookups = state.lookups;
+        ListIterator<Integer> iterator = null;
+        int element = 0;
+        int bulk = 0;
+        int removal = 0;
+        int lookup = 0;
+        int index;
+        int count;
+
+        trace.position(TraceRecordingList.HEADER_SIZE);
+
+        while (trace.hasRemaining()) {
+            switch (trace.get()) {
+                case TraceRecordingList.ADD:
+                    list.add(values[element++]);
+                    break;
+
+                case TraceRecordingList.ADD_AT:
+                    list.add(trace.getInt(),
+                             values[element++]);
+                    break;
+
+                case TraceRecordingList.ADD_ALL:
+                    trace.getInt();
+                    list.addAll(state.bulks.get(bulk++));
+                    break;
+
+                case TraceRecordingList.ADD_ALL_AT:
+                    index = trace.getInt();
+                    trace.getInt();
+                    list.addAll(index, state.bulks.get(bulk++));
+                    break;
+
+                case TraceRecordingList.GET:
+                    bh.consume(list.get(trace.getInt()));
+                    break;
+
+                case TraceRecordingList.SET:
+                    bh.consume(list.set(trace.getInt(),
+                            values[element++]));
+                    break;
+
+                case TraceRecordingList.REMOVE_AT:
+                    bh.consume(list.remove(trace.getInt()));
+                    break;
+
+                case TraceRecordingList.REMOVE_OBJECT:
+                    index = trace.getInt();
+
+                    if (resolve) {
+                        lookups[lookup] = resolve(list, index);
+                    }
+
+                    bh.consume(list.remove(lookups[lookup++]));
+                    break;
+
+                case TraceRecordingList.INDEX_OF:
+                    index = trace.getInt();
+
+                    if (resolve) {
+                        lookups[lookup] = resolve(list, index);
+                    }
+
+                    bh.consume(list.indexOf(lookups[lookup++]));
+                    break;
+
+                case TraceRecordingList.LAST_INDEX_OF:
+                    index = trace.getInt();
+
+                    if (resolve) {
+                        lookups[lookup] = resolve(list, index);
+                    }
+
+                    bh.consume(list.lastIndexOf(lookups[lookup++]));
+                    break;
+
+                case TraceRecordingList.REMOVE_RANGE:
+                    index = trace.getInt();
+                    count = trace.getInt();
+                    list.subList(index, index + count).clear();
+                    break;
+
+                case TraceRecordingList.CLEAR:
+                    list.clear();
+                    break;
+
+                case TraceRecordingList.SORT:
+                    index = trace.getInt();
+                    count = trace.getInt();
+                    list.subList(index, index + count).sort(null);
+                    break;
+
+                case TraceRecordingList.REMOVE_IF:
+                    count = trace.getInt();
+                    trace.position(trace.position() + Integer.BYTES * count);
+                    state.predicate.reset(state.removals.get(removal++));
+                    bh.consume(list.removeIf(state.predicate));
+                    break;
+
+                case TraceRecordingList.TO_ARRAY:
+                    bh.consume(list.toArray());
+                    break;
+
+                case TraceRecordingList.LIST_ITERATOR:
+                    iterator = list.listIterator(trace.getInt());
+                    break;
+
+                case TraceRecordingList.NEXT:
+                    bh.consume(iterator.next());
+                    break;
+
+                case TraceRecordingList.PREVIOUS:
+                    bh.consume(iterator.previous());
+                    break;
+
+                case TraceRecordingList.ITERATOR_REMOVE:
+                    iterator.remove();
+                    break;
+
+                case TraceRecordingList.ITERATOR_SET:
+                    iterator.set(values[element++]);
+                    break;
+
+                case TraceRecordingList.ITERATOR_ADD:
+                    iterator.add(values[element++]);
+                    break;
+
+                default:
+                    throw new IllegalStateException(
+                            "Unknown trace operation at "
+                                    + (trace.position() - 1));
+            }
+        }
+    }
+
+    private static Integer resolve(final List<Integer> list,
+                                   final int index) {
+        return index < 0 ? MISSING : list.get(index);
+    }
+
+    /**
+     * Maps the whole trace file read-only and checks its header. The mapping
+     * stays valid after the channel is closed.
+     */
+    static ByteBuffer map(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                                                    StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer =
+                    channel.map(FileChannel.MapMode.READ_ONLY,
+                                0L,
+                                channel.size());
+            buffer.load();
+            return buffer;
+        }
+    }
+
+    /**
+     * Checks the trace header and returns the list size the recording
+     * started at.
+     */
+    static int readHeader(final ByteBuffer buffer) {
+        if (buffer.limit() < TraceRecordingList.HEADER_SIZE
+                || buffer.getInt(0) != TraceRecordingList.MAGIC) {
+            throw new IllegalArgumentException("Not an operation trace.");
+        }
+
+        if (buffer.getInt(Integer.BYTES) != TraceRecordingList.VERSION) {
+            throw new IllegalArgumentException(
+                    "Unsupported trace version: "
+                            + buffer.getInt(Integer.BYTES));
+        }
+
+        return buffer.getInt(2 * Integer.BYTES);
+    }
+
+    private static List<Integer> createBulk(final int size,
+                                            final int first) {
+        final List<Integer> bulk = new ArrayList<>(size);
+
+        for (int i = 0; i < size; ++i) {
+            bulk.add(ELEMENTS[(first + i) % ELEMENT_POOL_SIZE]);
+        }
+
+        return bulk;
+    }
+
+    /** Returns the values {@code [0, count)} in a fixed shuffled order. */
+    private static Integer[] createValues(final int count) {
+        final List<Integer> values = new ArrayList<>(count);
+
+        for (int i = 0; i < count; ++i) {
+            values.add(i);
+        }
+
+        Collections.shuffle(values, new Random(13L));
+        return values.toArray(new Integer[0]);
+    }
+
+    /**
+     * Records a synthetic trace into {@code path}: a cursor wandering over
+     * the list with reads, writes, short iterations and lookups near it, and
+     * an occasional jump to a random position.
+     */
+    static void createSyntheticTrace(final Path path) throws IOException {
+        final Random random = new Random(13L);
+        final List<Integer> content = new ArrayList<>();
+
+        for (int i = 0; i < SYNTHETIC_INITIAL_SIZE; ++i) {
+            content.add(ELEMENTS[i % ELEMENT_POOL_SIZE]);
+        }
+
+        try (TraceRecordingList<Integer> list =
+                new TraceRecordingList<>(content, path)) {
+            int cursor = list.size() / 2;
+
+            for (int op = 0; op < SYNTHETIC_OPERATIONS; ++op) {
+                if (random.nextInt(100) == 0) {
+                    cursor = random.nextInt(list.size());
+                } else {
+                    cursor += random.nextInt(2 * SYNTHETIC_CURSOR_RADIUS + 1)
+                            - SYNTHETIC_CURSOR_RADIUS;
+                }
+
+                cursor = Math.max(0, Math.min(list.size() - 1, cursor));
+
+                final int choice = random.nextInt(100);
+                final Integer element = ELEMENTS[op % ELEMENT_POOL_SIZE];
+
+                if (choice < 40) {
+                    list.get(cursor);
+                } else if (choice < 55) {
+                    list.add(cursor, element);
+                } else if (choice < 70) {
+                    list.remove(cursor);
+                } else if (choice < 80) {
+                    list.set(cursor, element);
+                } else if (choice < 90) {
+                    final ListIterator<Integer> iterator =
+                            list.listIterator(cursor);
+
+                    for (int i = 0;
+                            i < SYNTHETIC_ITERATION_LENGTH
+                                    && iterator.hasNext();
+                            ++i) {
+                        if (iterator.next() % 4 == 0) {
+                            iterator.remove();
+                        }
+                    }
+                } else if (choice < 95) {
+                    list.addAll(cursor,
+                                createBulk(SYNTHETIC_BULK_SIZE, op));
+                } else {
+                    list.contains(element);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replays the trace given as the first argument, or a synthetic trace,
+     * against every contender.
+     */
+    public static void main(String[] args) throws Exception {
+        final ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
+                .include("\\."
+                       + IndexedLinkedListTraceReplayPerformance.class
+                                                                .getSimpleName()
+                       + "\\.");
+
+        if (args.length > 0) {
+            optionsBuilder.param("trace", Paths.get(args[0])
+                                               .toAbsolutePath()
+                                               .toString());
+        }
+
+        new Runner(optionsBuilder.build()).run();
+    }
+}
@@ -0,0 +1,231 @@
+package com.coderodde;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import com.coderodde.IndexedLinkedListConcurrencyPerformance.GuardedList;
+
+/**
+ * Request simulation over a list shared by thousands of virtual threads.
+ * Every request is a virtual thread started by
+ * {@link Executors#newVirtualThreadPerTaskExecutor()} that performs
+ * {@value #OPERATIONS_PER_REQUEST} operations on the shared list: a
+ * {@code get(int)} three times out of four, and otherwise an
+ * {@code add(int, E)} followed by a {@code remove(int)}, so the list keeps
+ * its length. The list is guarded either by a monitor, through
+ * {@link java.util.Collections#synchronizedList(List)}, or by a
+ * {@link java.util.concurrent.locks.ReentrantLock}.
+ * <p>
+ * A virtual thread blocked on a monitor keeps its carrier thread, while one
+ * waiting for a {@code ReentrantLock} releases it. For every list and guard,
+ * {@link #main} reports the requests per second, the percentiles of the
+ * request latencies, measured from the submission of a request to its
+ * completion, and how often and for how long virtual threads blocked their
+ * carriers on the monitor in the measured rounds. The last two come from the
+ * {@code jdk.JavaMonitorEnter} events of virtual threads in a flight
+ * recording, one event per contended monitor entry. The
+ * {@code jdk.VirtualThreadPinned} event would not do: it fires only when a
+ * pinned virtual thread parks, and a virtual thread blocked on a monitor
+ * does not park. This is not a JMH benchmark: JMH cannot report
+ * percentiles of a custom distribution or the contents of a flight
+ * recording, so the rounds are timed directly.
+ */
+public class IndexedLinkedListVirtualThreadPerformance {
+
+    /** The number of requests in a round. */
+    static final int REQUESTS_PER_ROUND = 10_000;
+
+    /** The number of list operations in a request. */
+    static final int OPERATIONS_PER_REQUEST = 8;
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASUREMENT_ROUNDS = 5;
+
+    private static final int[] SIZES = {10_000, 100_000};
+
+    private static final String[] LIST_TYPES = {
+        "ArrayList",
+        "LinkedList",
+        "TreeList",
+        "IndexedLinkedList",
+    };
+
+    private static final String[] GUARDS = {"synchronized", "reentrantLock"};
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf(
+                "| %17s | %13s | %7s | %10s | %9s | %9s | %9s | %9s "
+                        + "| %8s | %10s |\n",
+                "List",
+                "Guard",
+                "Size",
+                "Requests/s",
+                "p50 us",
+                "p90 us",
+                "p99 us",
+                "p99.9 us",
+                "Blocks",
+                "Blocked ms");
+
+        for (final String listType : LIST_TYPES) {
+            for (final String guard : GUARDS) {
+                for (final int size : SIZES) {
+                    simulate(listType, guard, size);
+                }
+            }
+        }
+    }
+
+    private static void simulate(final String listType,
+                                 final String guard,
+                                 final int size) throws Exception {
+        final GuardedList list =
+                IndexedLinkedListConcurrencyPerformance.createGuardedList(
+                        guard,
+                        IndexedLinkedListPerformance.populate(
+                                IndexedLinkedListConcurrencyPerformance
+                                        .<Integer>createList(listType)
+                                        .get(),
+                                size));
+
+        for (int round = 0; round < WARMUP_ROUNDS; ++round) {
+            runRound(list, size, new long[REQUESTS_PER_ROUND]);
+        }
+
+        final long[] latencies =
+                new long[MEASUREMENT_ROUNDS * REQUESTS_PER_ROUND];
+        long elapsedNanos = 0L;
+        final long[] carrierBlocks;
+
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.JavaMonitorEnter")
+                     .withThreshold(Duration.ZERO)
+                     .withoutStackTrace();
+            recording.start();
+
+            for (int round = 0; round < MEASUREMENT_ROUNDS; ++round) {
+                final long[] roundLatencies = new long[REQUESTS_PER_ROUND];
+                elapsedNanos += runRound(list, size, roundLatencies);
+                System.arraycopy(roundLatencies, 0,
+                                 latencies, round * REQUESTS_PER_ROUND,
+                                 REQUESTS_PER_ROUND);
+            }
+
+            recording.stop();
+            carrierBlocks = countCarrierBlocks(recording);
+        }
+
+        Arrays.sort(latencies);
+
+        System.out.printf("| %17s | %13s | %7d | %10.0f |",
+                          listType,
+                          guard,
+                          size,
+                          latencies.length * 1e9 / elapsedNanos);
+
+        for (final double percentile : PERCENTILES) {
+            System.out.printf(" %9.1f |",
+                              percentile(latencies, percentile) / 1e3);
+        }
+
+        System.out.printf(" %8d | %10.1f |\n",
+                          carrierBlocks[0],
+                          carrierBlocks[1] / 1e6);
+    }
+
+    /** Runs {@link #REQUESTS_PER_ROUND} requests, each on its own virtual
+     * thread, and waits for all of them to complete.
+     * @param list shared list
+     * @param size initial size of the shared list
+     * @param latencies receives the latency of every request in nanoseconds
+     * @return duration of the round in nanoseconds
+     */
+    private static long runRound(final GuardedList list,
+                                 final int size,
+                                 final long[] latencies) {
+        final long start = System.nanoTime();
+
+        try (ExecutorService executor =
+                Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS_PER_ROUND; ++i) {
+                final int request = i;
+                final long submitted = System.nanoTime();
+
+                executor.submit(() -> {
+                    serve(list, size);
+                    latencies[request] = System.nanoTime() - submitted;
+                });
+            }
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    /** Performs the operations of one request. Every writer adds before it
+     * removes, so the shared list never shrinks below its initial size and
+     * the indices can be drawn from that size.
+     */
+    private static void serve(final GuardedList list, final int size) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < OPERATIONS_PER_REQUEST; ++i) {
+            if (random.nextInt(4) != 0) {
+                list.get(random.nextInt(size));
+            } else {
+                list.add(random.nextInt(size + 1), size);
+                list.remove(random.nextInt(size));
+            }
+        }
+    }
+
+    /** Returns the number of contended monitor entries of virtual threads
+     * in the recording and the nanoseconds they spent blocked in them.
+     */
+    private static long[] countCarrierBlocks(final Recording recording)
+            throws IOException {
+        final Path file = Files.createTempFile("virtual-threads", ".jfr");
+
+        try {
+            recording.dump(file);
+            long blocks = 0L;
+            long blockedNanos = 0L;
+
+            for (final RecordedEvent event
+                    : RecordingFile.readAllEvents(file)) {
+                final RecordedThread thread = event.getThread("eventThread");
+
+                if (thread != null && thread.isVirtual()) {
+                    ++blocks;
+                    blockedNanos += event.getDuration().toNanos();
+                }
+            }
+
+            return new long[]{blocks, blockedNanos};
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /** Returns the given percentile of the sorted {@code values} by the
+     * nearest-rank method.
+     */
+    private static long percentile(final long[] values,
+                                   final double percentile) {
+        final int rank = (int) Math.ceil(percentile / 100.0 * values.length);
+        return values[Math.max(0, rank - 1)];
+    }
+}
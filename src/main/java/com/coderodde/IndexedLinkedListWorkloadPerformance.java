@@ -0,0 +1,337 @@
+package com.coderodde;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Mixed-workload benchmarks. Each invocation performs {@link #OPERATIONS}
+ * operations drawn from an operation mix on a list refilled to {@code size}
+ * elements, with the indices drawn from a possibly skewed distribution.
+ * <p>
+ * The operation mix is a list of {@code operation=percent} pairs separated
+ * by slashes and adding up to 100, where an operation is one of
+ * {@code get}, {@code set}, {@code addAt} and {@code removeAt}. Slashes are
+ * used because JMH splits parameter values given on the command line at
+ * commas. The index distribution is one of:
+ * <ul>
+ * <li>{@code uniform}: every index is equally likely.</li>
+ * <li>{@code zipfHead}: index {@code i} is drawn with a probability
+ * proportional to {@code 1 / (i + 1)}, so accesses cluster at the head.</li>
+ * <li>{@code zipfTail}: the mirror image of {@code zipfHead}.</li>
+ * <li>{@code gaussianCursor}: indices are normally distributed around a
+ * cursor that takes a Gaussian random walk over the list.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2G", "-Xmx2G"})
+public class IndexedLinkedListWorkloadPerformance {
+
+    /** Single object used as a list element. */
+    private static final Object ELEMENT = new Object();
+
+    /** The number of operations per benchmark invocation. */
+    private static final int OPERATIONS = 10_000;
+
+    /** The standard deviation of the indices around the cursor. */
+    static final double CURSOR_SPREAD = 16.0;
+
+    /** The standard deviation of a single cursor step. */
+    static final double CURSOR_DRIFT = 4.0;
+
+    /** List operations a workload is mixed from. */
+    enum Operation {
+        GET("get"),
+        SET("set"),
+        ADD_AT("addAt"),
+        REMOVE_AT("removeAt");
+
+        private final String name;
+
+        Operation(final String name) {
+            this.name = name;
+        }
+
+        static Operation forName(final String name) {
+            for (final Operation operation : values()) {
+                if (operation.name.equals(name)) {
+                    return operation;
+                }
+            }
+
+            throw new IllegalArgumentException("Unknown operation: " + name);
+        }
+    }
+
+    /** Source of list indices. */
+    interface IndexDistribution {
+
+        /** Returns an index within {@code [0, size)}.
+         * @param size the exclusive upper bound, at least 1
+         * @return the index
+         */
+        int next(int size);
+    }
+
+    /** Workload benchmark state. */
+    @State(Scope.Thread)
+    public static class WorkloadState {
+
+        /** The number of elements in the list at the start of a workload. */
+        @Param({"1000", "10000", "100000"})
+        private int size;
+
+        /** The list implementation under test. */
+        @Param({"ArrayList", "LinkedList", "TreeList", "IndexedLinkedList"})
+        private String listType;
+
+        /** The operation mix in percent. */
+        @Param({
+            "get=70/addAt=20/removeAt=10",
+            "get=90/set=10",
+            "addAt=50/removeAt=50",
+        })
+        private String mix;
+
+        /** The index distribution. */
+        @Param({"uniform", "zipfHead", "zipfTail", "gaussianCursor"})
+        private String distribution;
+
+        /** Seed for random number generation. */
+        @Param({"1"})
+        private long seed;
+
+        private UniformRandomProvider rng;
+        private Operation[] operations;
+        private IndexDistribution indices;
+        private List<Object> list;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            operations = parseMix(mix);
+            list = IndexedLinkedListConcurrencyPerformance
+                    .<Object>createList(listType)
+                    .get();
+        }
+
+        @Setup(Level.Iteration)
+        public void setupIteration() {
+            rng = RandomSource.XO_RO_SHI_RO_128_PP.create(seed);
+            indices = createDistribution(distribution, rng);
+        }
+
+        @Setup(Level.Invocation)
+        public void refill() {
+            list.clear();
+
+            for (int i = 0; i < size; ++i) {
+                list.add(ELEMENT);
+            }
+        }
+
+        public UniformRandomProvider getRng() {
+            return rng;
+        }
+
+        public Operation[] getOperations() {
+            return operations;
+        }
+
+        public IndexDistribution getIndices() {
+            return indices;
+        }
+
+        public List<Object> getList() {
+            return list;
+        }
+    }
+
+    /** Parses an operation mix into a table of 100 operations, one per
+     * percent, so that an operation can be drawn with a single random index.
+     * @param mix operation mix such as {@code get=70/addAt=20/removeAt=10}
+     * @return operation table
+     */
+    static Operation[] parseMix(final String mix) {
+        final Operation[] operations = new Operation[100];
+        int filled = 0;
+
+        for (final String entry : mix.split("/")) {
+            final String[] pair = entry.trim().split("=");
+
+            if (pair.length != 2) {
+                throw new IllegalArgumentException(
+                        "Malformed operation mix entry: " + entry);
+            }
+
+            final Operation operation = Operation.forName(pair[0].trim());
+            final int percent = Integer.parseInt(pair[1].trim());
+
+            if (percent < 0 || filled + percent > operations.length) {
+                throw new IllegalArgumentException(
+                        "Operation mix does not add up to 100: " + mix);
+            }
+
+            for (int i = 0; i < percent; ++i) {
+                operations[filled++] = operation;
+            }
+        }
+
+        if (filled != operations.length) {
+            throw new IllegalArgumentException(
+                    "Operation mix does not add up to 100: " + mix);
+        }
+
+        return operations;
+    }
+
+    /** Creates the index distribution with the given name.
+     * @param name name of the distribution
+     * @param rng random provider
+     * @return index distribution
+     */
+    static IndexDistribution createDistribution(
+            final String name,
+            final UniformRandomProvider rng) {
+        switch (name) {
+            case "uniform":
+                return rng::nextInt;
+
+            case "zipfHead":
+                return size -> zipfIndex(rng, size);
+
+            case "zipfTail":
+                return size -> size - 1 - zipfIndex(rng, size);
+
+            case "gaussianCursor":
+                return new GaussianCursorDistribution(rng);
+
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown index distribution: " + name);
+        }
+    }
+
+    /** Draws an index {@code i} within {@code [0, size)} with a probability
+     * roughly proportional to {@code 1 / (i + 1)}, by inverting the
+     * continuous density {@code 1 / x} over {@code [1, size + 1)}. Unlike a
+     * tabulated Zipf sampler this needs no setup, so the list size may change
+     * between draws.
+     * @param rng random provider
+     * @param size the exclusive upper bound
+     * @return the index
+     */
+    private static int zipfIndex(final UniformRandomProvider rng,
+                                 final int size) {
+        final int index =
+                (int) Math.exp(rng.nextDouble() * Math.log(size + 1.0)) - 1;
+        return Math.min(index, size - 1);
+    }
+
+    /** Indices normally distributed around a cursor that takes a Gaussian
+     * random walk, clamped to the list.
+     */
+    static final class GaussianCursorDistribution
+            implements IndexDistribution {
+
+        private final UniformRandomProvider rng;
+        private double cursor = -1.0;
+        private double spareGaussian;
+        private boolean hasSpareGaussian;
+
+        GaussianCursorDistribution(final UniformRandomProvider rng) {
+            this.rng = rng;
+        }
+
+        @Override
+        public int next(final int size) {
+            if (cursor < 0.0) {
+                cursor = size / 2.0;
+            }
+
+            cursor = clamp(cursor + CURSOR_DRIFT * nextGaussian(), size);
+            return (int) clamp(cursor + CURSOR_SPREAD * nextGaussian(), size);
+        }
+
+        private static double clamp(final double value, final int size) {
+            return Math.max(0.0, Math.min(size - 1.0, value));
+        }
+
+        /** Marsaglia's polar method; {@link UniformRandomProvider} has no
+         * Gaussian source of its own.
+         */
+        private double nextGaussian() {
+            if (hasSpareGaussian) {
+                hasSpareGaussian = false;
+                return spareGaussian;
+            }
+
+            double u;
+            double v;
+            double s;
+
+            do {
+                u = 2.0 * rng.nextDouble() - 1.0;
+                v = 2.0 * rng.nextDouble() - 1.0;
+                s = u * u + v * v;
+            } while (s >= 1.0 || s == 0.0);
+
+            final double factor = Math.sqrt(-2.0 * Math.log(s) / s);
+            spareGaussian = v * factor;
+            hasSpareGaussian = true;
+            return u * factor;
+        }
+    }
+
+    @Benchmark
+    public List<Object> mixedWorkload(final WorkloadState state,
+            final Blackhole bh) {
+        final List<Object> list = state.getList();
+        final Operation[] operations = state.getOperations();
+        final IndexDistribution indices = state.getIndices();
+        final UniformRandomProvider rng = state.getRng();
+
+        for (int i = 0; i < OPERATIONS; ++i) {
+            final Operation operation = list.isEmpty()
+                    ? Operation.ADD_AT
+                    : operations[rng.nextInt(operations.length)];
+
+            switch (operation) {
+                case GET:
+                    bh.consume(list.get(indices.next(list.size())));
+                    break;
+
+                case SET:
+                    bh.consume(list.set(indices.next(list.size()), ELEMENT));
+                    break;
+
+                case ADD_AT:
+                    list.add(indices.next(list.size() + 1), ELEMENT);
+                    break;
+
+                case REMOVE_AT:
+                    bh.consume(list.remove(indices.next(list.size())));
+                    break;
+            }
+        }
+
+        return list;
+    }
+}
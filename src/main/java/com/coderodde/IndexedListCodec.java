@@ -0,0 +1,388 @@
+package com.coderodde;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterators;
+
+/**
+ * A compact streaming format for lists of {@code int} values, written to and
+ * read from byte channels such as a {@link java.nio.channels.FileChannel}
+ * through a direct buffer, or straight to and from a {@link ByteBuffer}.
+ * <p>
+ * A stream is the {@link #MAGIC} number, the value count as a varint and one
+ * varint per value holding the zigzag-encoded difference to the previous
+ * value, the first value being taken relative to zero. Sorted or clustered
+ * values thus take one or two bytes each, and no value takes more than five.
+ * Nothing of the node structure of a linked list is written: the reader
+ * rebuilds the list with bulk appends.
+ * <p>
+ * A reader consumes the stream and nothing past it. Every value still to be
+ * read takes at least one byte, so a read from a channel asks for no more
+ * bytes than there are values left, and blocks only until the next bytes of
+ * the stream arrive. A pipe or a socket may thus carry several streams or
+ * other data after a stream. A buffer is left positioned right after the
+ * stream. Channels are expected to be in blocking mode.
+ */
+final class IndexedListCodec {
+
+    /** The first four bytes of every stream. */
+    static final int MAGIC = 0x494C4331;
+
+    /** The size of the direct buffer between the codec and the channel. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** The number of values a reader appends to a list at a time. */
+    private static final int BATCH_SIZE = 8192;
+
+    /** The maximum length of a varint encoding 32 bits. */
+    private static final int MAX_VARINT_LENGTH = 5;
+
+    private IndexedListCodec() {
+    }
+
+    /** Writes the values of {@code list}, which must not contain
+     * {@code null}, to {@code channel}.
+     * @param list list to write
+     * @param channel channel to write to
+     * @throws IOException if writing fails
+     */
+    static void write(final List<Integer> list,
+                      final WritableByteChannel channel) throws IOException {
+        writeValues(list, new Encoder(channel, list.size()));
+    }
+
+    /** Writes the values of {@code list}, which must not contain
+     * {@code null}, to {@code buffer} from its position on.
+     * @param list list to write
+     * @param buffer buffer to write to
+     * @throws java.nio.BufferOverflowException if the stream does not fit
+     */
+    static void write(final List<Integer> list, final ByteBuffer buffer) {
+        try {
+            writeValues(list, new Encoder(buffer, list.size()));
+        } catch (final IOException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    /** Writes the values of {@code list} to {@code channel}.
+     * @param list list to write
+     * @param channel channel to write to
+     * @throws IOException if writing fails
+     */
+    static void write(final IntIndexedLinkedList list,
+                      final WritableByteChannel channel) throws IOException {
+        writeValues(list, new Encoder(channel, list.size()));
+    }
+
+    /** Writes the values of {@code list} to {@code buffer} from its position
+     * on.
+     * @param list list to write
+     * @param buffer buffer to write to
+     * @throws java.nio.BufferOverflowException if the stream does not fit
+     */
+    static void write(final IntIndexedLinkedList list,
+                      final ByteBuffer buffer) {
+        try {
+            writeValues(list, new Encoder(buffer, list.size()));
+        } catch (final IOException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    /** Reads a stream from {@code channel} and appends its values to
+     * {@code list}.
+     * @param channel channel to read from
+     * @param list list to append to
+     * @return {@code list}
+     * @throws IOException if reading fails or the stream is malformed
+     */
+    static <L extends List<Integer>> L read(final ReadableByteChannel channel,
+                                            final L list) throws IOException {
+        return readValues(new Decoder(channel), list);
+    }
+
+    /** Reads a stream from {@code buffer} from its position on and appends
+     * its values to {@code list}.
+     * @param buffer buffer to read from
+     * @param list list to append to
+     * @return {@code list}
+     * @throws IOException if the stream is malformed or truncated
+     */
+    static <L extends List<Integer>> L read(final ByteBuffer buffer,
+                                            final L list) throws IOException {
+        return readValues(new Decoder(buffer), list);
+    }
+
+    /** Reads a stream from {@code channel} into a new
+     * {@link IntIndexedLinkedList}.
+     * @param channel channel to read from
+     * @return list of the values read
+     * @throws IOException if reading fails or the stream is malformed
+     */
+    static IntIndexedLinkedList readIntList(final ReadableByteChannel channel)
+            throws IOException {
+        return readIntValues(new Decoder(channel));
+    }
+
+    /** Reads a stream from {@code buffer} from its position on into a new
+     * {@link IntIndexedLinkedList}.
+     * @param buffer buffer to read from
+     * @return list of the values read
+     * @throws IOException if the stream is malformed or truncated
+     */
+    static IntIndexedLinkedList readIntList(final ByteBuffer buffer)
+            throws IOException {
+        return readIntValues(new Decoder(buffer));
+    }
+
+    private static void writeValues(final List<Integer> list,
+                                    final Encoder encoder) throws IOException {
+        final Iterator<Integer> iterator = list.iterator();
+
+        while (iterator.hasNext()) {
+            encoder.writeValue(iterator.next());
+        }
+
+        encoder.flush();
+    }
+
+    private static void writeValues(final IntIndexedLinkedList list,
+                                    final Encoder encoder) throws IOException {
+        final PrimitiveIterator.OfInt iterator =
+                Spliterators.iterator(list.spliterator());
+
+        while (iterator.hasNext()) {
+            encoder.writeValue(iterator.nextInt());
+        }
+
+        encoder.flush();
+    }
+
+    private static <L extends List<Integer>> L readValues(
+            final Decoder decoder,
+            final L list) throws IOException {
+        final Integer[] batch = new Integer[BATCH_SIZE];
+        final List<Integer> batchList = Arrays.asList(batch);
+        int remaining = decoder.readCount();
+
+        while (remaining > 0) {
+            final int count = Math.min(remaining, BATCH_SIZE);
+
+            for (int i = 0; i < count; ++i) {
+                batch[i] = decoder.readValue();
+            }
+
+            list.addAll(count == BATCH_SIZE
+                    ? batchList
+                    : batchList.subList(0, count));
+            remaining -= count;
+        }
+
+        return list;
+    }
+
+    private static IntIndexedLinkedList readIntValues(final Decoder decoder)
+            throws IOException {
+        final IntIndexedLinkedList list = new IntIndexedLinkedList();
+        final int[] batch = new int[BATCH_SIZE];
+        int remaining = decoder.readCount();
+
+        while (remaining > 0) {
+            final int count = Math.min(remaining, BATCH_SIZE);
+
+            for (int i = 0; i < count; ++i) {
+                batch[i] = decoder.readValue();
+            }
+
+            list.addAllInts(count == BATCH_SIZE
+                    ? batch
+                    : Arrays.copyOf(batch, count));
+            remaining -= count;
+        }
+
+        return list;
+    }
+
+    /** Returns {@link #MAGIC} as the buffer reads and writes it in its own
+     * byte order, so that the stream always starts with the same bytes.
+     */
+    private static int magicFor(final ByteBuffer buffer) {
+        return buffer.order() == ByteOrder.BIG_ENDIAN
+                ? MAGIC
+                : Integer.reverseBytes(MAGIC);
+    }
+
+    /** Encodes into a buffer, which is drained into the channel, if any,
+     * whenever it runs short.
+     */
+    private static final class Encoder {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+        private int previous;
+
+        Encoder(final WritableByteChannel channel, final int count)
+                throws IOException {
+            this(channel, ByteBuffer.allocateDirect(BUFFER_SIZE), count);
+        }
+
+        Encoder(final ByteBuffer buffer, final int count)
+                throws IOException {
+            this(null, buffer, count);
+        }
+
+        private Encoder(final WritableByteChannel channel,
+                        final ByteBuffer buffer,
+                        final int count) throws IOException {
+            this.channel = channel;
+            this.buffer = buffer;
+            buffer.putInt(magicFor(buffer));
+            writeVarint(count);
+        }
+
+        void writeValue(final int value) throws IOException {
+            final int delta = value - previous;
+            writeVarint((delta << 1) ^ (delta >> 31));
+            previous = value;
+        }
+
+        /** Writes the buffered bytes to the channel. */
+        void flush() throws IOException {
+            if (channel == null) {
+                return;
+            }
+
+            buffer.flip();
+
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+
+            buffer.clear();
+        }
+
+        private void writeVarint(int value) throws IOException {
+            if (buffer.remaining() < MAX_VARINT_LENGTH) {
+                flush();
+            }
+
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+
+            buffer.put((byte) value);
+        }
+    }
+
+    /** Decodes from a buffer, which is refilled from the channel, if any,
+     * whenever it runs empty.
+     */
+    private static final class Decoder {
+
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer;
+        private int previous;
+
+        /** The number of values not read yet, each taking at least a byte. */
+        private int remaining;
+
+        Decoder(final ReadableByteChannel channel) throws IOException {
+            this(channel, ByteBuffer.allocateDirect(BUFFER_SIZE).flip());
+        }
+
+        Decoder(final ByteBuffer buffer) throws IOException {
+            this(null, buffer);
+        }
+
+        private Decoder(final ReadableByteChannel channel,
+                        final ByteBuffer buffer) throws IOException {
+            this.channel = channel;
+            this.buffer = buffer;
+
+            while (buffer.remaining() < Integer.BYTES) {
+                if (!fill(Integer.BYTES - buffer.remaining())) {
+                    throw new StreamCorruptedException("Not a list stream.");
+                }
+            }
+
+            if (buffer.getInt() != magicFor(buffer)) {
+                throw new StreamCorruptedException("Not a list stream.");
+            }
+        }
+
+        int readCount() throws IOException {
+            final int count = readVarint(1);
+
+            if (count < 0) {
+                throw new StreamCorruptedException(
+                        "Negative value count: " + count);
+            }
+
+            remaining = count;
+            return count;
+        }
+
+        int readValue() throws IOException {
+            final int zigzag = readVarint(remaining--);
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            return previous;
+        }
+
+        /** Reads a varint, refilling the buffer with at most
+         * {@code streamLeft} bytes, the least number of bytes the stream
+         * holds from this varint on.
+         */
+        private int readVarint(final int streamLeft) throws IOException {
+            int value = 0;
+
+            for (int shift = 0; shift < 7 * MAX_VARINT_LENGTH; shift += 7) {
+                if (!buffer.hasRemaining() && !fill(streamLeft)) {
+                    throw new EOFException("Truncated list stream.");
+                }
+
+                final byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+
+                if (b >= 0) {
+                    return value;
+                }
+            }
+
+            throw new StreamCorruptedException("Malformed varint.");
+        }
+
+        /** Appends at most {@code maximum} bytes from the channel to the
+         * buffer, waiting for at least one.
+         *
+         * @return {@code false} if there is no channel or it is exhausted.
+         */
+        private boolean fill(final int maximum) throws IOException {
+            if (channel == null) {
+                return false;
+            }
+
+            buffer.compact();
+            buffer.limit(Math.min(buffer.capacity(),
+                                  buffer.position() + maximum));
+            int read;
+
+            do {
+                read = channel.read(buffer);
+            } while (read == 0);
+
+            buffer.flip();
+            return read > 0;
+        }
+    }
+}
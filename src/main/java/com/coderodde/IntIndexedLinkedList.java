@@ -0,0 +1,821 @@
+package com.coderodde;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A doubly-linked list of primitive {@code int} values. Like
+ * {@link com.github.coderodde.util.IndexedLinkedList}, it keeps about
+ * {@code sqrt(size)} fingers into the node chain so that positional access
+ * walks {@code O(sqrt(n))} nodes from the closest finger, the head or the
+ * tail. The payloads are stored unboxed in the nodes.
+ * <p>
+ * The fingers are kept sorted by index. Single-element modifications shift
+ * the indices of the fingers to the right of the change and add or drop one
+ * finger when the finger count falls out of step with the list size; bulk
+ * modifications rebuild the whole finger index in one pass.
+ */
+public class IntIndexedLinkedList {
+
+    private static final int INITIAL_FINGER_CAPACITY = 8;
+
+    private static final class Node {
+        int item;
+        Node prev;
+        Node next;
+
+        Node(final int item) {
+            this.item = item;
+        }
+    }
+
+    private Node head;
+    private Node tail;
+    private int size;
+
+    private Node[] fingerNodes = new Node[INITIAL_FINGER_CAPACITY];
+    private int[] fingerIndices = new int[INITIAL_FINGER_CAPACITY];
+    private int fingerCount;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        Arrays.fill(fingerNodes, 0, fingerCount, null);
+        fingerCount = 0;
+    }
+
+    /** Appends {@code value} to the end of this list.
+     * @param value value to append
+     */
+    public void addInt(final int value) {
+        linkLast(new Node(value));
+        ++size;
+        balanceFingers();
+    }
+
+    /** Appends all {@code values} to the end of this list.
+     * @param values values to append
+     */
+    public void addAllInts(final int[] values) {
+        for (final int value : values) {
+            linkLast(new Node(value));
+        }
+
+        size += values.length;
+        repairFingers();
+    }
+
+    /** Inserts {@code value} at position {@code index}, shifting the
+     * subsequent values to the right.
+     * @param index insertion position
+     * @param value value to insert
+     */
+    public void insertAt(final int index, final int value) {
+        checkPositionIndex(index);
+
+        if (index == size) {
+            addInt(value);
+            return;
+        }
+
+        linkBefore(new Node(value), node(index));
+        shiftFingers(index, 1);
+        ++size;
+        balanceFingers();
+    }
+
+    /** Inserts all {@code values} starting at position {@code index}.
+     * @param index insertion position
+     * @param values values to insert
+     */
+    public void insertAllAt(final int index, final int[] values) {
+        checkPositionIndex(index);
+
+        if (index == size) {
+            addAllInts(values);
+            return;
+        }
+
+        final Node successor = node(index);
+
+        for (final int value : values) {
+            linkBefore(new Node(value), successor);
+        }
+
+        shiftFingers(index, values.length);
+        size += values.length;
+        repairFingers();
+    }
+
+    /** Returns the value at position {@code index}.
+     * @param index position of the value
+     * @return value at {@code index}
+     */
+    public int getInt(final int index) {
+        checkElementIndex(index);
+        return node(index).item;
+    }
+
+    /** Replaces the value at position {@code index}.
+     * @param index position of the value
+     * @param value new value
+     * @return previous value at {@code index}
+     */
+    public int setInt(final int index, final int value) {
+        checkElementIndex(index);
+        final Node x = node(index);
+        final int old = x.item;
+        x.item = value;
+        return old;
+    }
+
+    /** Removes the value at position {@code index}, shifting the subsequent
+     * values to the left.
+     * @param index position of the value to remove
+     * @return removed value
+     */
+    public int removeAt(final int index) {
+        checkElementIndex(index);
+        final Node x = node(index);
+        unlink(x, index);
+        return x.item;
+    }
+
+    /** Removes the values at the given positions, which refer to the list
+     * before the removal and may come in any order; duplicate positions are
+     * removed once. The nodes are unlinked in a single walk from the first
+     * removed position to the last one, and the finger index is rebuilt once.
+     * @param indices positions of the values to remove
+     */
+    public void removeAt(final int[] indices) {
+        final int[] sorted = BatchRemoval.sortedDistinct(indices, size);
+
+        if (sorted.length == 0) {
+            return;
+        }
+
+        Node x = node(sorted[0]);
+        int index = sorted[0];
+
+        for (final int victim : sorted) {
+            x = walk(x, index, victim);
+            index = victim;
+            unlinkChain(x, x);
+        }
+
+        size -= sorted.length;
+        rebuildFingers();
+    }
+
+    /** Removes the first occurrence of {@code value}, if any.
+     * @param value value to remove
+     * @return {@code true} if the list contained {@code value}
+     */
+    public boolean removeInt(final int value) {
+        int index = 0;
+
+        for (Node x = head; x != null; x = x.next, ++index) {
+            if (x.item == value) {
+                unlink(x, index);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /** Removes the values at positions {@code fromIndex}, inclusive, to
+     * {@code toIndex}, exclusive.
+     * @param fromIndex first position to remove
+     * @param toIndex position after the last one to remove
+     */
+    public void removeRange(final int fromIndex, final int toIndex) {
+        checkRange(fromIndex, toIndex);
+
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        final Node first = node(fromIndex);
+        Node last = first;
+
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            last = last.next;
+        }
+
+        unlinkChain(first, last);
+        size -= toIndex - fromIndex;
+        dropFingers(fromIndex, toIndex);
+        repairFingers();
+    }
+
+    /** Removes every value satisfying {@code filter} and rebuilds the finger
+     * index once. The victims are marked in a first traversal and unlinked in
+     * a second one, so the list is left untouched if {@code filter} throws.
+     * @param filter predicate selecting the values to remove
+     * @return {@code true} if any value was removed
+     */
+    public boolean removeIf(final IntPredicate filter) {
+        final long[] victims = new long[(size + 63) >>> 6];
+        int victimCount = 0;
+        int index = 0;
+
+        for (Node x = head; x != null; x = x.next, ++index) {
+            if (filter.test(x.item)) {
+                victims[index >>> 6] |= 1L << index;
+                ++victimCount;
+            }
+        }
+
+        if (victimCount == 0) {
+            return false;
+        }
+
+        // Relink the survivors to each other directly, so that every
+        // surviving node is written once however long the runs of victims
+        // between them are.
+        Node last = null;
+        index = 0;
+
+        for (Node x = head; x != null; x = x.next, ++index) {
+            if ((victims[index >>> 6] & (1L << index)) == 0) {
+                x.prev = last;
+
+                if (last == null) {
+                    head = x;
+                } else {
+                    last.next = x;
+                }
+
+                last = x;
+            }
+        }
+
+        if (last == null) {
+            head = null;
+        } else {
+            last.next = null;
+        }
+
+        tail = last;
+        size -= victimCount;
+        rebuildFingers();
+        return true;
+    }
+
+    /** Removes every occurrence of the given values, as
+     * {@link #removeIf(IntPredicate)} does. Values already in ascending
+     * order are searched in place; other values are sorted into a copy.
+     * @param values values to remove
+     * @return {@code true} if any value was removed
+     */
+    public boolean removeAllInts(final int[] values) {
+        final int[] sorted = toSorted(values);
+        return removeIf(value -> Arrays.binarySearch(sorted, value) >= 0);
+    }
+
+    /** Removes every value not among the given values, as
+     * {@link #removeIf(IntPredicate)} does. Values already in ascending
+     * order are searched in place; other values are sorted into a copy.
+     * @param values values to keep
+     * @return {@code true} if any value was removed
+     */
+    public boolean retainAllInts(final int[] values) {
+        final int[] sorted = toSorted(values);
+        return removeIf(value -> Arrays.binarySearch(sorted, value) < 0);
+    }
+
+    /** Sorts the values at positions {@code fromIndex}, inclusive, to
+     * {@code toIndex}, exclusive, in ascending order. The nodes stay in place
+     * and only their payloads are rewritten, so the fingers remain valid.
+     * @param fromIndex first position of the range
+     * @param toIndex position after the last one of the range
+     */
+    public void sort(final int fromIndex, final int toIndex) {
+        checkRange(fromIndex, toIndex);
+
+        if (toIndex - fromIndex < 2) {
+            return;
+        }
+
+        final int[] values = new int[toIndex - fromIndex];
+        final Node first = node(fromIndex);
+        Node x = first;
+
+        for (int i = 0; i < values.length; ++i, x = x.next) {
+            values[i] = x.item;
+        }
+
+        Arrays.sort(values);
+        x = first;
+
+        for (int i = 0; i < values.length; ++i, x = x.next) {
+            x.item = values[i];
+        }
+    }
+
+    /** Returns the values of this list in order.
+     * @return array of values
+     */
+    public int[] toArray() {
+        final int[] values = new int[size];
+        int i = 0;
+
+        for (Node x = head; x != null; x = x.next) {
+            values[i++] = x.item;
+        }
+
+        return values;
+    }
+
+    /** Returns a spliterator over the values of this list that splits at
+     * finger positions, so that the suffix of a split starts at a finger
+     * node without walking the chain. The list must not be structurally
+     * modified while the spliterator is in use.
+     * @return spliterator over the values
+     */
+    public Spliterator.OfInt spliterator() {
+        return new FingerSpliterator(0, size, head);
+    }
+
+    /** Returns a sequential stream over the values of this list.
+     * @return stream of values
+     */
+    public IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /** Returns a parallel stream over the values of this list, split by
+     * {@link #spliterator()}.
+     * @return stream of values
+     */
+    public IntStream parallelStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /** Spliterator over the positions {@code [index, fence)}. The node at
+     * {@code index} is looked up on first use unless the split that created
+     * the spliterator started it at a finger.
+     */
+    private final class FingerSpliterator implements Spliterator.OfInt {
+
+        private int index;
+        private final int fence;
+        private Node node;
+
+        FingerSpliterator(final int index, final int fence, final Node node) {
+            this.index = index;
+            this.fence = fence;
+            this.node = node;
+        }
+
+        @Override
+        public OfInt trySplit() {
+            final int middle = (index + fence) >>> 1;
+
+            if (middle == index) {
+                return null;
+            }
+
+            // Split at the finger closest to the middle if it falls inside
+            // the range, so the suffix starts at a known node.
+            int split = middle;
+            Node splitNode = null;
+            final int fingerPos = findFinger(middle);
+
+            for (int pos = fingerPos - 1; pos <= fingerPos; ++pos) {
+                if (pos < 0 || pos >= fingerCount) {
+                    continue;
+                }
+
+                final int fingerIndex = fingerIndices[pos];
+
+                if (fingerIndex > index
+                        && fingerIndex < fence
+                        && (splitNode == null
+                            || Math.abs(fingerIndex - middle)
+                               < Math.abs(split - middle))) {
+                    split = fingerIndex;
+                    splitNode = fingerNodes[pos];
+                }
+            }
+
+            final FingerSpliterator prefix =
+                    new FingerSpliterator(index, split, node);
+            index = split;
+            node = splitNode;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(final IntConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+
+            position();
+            action.accept(node.item);
+            node = node.next;
+            ++index;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final IntConsumer action) {
+            if (index >= fence) {
+                return;
+            }
+
+            position();
+            Node x = node;
+
+            for (int i = index; i < fence; ++i, x = x.next) {
+                action.accept(x.item);
+            }
+
+            node = x;
+            index = fence;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+
+        private void position() {
+            if (node == null) {
+                node = node(index);
+            }
+        }
+    }
+
+    // Node chain:
+    private void linkLast(final Node x) {
+        x.prev = tail;
+
+        if (tail == null) {
+            head = x;
+        } else {
+            tail.next = x;
+        }
+
+        tail = x;
+    }
+
+    private void linkBefore(final Node x, final Node successor) {
+        final Node predecessor = successor.prev;
+        x.prev = predecessor;
+        x.next = successor;
+        successor.prev = x;
+
+        if (predecessor == null) {
+            head = x;
+        } else {
+            predecessor.next = x;
+        }
+    }
+
+    private void unlink(final Node x, final int index) {
+        final int fingerPos = findFinger(index);
+
+        if (fingerPos < fingerCount && fingerIndices[fingerPos] == index) {
+            removeFinger(fingerPos);
+        }
+
+        shiftFingers(index + 1, -1);
+        unlinkChain(x, x);
+        --size;
+        balanceFingers();
+    }
+
+    /** Unlinks the nodes from {@code first} to {@code last}, both inclusive.
+     * Leaves the size and the fingers untouched.
+     */
+    private void unlinkChain(final Node first, final Node last) {
+        final Node predecessor = first.prev;
+        final Node successor = last.next;
+
+        if (predecessor == null) {
+            head = successor;
+        } else {
+            predecessor.next = successor;
+        }
+
+        if (successor == null) {
+            tail = predecessor;
+        } else {
+            successor.prev = predecessor;
+        }
+    }
+
+    /** Returns the node at {@code index}, starting the walk from the closest
+     * of the head, the tail and the nearest fingers.
+     */
+    private Node node(final int index) {
+        Node x;
+        int start;
+        int bestDistance;
+
+        if (index < size - index) {
+            x = head;
+            start = 0;
+            bestDistance = index;
+        } else {
+            x = tail;
+            start = size - 1;
+            bestDistance = size - 1 - index;
+        }
+
+        final int fingerPos = findFinger(index);
+
+        if (fingerPos < fingerCount
+                && fingerIndices[fingerPos] - index < bestDistance) {
+            x = fingerNodes[fingerPos];
+            start = fingerIndices[fingerPos];
+            bestDistance = start - index;
+        }
+
+        if (fingerPos > 0
+                && index - fingerIndices[fingerPos - 1] < bestDistance) {
+            x = fingerNodes[fingerPos - 1];
+            start = fingerIndices[fingerPos - 1];
+        }
+
+        return walk(x, start, index);
+    }
+
+    private static Node walk(Node x, final int from, final int to) {
+        if (from < to) {
+            for (int i = from; i < to; ++i) {
+                x = x.next;
+            }
+        } else {
+            for (int i = from; i > to; --i) {
+                x = x.prev;
+            }
+        }
+
+        return x;
+    }
+
+    private static int[] toSorted(final int[] values) {
+        for (int i = 1; i < values.length; ++i) {
+            if (values[i - 1] > values[i]) {
+                final int[] sorted = values.clone();
+                Arrays.sort(sorted);
+                return sorted;
+            }
+        }
+
+        return values;
+    }
+
+    private static void checkIndex(final int index,
+                                   final int bound,
+                                   final int size) {
+        if (index < 0 || index > bound) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkElementIndex(final int index) {
+        checkIndex(index, size - 1, size);
+    }
+
+    private void checkPositionIndex(final int index) {
+        checkIndex(index, size, size);
+    }
+
+    private void checkRange(final int fromIndex, final int toIndex) {
+        checkPositionIndex(fromIndex);
+        checkPositionIndex(toIndex);
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException(
+                    "fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+    }
+
+    // Fingers:
+    private static int fingersNeeded(final int size) {
+        return (int) Math.ceil(Math.sqrt(size));
+    }
+
+    /** Returns the position of the first finger whose index is at least
+     * {@code index}, or {@code fingerCount} if there is none.
+     */
+    private int findFinger(final int index) {
+        int low = 0;
+        int high = fingerCount;
+
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+
+            if (fingerIndices[mid] < index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /** Adds {@code delta} to the index of every finger at or after
+     * {@code index}.
+     */
+    private void shiftFingers(final int index, final int delta) {
+        for (int i = findFinger(index); i < fingerCount; ++i) {
+            fingerIndices[i] += delta;
+        }
+    }
+
+    /** Drops the fingers pointing into the already unlinked range
+     * {@code [fromIndex, toIndex)} and shifts the fingers after it.
+     */
+    private void dropFingers(final int fromIndex, final int toIndex) {
+        final int from = findFinger(fromIndex);
+        final int to = findFinger(toIndex);
+        final int removed = to - from;
+
+        System.arraycopy(fingerNodes, to, fingerNodes, from, fingerCount - to);
+        System.arraycopy(fingerIndices,
+                         to,
+                         fingerIndices,
+                         from,
+                         fingerCount - to);
+
+        Arrays.fill(fingerNodes, fingerCount - removed, fingerCount, null);
+        fingerCount -= removed;
+
+        for (int i = from; i < fingerCount; ++i) {
+            fingerIndices[i] -= toIndex - fromIndex;
+        }
+    }
+
+    private void removeFinger(final int fingerPos) {
+        final int moved = fingerCount - fingerPos - 1;
+        System.arraycopy(fingerNodes, fingerPos + 1, fingerNodes, fingerPos, moved);
+        System.arraycopy(fingerIndices,
+                         fingerPos + 1,
+                         fingerIndices,
+                         fingerPos,
+                         moved);
+
+        fingerNodes[--fingerCount] = null;
+    }
+
+    /** Brings the finger count back to {@code fingersNeeded(size)} after a
+     * bulk modification, rebuilding the index when more than one finger is
+     * missing.
+     */
+    private void repairFingers() {
+        if (fingersNeeded(size) - fingerCount > 1) {
+            rebuildFingers();
+        } else {
+            balanceFingers();
+        }
+    }
+
+    /** Adds or drops fingers one at a time until there are exactly
+     * {@code fingersNeeded(size)} of them. New fingers go into the middle of
+     * the widest gap and dropped fingers are taken from the most crowded
+     * spot.
+     */
+    private void balanceFingers() {
+        final int needed = fingersNeeded(size);
+
+        while (fingerCount > needed) {
+            removeFinger(mostCrowdedFinger());
+        }
+
+        while (fingerCount < needed) {
+            if (!addFingerInWidestGap()) {
+                break;
+            }
+        }
+    }
+
+    private int mostCrowdedFinger() {
+        int best = 0;
+        int bestWidth = Integer.MAX_VALUE;
+
+        for (int i = 0; i < fingerCount; ++i) {
+            final int left = i == 0 ? -1 : fingerIndices[i - 1];
+            final int right =
+                    i == fingerCount - 1 ? size : fingerIndices[i + 1];
+
+            if (right - left < bestWidth) {
+                bestWidth = right - left;
+                best = i;
+            }
+        }
+
+        return best;
+    }
+
+    private boolean addFingerInWidestGap() {
+        int gap = 0;
+        int gapWidth = 0;
+
+        for (int i = 0; i <= fingerCount; ++i) {
+            final int left = i == 0 ? -1 : fingerIndices[i - 1];
+            final int right = i == fingerCount ? size : fingerIndices[i];
+
+            if (right - left > gapWidth) {
+                gapWidth = right - left;
+                gap = i;
+            }
+        }
+
+        if (gapWidth < 2) {
+            return false;
+        }
+
+        final int left = gap == 0 ? -1 : fingerIndices[gap - 1];
+        final int right = gap == fingerCount ? size : fingerIndices[gap];
+        final int index = left + gapWidth / 2;
+        final Node x;
+
+        if (index - left <= right - index) {
+            x = left == -1 ? walk(head, 0, index)
+                           : walk(fingerNodes[gap - 1], left, index);
+        } else {
+            x = right == size ? walk(tail, size - 1, index)
+                              : walk(fingerNodes[gap], right, index);
+        }
+
+        ensureFingerCapacity(fingerCount + 1);
+        System.arraycopy(fingerNodes,
+                         gap,
+                         fingerNodes,
+                         gap + 1,
+                         fingerCount - gap);
+
+        System.arraycopy(fingerIndices,
+                         gap,
+                         fingerIndices,
+                         gap + 1,
+                         fingerCount - gap);
+
+        fingerNodes[gap] = x;
+        fingerIndices[gap] = index;
+        ++fingerCount;
+        return true;
+    }
+
+    /** Spreads {@code fingersNeeded(size)} fingers evenly over the list in a
+     * single pass.
+     */
+    private void rebuildFingers() {
+        final int needed = fingersNeeded(size);
+        Arrays.fill(fingerNodes, 0, fingerCount, null);
+        ensureFingerCapacity(needed);
+        fingerCount = needed;
+
+        Node x = head;
+        int index = 0;
+
+        for (int i = 0; i < needed; ++i) {
+            final int target = (int) ((2L * i + 1) * size / (2L * needed));
+            x = walk(x, index, target);
+            index = target;
+            fingerNodes[i] = x;
+            fingerIndices[i] = target;
+        }
+    }
+
+    private void ensureFingerCapacity(final int capacity) {
+        if (capacity > fingerNodes.length) {
+            final int newCapacity =
+                    Math.max(capacity, fingerNodes.length * 2);
+
+            fingerNodes = Arrays.copyOf(fingerNodes, newCapacity);
+            fingerIndices = Arrays.copyOf(fingerIndices, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.coderodde;
+
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A list that is also a deque. {@link List} and {@link Deque} both declare
+ * {@code reversed()}, with unrelated return types, so a class implementing
+ * both must return a type that is both; this is that type. The end methods
+ * are redeclared abstract because {@link List} implements them by default
+ * and {@link Deque} does not.
+ *
+ * @param <E> the element type.
+ */
+public interface ListDeque<E> extends List<E>, Deque<E> {
+
+    @Override
+    void addFirst(E e);
+
+    @Override
+    void addLast(E e);
+
+    @Override
+    E getFirst();
+
+    @Override
+    E getLast();
+
+    @Override
+    E removeFirst();
+
+    @Override
+    E removeLast();
+
+    /**
+     * Returns a reverse-ordered view of this list deque. Modifications write
+     * through in both directions.
+     *
+     * @return the reversed view.
+     */
+    @Override
+    ListDeque<E> reversed();
+}
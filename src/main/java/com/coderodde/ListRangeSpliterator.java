@@ -0,0 +1,116 @@
+package com.coderodde;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator over a list that splits by halving the index range and
+ * traverses every part with its own {@code listIterator(index)}. A split
+ * costs no element copying, and the positioning cost is that of
+ * {@code listIterator(index)}: constant for an array list, a walk from the
+ * nearest finger for {@link com.github.coderodde.util.IndexedLinkedList} and
+ * a walk from the nearer end for a {@link java.util.LinkedList}. The JDK
+ * default for lists without random access instead copies the elements into
+ * arrays of growing batch sizes, one batch per split, in sequence.
+ * <p>
+ * The spliterator binds to the list size on first use and does not detect
+ * concurrent modification beyond what the list iterators detect.
+ *
+ * @param <E> the element type.
+ */
+final class ListRangeSpliterator<E> implements Spliterator<E> {
+
+    private final List<E> list;
+    private int index;
+    private int fence;
+    private ListIterator<E> iterator;
+
+    /** Constructs a spliterator over the whole of {@code list}.
+     * @param list list to traverse
+     */
+    ListRangeSpliterator(final List<E> list) {
+        this(list, 0, -1, null);
+    }
+
+    private ListRangeSpliterator(final List<E> list,
+                                 final int index,
+                                 final int fence,
+                                 final ListIterator<E> iterator) {
+        this.list = list;
+        this.index = index;
+        this.fence = fence;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        final int hi = getFence();
+        final int middle = (index + hi) >>> 1;
+
+        if (middle == index) {
+            return null;
+        }
+
+        // The prefix takes over the iterator, if it is already positioned,
+        // and this spliterator positions a new one at the middle on demand.
+        final ListRangeSpliterator<E> prefix =
+                new ListRangeSpliterator<>(list, index, middle, iterator);
+        index = middle;
+        iterator = null;
+        return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super E> action) {
+        if (index >= getFence()) {
+            return false;
+        }
+
+        action.accept(position().next());
+        ++index;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+        final int hi = getFence();
+
+        if (index >= hi) {
+            return;
+        }
+
+        final ListIterator<E> it = position();
+
+        for (; index < hi; ++index) {
+            action.accept(it.next());
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return getFence() - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+
+    private int getFence() {
+        if (fence < 0) {
+            fence = list.size();
+        }
+
+        return fence;
+    }
+
+    private ListIterator<E> position() {
+        if (iterator == null) {
+            iterator = list.listIterator(index);
+        }
+
+        return iterator;
+    }
+}
@@ -0,0 +1,705 @@
+package com.coderodde;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A persistent list of primitive {@code int} values stored in a
+ * memory-mapped file. Both the values and the chunk index addressing them
+ * live in the file, so a list written by one process is reopened by the next
+ * in time proportional to the number of chunks and not to the number of
+ * values: {@link #open(Path)} maps the file and reads one index entry per
+ * chunk of {@value #CHUNK_CAPACITY} values.
+ * <p>
+ * The file consists of a {@value #HEADER_SIZE}-byte header followed by
+ * fixed-size slots of {@value #CHUNK_CAPACITY} values. The chunk index, one
+ * {@code (slot, size)} pair per chunk in list order, occupies the first
+ * slots; every other slot holds a chunk or is free. Chunks are split and
+ * released like in {@link OffHeapIntList}, and released slots are reused.
+ * When the chunk index outgrows its slots, the chunks in the slots right
+ * after it are moved to the end of the file to make room.
+ * <p>
+ * Every change is written through to the mapping, and {@link #force()} or
+ * {@link #close()} writes the mapping to the storage device. A list is
+ * guaranteed to reopen as it was only after one of those returned.
+ */
+public class MappedIntList implements AutoCloseable {
+
+    /** The maximum number of values in a chunk. */
+    public static final int CHUNK_CAPACITY = 8192;
+
+    /** The number of bytes of the file header. */
+    public static final int HEADER_SIZE = 4096;
+
+    /** The magic number starting the file, {@code "ILMI"}. */
+    private static final int MAGIC = 0x494C4D49;
+
+    private static final int VERSION = 1;
+
+    // Header field offsets:
+    private static final int MAGIC_OFFSET          = 0;
+    private static final int VERSION_OFFSET        = 4;
+    private static final int CHUNK_CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET           = 12;
+    private static final int CHUNK_COUNT_OFFSET    = 16;
+    private static final int SLOT_COUNT_OFFSET     = 20;
+    private static final int TABLE_SLOTS_OFFSET    = 24;
+
+    private static final int SLOT_BYTES = CHUNK_CAPACITY * Integer.BYTES;
+
+    /** The size of a chunk index entry: the slot and the size. */
+    private static final int TABLE_ENTRY_BYTES = 2 * Integer.BYTES;
+
+    private static final int TABLE_ENTRIES_PER_SLOT =
+            SLOT_BYTES / TABLE_ENTRY_BYTES;
+
+    /** The file is mapped in segments of this many slots. */
+    private static final int SEGMENT_SLOTS = 4096;
+
+    private static final long SEGMENT_BYTES = (long) SEGMENT_SLOTS * SLOT_BYTES;
+
+    private static final int INITIAL_CHUNK_INDEX_LENGTH = 8;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer[] segments = new MappedByteBuffer[1];
+    private int segmentCount;
+
+    /** The number of slots in use or free, the table slots included. */
+    private int slotCount;
+
+    /** The number of slots at the start holding the chunk index. */
+    private int tableSlots;
+
+    /** The slots released by removed chunks. */
+    private int[] freeSlots = new int[INITIAL_CHUNK_INDEX_LENGTH];
+    private int freeSlotCount;
+
+    /** The slots of the chunks, in list order. */
+    private int[] chunkSlots = new int[INITIAL_CHUNK_INDEX_LENGTH];
+    private int[] sizes = new int[INITIAL_CHUNK_INDEX_LENGTH];
+    private int[] starts = new int[INITIAL_CHUNK_INDEX_LENGTH];
+    private int chunkCount;
+
+    /** The chunk starts at {@code [0, validStarts)} are up to date. */
+    private int validStarts;
+
+    private int size;
+    private boolean closed;
+
+    private MappedIntList(final FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE,
+                                  0L,
+                                  HEADER_SIZE);
+        this.header.order(ByteOrder.nativeOrder());
+    }
+
+    /** Creates an empty list in the file {@code path}, replacing the file if
+     * it exists.
+     * @param path path of the file
+     * @return empty list
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static MappedIntList create(final Path path) throws IOException {
+        final FileChannel channel =
+                FileChannel.open(path,
+                                 StandardOpenOption.CREATE,
+                                 StandardOpenOption.TRUNCATE_EXISTING,
+                                 StandardOpenOption.READ,
+                                 StandardOpenOption.WRITE);
+
+        try {
+            final MappedIntList list = new MappedIntList(channel);
+            list.tableSlots = 1;
+            list.ensureSlotsMapped(1);
+            list.slotCount = 1;
+            list.header.putInt(MAGIC_OFFSET, MAGIC);
+            list.header.putInt(VERSION_OFFSET, VERSION);
+            list.header.putInt(CHUNK_CAPACITY_OFFSET, CHUNK_CAPACITY);
+            list.writeHeader();
+            return list;
+        } catch (final IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /** Reopens the list stored in the file {@code path}.
+     * @param path path of the file
+     * @return the stored list
+     * @throws IOException if the file cannot be mapped or holds no list
+     */
+    public static MappedIntList open(final Path path) throws IOException {
+        final FileChannel channel =
+                FileChannel.open(path,
+                                 StandardOpenOption.READ,
+                                 StandardOpenOption.WRITE);
+
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a mapped int list: " + path);
+            }
+
+            final MappedIntList list = new MappedIntList(channel);
+            list.readHeader(path);
+            list.readTable();
+            return list;
+        } catch (final IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Removes every value. The file keeps its length and the slots are
+     * reused by later additions.
+     */
+    public void clear() {
+        checkOpen();
+
+        for (int chunk = 0; chunk < chunkCount; ++chunk) {
+            freeSlot(chunkSlots[chunk]);
+        }
+
+        chunkCount = 0;
+        validStarts = 0;
+        size = 0;
+        writeHeader();
+    }
+
+    /** Appends {@code value} to the end of this list.
+     * @param value value to append
+     */
+    public void addInt(final int value) {
+        checkOpen();
+
+        if (chunkCount == 0 || sizes[chunkCount - 1] == CHUNK_CAPACITY) {
+            openChunk(chunkCount);
+        }
+
+        final int last = chunkCount - 1;
+        putValue(chunkSlots[last], sizes[last]++, value);
+        writeTableEntry(last);
+        ++size;
+        header.putInt(SIZE_OFFSET, size);
+    }
+
+    /** Appends all {@code values} to the end of this list.
+     * @param values values to append
+     */
+    public void addAllInts(final int[] values) {
+        for (final int value : values) {
+            addInt(value);
+        }
+    }
+
+    /** Inserts {@code value} at position {@code index}, shifting the
+     * subsequent values to the right.
+     * @param index insertion position
+     * @param value value to insert
+     */
+    public void insertAt(final int index, final int value) {
+        checkOpen();
+        checkPositionIndex(index);
+
+        if (index == size) {
+            addInt(value);
+            return;
+        }
+
+        int chunk = findChunk(index);
+        int offset = index - starts[chunk];
+
+        if (sizes[chunk] == CHUNK_CAPACITY) {
+            split(chunk);
+
+            if (offset > sizes[chunk]) {
+                offset -= sizes[chunk];
+                ++chunk;
+            }
+        }
+
+        move(chunkSlots[chunk], offset, offset + 1, sizes[chunk] - offset);
+        putValue(chunkSlots[chunk], offset, value);
+        ++sizes[chunk];
+        writeTableEntry(chunk);
+        ++size;
+        header.putInt(SIZE_OFFSET, size);
+        invalidateStarts(chunk + 1);
+    }
+
+    /** Returns the value at position {@code index}.
+     * @param index position of the value
+     * @return value at {@code index}
+     */
+    public int getInt(final int index) {
+        checkOpen();
+        checkElementIndex(index);
+        final int chunk = findChunk(index);
+        return getValue(chunkSlots[chunk], index - starts[chunk]);
+    }
+
+    /** Replaces the value at position {@code index}.
+     * @param index position of the value
+     * @param value new value
+     * @return previous value at {@code index}
+     */
+    public int setInt(final int index, final int value) {
+        checkOpen();
+        checkElementIndex(index);
+        final int chunk = findChunk(index);
+        final int offset = index - starts[chunk];
+        final int old = getValue(chunkSlots[chunk], offset);
+        putValue(chunkSlots[chunk], offset, value);
+        return old;
+    }
+
+    /** Removes the value at position {@code index}, shifting the subsequent
+     * values to the left.
+     * @param index position of the value to remove
+     * @return removed value
+     */
+    public int removeAt(final int index) {
+        checkOpen();
+        checkElementIndex(index);
+        final int chunk = findChunk(index);
+        final int offset = index - starts[chunk];
+        final int old = getValue(chunkSlots[chunk], offset);
+
+        move(chunkSlots[chunk], offset + 1, offset, sizes[chunk] - offset - 1);
+        --sizes[chunk];
+        --size;
+        header.putInt(SIZE_OFFSET, size);
+        invalidateStarts(chunk + 1);
+
+        if (sizes[chunk] == 0) {
+            closeChunk(chunk);
+        } else {
+            writeTableEntry(chunk);
+        }
+
+        return old;
+    }
+
+    /** Returns an iterator walking the chunks in order.
+     * @return iterator over the values of this list
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        checkOpen();
+
+        return new PrimitiveIterator.OfInt() {
+
+            private int chunk;
+            private int offset;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+
+                if (offset == sizes[chunk]) {
+                    ++chunk;
+                    offset = 0;
+                }
+
+                --remaining;
+                return getValue(chunkSlots[chunk], offset++);
+            }
+        };
+    }
+
+    /** Returns the values of this list in order.
+     * @return array of values
+     */
+    public int[] toArray() {
+        checkOpen();
+        final int[] values = new int[size];
+        int index = 0;
+
+        for (int chunk = 0; chunk < chunkCount; ++chunk) {
+            final int slot = chunkSlots[chunk];
+            segment(slot).asIntBuffer()
+                         .get(slotOffset(slot) / Integer.BYTES,
+                              values,
+                              index,
+                              sizes[chunk]);
+            index += sizes[chunk];
+        }
+
+        return values;
+    }
+
+    /** Writes every change made so far to the storage device. */
+    public void force() {
+        checkOpen();
+        header.force();
+
+        for (int i = 0; i < segmentCount; ++i) {
+            segments[i].force();
+        }
+    }
+
+    /** Writes every change to the storage device, unmaps the file and closes
+     * it. Closing a closed list does nothing.
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        force();
+        closed = true;
+        DirectBuffers.release(header);
+
+        for (int i = 0; i < segmentCount; ++i) {
+            DirectBuffers.release(segments[i]);
+            segments[i] = null;
+        }
+
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // File layout:
+    private void readHeader(final Path path) throws IOException {
+        if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException("Not a mapped int list: " + path);
+        }
+
+        if (header.getInt(VERSION_OFFSET) != VERSION
+                || header.getInt(CHUNK_CAPACITY_OFFSET) != CHUNK_CAPACITY) {
+            throw new IOException("Unsupported mapped int list format: "
+                                + path);
+        }
+
+        size = header.getInt(SIZE_OFFSET);
+        chunkCount = header.getInt(CHUNK_COUNT_OFFSET);
+        slotCount = header.getInt(SLOT_COUNT_OFFSET);
+        tableSlots = header.getInt(TABLE_SLOTS_OFFSET);
+        ensureSlotsMapped(slotCount);
+    }
+
+    /** Reads the chunk index and collects the free slots. */
+    private void readTable() {
+        ensureChunkIndexLength(chunkCount);
+        final BitSet usedSlots = new BitSet(slotCount);
+        usedSlots.set(0, tableSlots);
+
+        for (int chunk = 0; chunk < chunkCount; ++chunk) {
+            final int position = chunk * TABLE_ENTRY_BYTES;
+            final int slot = position / SLOT_BYTES;
+            final int offset = slotOffset(slot) + position % SLOT_BYTES;
+            final ByteBuffer segment = segment(slot);
+
+            chunkSlots[chunk] = segment.getInt(offset);
+            sizes[chunk] = segment.getInt(offset + Integer.BYTES);
+            usedSlots.set(chunkSlots[chunk]);
+        }
+
+        for (int slot = usedSlots.nextClearBit(0);
+                slot < slotCount;
+                slot = usedSlots.nextClearBit(slot + 1)) {
+            freeSlot(slot);
+        }
+
+        validStarts = 0;
+    }
+
+    private void writeHeader() {
+        header.putInt(SIZE_OFFSET, size);
+        header.putInt(CHUNK_COUNT_OFFSET, chunkCount);
+        header.putInt(SLOT_COUNT_OFFSET, slotCount);
+        header.putInt(TABLE_SLOTS_OFFSET, tableSlots);
+    }
+
+    private void writeTableEntry(final int chunk) {
+        final int position = chunk * TABLE_ENTRY_BYTES;
+        final int slot = position / SLOT_BYTES;
+        final int offset = slotOffset(slot) + position % SLOT_BYTES;
+        final ByteBuffer segment = segment(slot);
+
+        segment.putInt(offset, chunkSlots[chunk]);
+        segment.putInt(offset + Integer.BYTES, sizes[chunk]);
+    }
+
+    /** Writes the chunk index entries from {@code chunk} on. */
+    private void writeTable(final int chunk) {
+        for (int i = chunk; i < chunkCount; ++i) {
+            writeTableEntry(i);
+        }
+
+        header.putInt(CHUNK_COUNT_OFFSET, chunkCount);
+    }
+
+    /** Makes room for {@code chunks} entries in the chunk index by moving
+     * the chunks stored right after the table slots to new slots.
+     */
+    private void ensureTableCapacity(final int chunks) {
+        if (chunks <= (long) tableSlots * TABLE_ENTRIES_PER_SLOT) {
+            return;
+        }
+
+        int newTableSlots = tableSlots;
+
+        while ((long) newTableSlots * TABLE_ENTRIES_PER_SLOT < chunks) {
+            newTableSlots *= 2;
+        }
+
+        ensureSlotsMapped(Math.max(slotCount, newTableSlots));
+        slotCount = Math.max(slotCount, newTableSlots);
+
+        for (int chunk = 0; chunk < chunkCount; ++chunk) {
+            final int slot = chunkSlots[chunk];
+
+            if (slot < newTableSlots) {
+                ensureSlotsMapped(slotCount + 1);
+                final int newSlot = slotCount++;
+
+                segment(newSlot).put(slotOffset(newSlot),
+                                     segment(slot),
+                                     slotOffset(slot),
+                                     SLOT_BYTES);
+
+                chunkSlots[chunk] = newSlot;
+            }
+        }
+
+        // Forget the free slots taken over by the table.
+        int kept = 0;
+
+        for (int i = 0; i < freeSlotCount; ++i) {
+            if (freeSlots[i] >= newTableSlots) {
+                freeSlots[kept++] = freeSlots[i];
+            }
+        }
+
+        freeSlotCount = kept;
+
+        tableSlots = newTableSlots;
+        writeHeader();
+        writeTable(0);
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+
+        ensureSlotsMapped(slotCount + 1);
+        final int slot = slotCount++;
+        header.putInt(SLOT_COUNT_OFFSET, slotCount);
+        return slot;
+    }
+
+    private void freeSlot(final int slot) {
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    /** Maps segments until the first {@code slots} slots are mapped. */
+    private void ensureSlotsMapped(final int slots) {
+        final int needed = (slots + SEGMENT_SLOTS - 1) / SEGMENT_SLOTS;
+
+        while (segmentCount < needed) {
+            if (segmentCount == segments.length) {
+                segments = Arrays.copyOf(segments, segments.length * 2);
+            }
+
+            try {
+                segments[segmentCount] = channel.map(
+                        FileChannel.MapMode.READ_WRITE,
+                        HEADER_SIZE + segmentCount * SEGMENT_BYTES,
+                        SEGMENT_BYTES);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+
+            segments[segmentCount].order(ByteOrder.nativeOrder());
+            ++segmentCount;
+        }
+    }
+
+    private ByteBuffer segment(final int slot) {
+        return segments[slot / SEGMENT_SLOTS];
+    }
+
+    private static int slotOffset(final int slot) {
+        return (slot % SEGMENT_SLOTS) * SLOT_BYTES;
+    }
+
+    private int getValue(final int slot, final int offset) {
+        return segment(slot).getInt(slotOffset(slot) + offset * Integer.BYTES);
+    }
+
+    private void putValue(final int slot, final int offset, final int value) {
+        segment(slot).putInt(slotOffset(slot) + offset * Integer.BYTES, value);
+    }
+
+    /** Moves {@code count} values within the slot; the ranges may overlap. */
+    private void move(final int slot,
+                      final int from,
+                      final int to,
+                      final int count) {
+        if (count > 0) {
+            final ByteBuffer segment = segment(slot);
+            final int base = slotOffset(slot);
+            segment.put(base + to * Integer.BYTES,
+                        segment,
+                        base + from * Integer.BYTES,
+                        count * Integer.BYTES);
+        }
+    }
+
+    // Chunk index:
+    private int findChunk(final int index) {
+        final int last = chunkCount - 1;
+
+        if (index >= size - sizes[last]) {
+            starts[last] = size - sizes[last];
+            return last;
+        }
+
+        updateStarts();
+
+        int low = 0;
+        int high = last;
+
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+
+            if (starts[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private void updateStarts() {
+        int chunk = validStarts;
+
+        if (chunk == 0) {
+            starts[0] = 0;
+            chunk = 1;
+        }
+
+        for (; chunk < chunkCount; ++chunk) {
+            starts[chunk] = starts[chunk - 1] + sizes[chunk - 1];
+        }
+
+        validStarts = chunkCount;
+    }
+
+    private void invalidateStarts(final int chunk) {
+        validStarts = Math.min(validStarts, chunk);
+    }
+
+    /** Moves the upper half of the full chunk into a new chunk after it. */
+    private void split(final int chunk) {
+        openChunk(chunk + 1);
+        final int leftSize = sizes[chunk] / 2;
+        final int rightSize = sizes[chunk] - leftSize;
+        final int left = chunkSlots[chunk];
+        final int right = chunkSlots[chunk + 1];
+
+        segment(right).put(slotOffset(right),
+                           segment(left),
+                           slotOffset(left) + leftSize * Integer.BYTES,
+                           rightSize * Integer.BYTES);
+
+        sizes[chunk] = leftSize;
+        sizes[chunk + 1] = rightSize;
+        writeTableEntry(chunk);
+        writeTableEntry(chunk + 1);
+    }
+
+    private void openChunk(final int at) {
+        ensureTableCapacity(chunkCount + 1);
+        ensureChunkIndexLength(chunkCount + 1);
+
+        System.arraycopy(chunkSlots, at, chunkSlots, at + 1, chunkCount - at);
+        System.arraycopy(sizes, at, sizes, at + 1, chunkCount - at);
+
+        chunkSlots[at] = allocateSlot();
+        sizes[at] = 0;
+        ++chunkCount;
+        invalidateStarts(at);
+        writeTable(at);
+    }
+
+    private void closeChunk(final int chunk) {
+        freeSlot(chunkSlots[chunk]);
+        System.arraycopy(chunkSlots, chunk + 1, chunkSlots, chunk,
+                         chunkCount - chunk - 1);
+        System.arraycopy(sizes, chunk + 1, sizes, chunk,
+                         chunkCount - chunk - 1);
+        --chunkCount;
+        invalidateStarts(chunk);
+        writeTable(chunk);
+    }
+
+    private void ensureChunkIndexLength(final int length) {
+        if (length > chunkSlots.length) {
+            final int newLength = Math.max(length, chunkSlots.length * 2);
+            chunkSlots = Arrays.copyOf(chunkSlots, newLength);
+            sizes = Arrays.copyOf(sizes, newLength);
+            starts = Arrays.copyOf(starts, newLength);
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The list is closed.");
+        }
+    }
+
+    private void checkElementIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkPositionIndex(final int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.coderodde;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A list of primitive {@code int} values stored outside of the Java heap.
+ * The values live in chunks of direct memory of up to
+ * {@value #CHUNK_CAPACITY} values each, so a list of {@code n} values is a
+ * handful of heap objects per chunk instead of one or two per value, and the
+ * garbage collector has next to nothing to mark however long the list is.
+ * <p>
+ * The chunks are addressed through a chunk index holding the chunk buffers,
+ * their sizes and their start indices, like in {@link UnrolledLinkedList}:
+ * positional access is a binary search over the chunk starts and a read from
+ * the chunk. A full chunk is split in halves on insertion and an empty chunk
+ * is released.
+ * <p>
+ * Direct memory is otherwise released only when the garbage collector finds
+ * the buffer unreachable, so {@link #close()} releases every chunk
+ * explicitly. A closed list must not be used any more.
+ */
+public class OffHeapIntList implements AutoCloseable {
+
+    /** The maximum number of values in a chunk. */
+    public static final int CHUNK_CAPACITY = 8192;
+
+    private static final int INITIAL_CHUNK_INDEX_LENGTH = 8;
+
+    /** The chunks, in order, at the indices {@code [0, chunkCount)}. */
+    private ByteBuffer[] chunks = new ByteBuffer[INITIAL_CHUNK_INDEX_LENGTH];
+    private int[] sizes = new int[INITIAL_CHUNK_INDEX_LENGTH];
+    private int[] starts = new int[INITIAL_CHUNK_INDEX_LENGTH];
+    private int chunkCount;
+
+    /** The chunk starts at {@code [0, validStarts)} are up to date. */
+    private int validStarts;
+
+    private int size;
+    private boolean closed;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Removes every value and releases the memory of every chunk. */
+    public void clear() {
+        checkOpen();
+
+        for (int i = 0; i < chunkCount; ++i) {
+            DirectBuffers.release(chunks[i]);
+        }
+
+        Arrays.fill(chunks, 0, chunkCount, null);
+        chunkCount = 0;
+        validStarts = 0;
+        size = 0;
+    }
+
+    /** Appends {@code value} to the end of this list.
+     * @param value value to append
+     */
+    public void addInt(final int value) {
+        checkOpen();
+
+        if (chunkCount == 0 || sizes[chunkCount - 1] == CHUNK_CAPACITY) {
+            openChunk(chunkCount);
+        }
+
+        final int last = chunkCount - 1;
+        chunks[last].putInt(sizes[last]++ * Integer.BYTES, value);
+        ++size;
+    }
+
+    /** Appends all {@code values} to the end of this list.
+     * @param values values to append
+     */
+    public void addAllInts(final int[] values) {
+        for (final int value : values) {
+            addInt(value);
+        }
+    }
+
+    /** Inserts {@code value} at position {@code index}, shifting the
+     * subsequent values to the right.
+     * @param index insertion position
+     * @param value value to insert
+     */
+    public void insertAt(final int index, final int value) {
+        checkOpen();
+        checkPositionIndex(index);
+
+        if (index == size) {
+            addInt(value);
+            return;
+        }
+
+        int chunk = findChunk(index);
+        int offset = index - starts[chunk];
+
+        if (sizes[chunk] == CHUNK_CAPACITY) {
+            split(chunk);
+
+            if (offset > sizes[chunk]) {
+                offset -= sizes[chunk];
+                ++chunk;
+            }
+        }
+
+        move(chunks[chunk], offset, offset + 1, sizes[chunk] - offset);
+        chunks[chunk].putInt(offset * Integer.BYTES, value);
+        ++sizes[chunk];
+        ++size;
+        invalidateStarts(chunk + 1);
+    }
+
+    /** Returns the value at position {@code index}.
+     * @param index position of the value
+     * @return value at {@code index}
+     */
+    public int getInt(final int index) {
+        checkOpen();
+        checkElementIndex(index);
+        final int chunk = findChunk(index);
+        return chunks[chunk].getInt((index - starts[chunk]) * Integer.BYTES);
+    }
+
+    /** Replaces the value at position {@code index}.
+     * @param index position of the value
+     * @param value new value
+     * @return previous value at {@code index}
+     */
+    public int setInt(final int index, final int value) {
+        checkOpen();
+        checkElementIndex(index);
+        final int chunk = findChunk(index);
+        final int byteOffset = (index - starts[chunk]) * Integer.BYTES;
+        final int old = chunks[chunk].getInt(byteOffset);
+        chunks[chunk].putInt(byteOffset, value);
+        return old;
+    }
+
+    /** Removes the value at position {@code index}, shifting the subsequent
+     * values to the left.
+     * @param index position of the value to remove
+     * @return removed value
+     */
+    public int removeAt(final int index) {
+        checkOpen();
+        checkElementIndex(index);
+        final int chunk = findChunk(index);
+        final int offset = index - starts[chunk];
+        final ByteBuffer buffer = chunks[chunk];
+        final int old = buffer.getInt(offset * Integer.BYTES);
+
+        move(buffer, offset + 1, offset, sizes[chunk] - offset - 1);
+        --sizes[chunk];
+        --size;
+        invalidateStarts(chunk + 1);
+
+        if (sizes[chunk] == 0) {
+            closeChunk(chunk);
+        }
+
+        return old;
+    }
+
+    /** Returns an iterator walking the chunks in order.
+     * @return iterator over the values of this list
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        checkOpen();
+
+        return new PrimitiveIterator.OfInt() {
+
+            private int chunk;
+            private int offset;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+
+                if (offset == sizes[chunk]) {
+                    ++chunk;
+                    offset = 0;
+                }
+
+                --remaining;
+                return chunks[chunk].getInt(offset++ * Integer.BYTES);
+            }
+        };
+    }
+
+    /** Returns the values of this list in order.
+     * @return array of values
+     */
+    public int[] toArray() {
+        checkOpen();
+        final int[] values = new int[size];
+        int index = 0;
+
+        for (int chunk = 0; chunk < chunkCount; ++chunk) {
+            chunks[chunk].asIntBuffer().get(0, values, index, sizes[chunk]);
+            index += sizes[chunk];
+        }
+
+        return values;
+    }
+
+    /** Releases the memory of every chunk. Closing a closed list does
+     * nothing.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            clear();
+            chunks = null;
+            closed = true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // Chunk index:
+    private int findChunk(final int index) {
+        final int last = chunkCount - 1;
+
+        if (index >= size - sizes[last]) {
+            starts[last] = size - sizes[last];
+            return last;
+        }
+
+        updateStarts();
+
+        int low = 0;
+        int high = last;
+
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+
+            if (starts[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private void updateStarts() {
+        int chunk = validStarts;
+
+        if (chunk == 0) {
+            starts[0] = 0;
+            chunk = 1;
+        }
+
+        for (; chunk < chunkCount; ++chunk) {
+            starts[chunk] = starts[chunk - 1] + sizes[chunk - 1];
+        }
+
+        validStarts = chunkCount;
+    }
+
+    private void invalidateStarts(final int chunk) {
+        validStarts = Math.min(validStarts, chunk);
+    }
+
+    /** Moves the upper half of the full chunk into a new chunk after it. */
+    private void split(final int chunk) {
+        openChunk(chunk + 1);
+        final int leftSize = sizes[chunk] / 2;
+        final int rightSize = sizes[chunk] - leftSize;
+
+        chunks[chunk + 1].put(0,
+                              chunks[chunk],
+                              leftSize * Integer.BYTES,
+                              rightSize * Integer.BYTES);
+
+        sizes[chunk] = leftSize;
+        sizes[chunk + 1] = rightSize;
+    }
+
+    private void openChunk(final int at) {
+        if (chunkCount == chunks.length) {
+            final int length = chunks.length * 2;
+            chunks = Arrays.copyOf(chunks, length);
+            sizes = Arrays.copyOf(sizes, length);
+            starts = Arrays.copyOf(starts, length);
+        }
+
+        System.arraycopy(chunks, at, chunks, at + 1, chunkCount - at);
+        System.arraycopy(sizes, at, sizes, at + 1, chunkCount - at);
+
+        chunks[at] = ByteBuffer.allocateDirect(CHUNK_CAPACITY * Integer.BYTES)
+                               .order(ByteOrder.nativeOrder());
+        sizes[at] = 0;
+        ++chunkCount;
+        invalidateStarts(at);
+    }
+
+    private void closeChunk(final int chunk) {
+        DirectBuffers.release(chunks[chunk]);
+        System.arraycopy(chunks, chunk + 1, chunks, chunk,
+                         chunkCount - chunk - 1);
+        System.arraycopy(sizes, chunk + 1, sizes, chunk,
+                         chunkCount - chunk - 1);
+        chunks[--chunkCount] = null;
+        invalidateStarts(chunk);
+    }
+
+    /** Moves {@code count} values within {@code buffer}; the ranges may
+     * overlap.
+     */
+    private static void move(final ByteBuffer buffer,
+                             final int from,
+                             final int to,
+                             final int count) {
+        if (count > 0) {
+            buffer.put(to * Integer.BYTES,
+                       buffer,
+                       from * Integer.BYTES,
+                       count * Integer.BYTES);
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The list is closed.");
+        }
+    }
+
+    private void checkElementIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkPositionIndex(final int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.coderodde;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts a list, or a {@code subList} view of it, on a {@link ForkJoinPool}.
+ * The elements are copied into an array in one iteration, the array is
+ * merge sorted with the halves of every range sorted in parallel and the
+ * long merges split into parallel ones, and the sorted elements are written
+ * back in one pass of a list iterator. A linked list keeps its nodes, and
+ * with them its fingers, and gets new payloads.
+ * <p>
+ * The sort is stable, like {@link List#sort(Comparator)}.
+ */
+final class ParallelListSort {
+
+    /** Ranges of at most this length are sorted sequentially. */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private ParallelListSort() {
+    }
+
+    /** Sorts {@code list} on the common pool.
+     * @param list list or list view to sort
+     * @param comparator comparator, or {@code null} for the natural order
+     */
+    static <E> void sort(final List<E> list,
+                         final Comparator<? super E> comparator) {
+        sort(list, comparator, ForkJoinPool.commonPool());
+    }
+
+    /** Sorts {@code list} on {@code pool}.
+     * @param list list or list view to sort
+     * @param comparator comparator, or {@code null} for the natural order
+     * @param pool pool to sort on
+     */
+    @SuppressWarnings("unchecked")
+    static <E> void sort(final List<E> list,
+                         final Comparator<? super E> comparator,
+                         final ForkJoinPool pool) {
+        final Object[] array = list.toArray();
+        final Comparator<Object> c = comparator == null
+                ? (a, b) -> ((Comparable<Object>) a).compareTo(b)
+                : (Comparator<Object>) comparator;
+
+        if (array.length <= SEQUENTIAL_THRESHOLD
+                || pool.getParallelism() == 1) {
+            Arrays.sort(array, c);
+        } else {
+            pool.invoke(new SortTask(array,
+                                     new Object[array.length],
+                                     0,
+                                     array.length,
+                                     c));
+        }
+
+        final ListIterator<E> iterator = list.listIterator();
+
+        for (final Object element : array) {
+            iterator.next();
+            iterator.set((E) element);
+        }
+    }
+
+    /** Sorts {@code array[from, to)}, merging through the same range of
+     * {@code buffer}.
+     */
+    @SuppressWarnings("serial")
+    private static final class SortTask extends RecursiveAction {
+
+        private final Object[] array;
+        private final Object[] buffer;
+        private final int from;
+        private final int to;
+        private final Comparator<Object> comparator;
+
+        SortTask(final Object[] array,
+                 final Object[] buffer,
+                 final int from,
+                 final int to,
+                 final Comparator<Object> comparator) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                Arrays.sort(array, from, to, comparator);
+                return;
+            }
+
+            final int middle = (from + to) >>> 1;
+            invokeAll(new SortTask(array, buffer, from, middle, comparator),
+                      new SortTask(array, buffer, middle, to, comparator));
+
+            if (comparator.compare(array[middle - 1], array[middle]) <= 0) {
+                return;
+            }
+
+            System.arraycopy(array, from, buffer, from, to - from);
+            new MergeTask(buffer,
+                          array,
+                          from,
+                          middle,
+                          middle,
+                          to,
+                          from,
+                          comparator).compute();
+        }
+    }
+
+    /** Merges the sorted runs {@code source[leftFrom, leftTo)} and
+     * {@code source[rightFrom, rightTo)} into {@code target} from
+     * {@code targetFrom} on. A long merge is split at the middle element of
+     * the longer run, whose place in the other run is found by binary
+     * search, and the two smaller merges run in parallel. Equal elements of
+     * the left run go first, which keeps the merge stable.
+     */
+    @SuppressWarnings("serial")
+    private static final class MergeTask extends RecursiveAction {
+
+        private final Object[] source;
+        private final Object[] target;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final int targetFrom;
+        private final Comparator<Object> comparator;
+
+        MergeTask(final Object[] source,
+                  final Object[] target,
+                  final int leftFrom,
+                  final int leftTo,
+                  final int rightFrom,
+                  final int rightTo,
+                  final int targetFrom,
+                  final Comparator<Object> comparator) {
+            this.source = source;
+            this.target = target;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.targetFrom = targetFrom;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            final int leftLength = leftTo - leftFrom;
+            final int rightLength = rightTo - rightFrom;
+
+            if (leftLength + rightLength <= SEQUENTIAL_THRESHOLD) {
+                merge();
+                return;
+            }
+
+            final int leftSplit;
+            final int rightSplit;
+
+            if (leftLength >= rightLength) {
+                leftSplit = (leftFrom + leftTo) >>> 1;
+                rightSplit = search(source[leftSplit],
+                                    rightFrom,
+                                    rightTo,
+                                    false);
+            } else {
+                rightSplit = (rightFrom + rightTo) >>> 1;
+                leftSplit = search(source[rightSplit],
+                                   leftFrom,
+                                   leftTo,
+                                   true);
+            }
+
+            final int targetSplit = targetFrom
+                                  + (leftSplit - leftFrom)
+                                  + (rightSplit - rightFrom);
+
+            invokeAll(new MergeTask(source,
+                                    target,
+                                    leftFrom,
+                                    leftSplit,
+                                    rightFrom,
+                                    rightSplit,
+                                    targetFrom,
+                                    comparator),
+                      new MergeTask(source,
+                                    target,
+                                    leftSplit,
+                                    leftTo,
+                                    rightSplit,
+                                    rightTo,
+                                    targetSplit,
+                                    comparator));
+        }
+
+        /** Returns the first index of {@code source[from, to)} whose element
+         * is greater than {@code key}, or not less than it unless
+         * {@code skipEqual} is set.
+         */
+        private int search(final Object key,
+                           int from,
+                           int to,
+                           final boolean skipEqual) {
+            while (from < to) {
+                final int middle = (from + to) >>> 1;
+                final int cmp = comparator.compare(source[middle], key);
+
+                if (cmp < 0 || (skipEqual && cmp == 0)) {
+                    from = middle + 1;
+                } else {
+                    to = middle;
+                }
+            }
+
+            return from;
+        }
+
+        private void merge() {
+            int left = leftFrom;
+            int right = rightFrom;
+            int index = targetFrom;
+
+            while (left < leftTo && right < rightTo) {
+                if (comparator.compare(source[right], source[left]) < 0) {
+                    target[index++] = source[right++];
+                } else {
+                    target[index++] = source[left++];
+                }
+            }
+
+            System.arraycopy(source, left, target, index, leftTo - left);
+            index += leftTo - left;
+            System.arraycopy(source, right, target, index, rightTo - right);
+        }
+    }
+}
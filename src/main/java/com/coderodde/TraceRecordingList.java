@@ -0,0 +1,543 @@
+package com.coderodde;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A {@link List} decorator that records the operations performed on the
+ * decorated list into a binary trace file, so that real access patterns can
+ * be replayed against other list implementations by
+ * {@link IndexedLinkedListTraceReplayPerformance}.
+ * <p>
+ * The trace starts with a header of three big-endian {@code int}s:
+ * {@link #MAGIC}, {@link #VERSION} and the size of the list when the
+ * recording started. Every operation that follows is a one-byte operation
+ * code and zero or more {@code int} operands, see {@link #getOperandCount}.
+ * Only positions and bulk sizes are recorded, never the elements, so
+ * operations that look elements up are recorded by the index they resolved
+ * to: {@code contains(o)}, {@code indexOf(o)} and {@code remove(o)} record the
+ * index of the first match or {@code -1}, {@code removeIf},
+ * {@code removeAll} and {@code retainAll} record the indices of the removed
+ * elements. Iterators are recorded step by step. Calls on a
+ * {@link #subList} view are recorded at the corresponding indices of the
+ * whole list. {@code equals}, {@code hashCode} and {@code toString} are not
+ * recorded.
+ * <p>
+ * An operation is recorded once the decorated list has completed it, so
+ * failed operations are left out of the trace. The decorator is not
+ * synchronized. To record a list shared by several threads, synchronize
+ * access to the decorator, for example with
+ * {@link java.util.Collections#synchronizedList(List)}. Close the decorator
+ * to flush the trace.
+ *
+ * @param <E> the element type.
+ */
+public final class TraceRecordingList<E> implements List<E>, Closeable {
+
+    /** The first {@code int} of a trace file, {@code "ILLT"} in ASCII. */
+    static final int MAGIC = 0x494C4C54;
+
+    /** The version of the trace format. */
+    static final int VERSION = 1;
+
+    /** The size of the trace header in bytes. */
+    static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+    /** {@code add(e)}. */
+    static final byte ADD = 0;
+
+    /** {@code add(index, e)}. Operand: index. */
+    static final byte ADD_AT = 1;
+
+    /** {@code addAll(c)}. Operand: bulk size. */
+    static final byte ADD_ALL = 2;
+
+    /** {@code addAll(index, c)}. Operands: index, bulk size. */
+    static final byte ADD_ALL_AT = 3;
+
+    /** {@code get(index)}. Operand: index. */
+    static final byte GET = 4;
+
+    /** {@code set(index, e)}. Operand: index. */
+    static final byte SET = 5;
+
+    /** {@code remove(index)}. Operand: index. */
+    static final byte REMOVE_AT = 6;
+
+    /** {@code remove(o)}. Operand: index of the removed element or -1. */
+    static final byte REMOVE_OBJECT = 7;
+
+    /** {@code indexOf(o)} and {@code contains(o)}. Operand: the result. */
+    static final byte INDEX_OF = 8;
+
+    /** {@code lastIndexOf(o)}. Operand: the result. */
+    static final byte LAST_INDEX_OF = 9;
+
+    /** {@code subList(from, to).clear()}. Operands: from, bulk size. */
+    static final byte REMOVE_RANGE = 10;
+
+    /** {@code clear()}. */
+    static final byte CLEAR = 11;
+
+    /** {@code subList(from, to).sort(c)}. Operands: from, bulk size. */
+    static final byte SORT = 12;
+
+    /**
+     * {@code removeIf}, {@code removeAll} and {@code retainAll}. Operands:
+     * the number of removed elements followed by their indices in ascending
+     * order.
+     */
+    static final byte REMOVE_IF = 13;
+
+    /** {@code toArray()}. */
+    static final byte TO_ARRAY = 14;
+
+    /** {@code listIterator(index)} and {@code iterator()}. Operand: index. */
+    static final byte LIST_ITERATOR = 15;
+
+    /** {@code next()} of the latest iterator. */
+    static final byte NEXT = 16;
+
+    /** {@code previous()} of the latest iterator. */
+    static final byte PREVIOUS = 17;
+
+    /** {@code remove()} of the latest iterator. */
+    static final byte ITERATOR_REMOVE = 18;
+
+    /** {@code set(e)} of the latest iterator. */
+    static final byte ITERATOR_SET = 19;
+
+    /** {@code add(e)} of the latest iterator. */
+    static final byte ITERATOR_ADD = 20;
+
+    private final List<E> delegate;
+    private final DataOutputStream out;
+    private final int offset;
+    private final boolean view;
+
+    /**
+     * Starts recording the operations on {@code delegate} into the file
+     * {@code trace}, replacing the file if it exists.
+     *
+     * @param delegate the list to decorate.
+     * @param trace    the trace file.
+     * @throws IOException if the trace file cannot be created.
+     */
+    public TraceRecordingList(List<E> delegate, Path trace)
+            throws IOException {
+        this(Objects.requireNonNull(delegate, "delegate is null"),
+             new DataOutputStream(
+                     new BufferedOutputStream(Files.newOutputStream(trace))),
+             0,
+             false);
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(delegate.size());
+    }
+
+    private TraceRecordingList(List<E> delegate,
+                               DataOutputStream out,
+                               int offset,
+                               boolean view) {
+        this.delegate = delegate;
+        this.out = out;
+        this.offset = offset;
+        this.view = view;
+    }
+
+    /**
+     * Returns the number of {@code int} operands following the operation
+     * code {@code operation}, or -1 if the operand count is variable.
+     */
+    static int getOperandCount(byte operation) {
+        switch (operation) {
+            case ADD:
+            case CLEAR:
+            case TO_ARRAY:
+            case NEXT:
+            case PREVIOUS:
+            case ITERATOR_REMOVE:
+            case ITERATOR_SET:
+            case ITERATOR_ADD:
+                return 0;
+
+            case ADD_AT:
+            case ADD_ALL:
+            case GET:
+            case SET:
+            case REMOVE_AT:
+            case REMOVE_OBJECT:
+            case INDEX_OF:
+            case LAST_INDEX_OF:
+            case LIST_ITERATOR:
+                return 1;
+
+            case ADD_ALL_AT:
+            case REMOVE_RANGE:
+            case SORT:
+                return 2;
+
+            case REMOVE_IF:
+                return -1;
+
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown trace operation: " + operation);
+        }
+    }
+
+    /**
+     * Flushes and closes the trace file. The decorated list stays usable,
+     * but operations on this decorator fail afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = delegate.toArray();
+        record(TO_ARRAY);
+        return array;
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        T[] array = delegate.toArray(a);
+        record(TO_ARRAY);
+        return array;
+    }
+
+    @Override
+    public boolean add(E e) {
+        int index = offset + delegate.size();
+        boolean changed = delegate.add(e);
+
+        if (view) {
+            record(ADD_AT, index);
+        } else {
+            record(ADD);
+        }
+
+        return changed;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = delegate.indexOf(o);
+
+        if (index >= 0) {
+            delegate.remove(index);
+        }
+
+        record(REMOVE_OBJECT, index < 0 ? -1 : offset + index);
+        return index >= 0;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object o : c) {
+            if (!contains(o)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        int index = offset + delegate.size();
+        int bulkSize = c.size();
+        boolean changed = delegate.addAll(c);
+
+        if (view) {
+            record(ADD_ALL_AT, index, bulkSize);
+        } else {
+            record(ADD_ALL, bulkSize);
+        }
+
+        return changed;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        int bulkSize = c.size();
+        boolean changed = delegate.addAll(index, c);
+        record(ADD_ALL_AT, offset + index, bulkSize);
+        return changed;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c, "c is null");
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c, "c is null");
+        return removeIf(e -> !c.contains(e));
+    }
+
+    /**
+     * Tests every element once, records the indices of the matching ones and
+     * removes them with the {@code removeIf} of the decorated list. The
+     * decorated list is expected to visit its elements in list order, as all
+     * JDK lists do.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter, "filter is null");
+        BitSet removed = new BitSet(delegate.size());
+        int index = 0;
+
+        for (E e : delegate) {
+            if (filter.test(e)) {
+                removed.set(index);
+            }
+
+            ++index;
+        }
+
+        if (!removed.isEmpty()) {
+            int[] position = { 0 };
+            delegate.removeIf(e -> removed.get(position[0]++));
+        }
+
+        writeOperation(REMOVE_IF);
+        writeOperand(removed.cardinality());
+
+        for (int i = removed.nextSetBit(0);
+                i >= 0;
+                i = removed.nextSetBit(i + 1)) {
+            writeOperand(offset + i);
+        }
+
+        return !removed.isEmpty();
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c) {
+        delegate.sort(c);
+        record(SORT, offset, delegate.size());
+    }
+
+    @Override
+    public void clear() {
+        int bulkSize = delegate.size();
+        delegate.clear();
+
+        if (view) {
+            record(REMOVE_RANGE, offset, bulkSize);
+        } else {
+            record(CLEAR);
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        E element = delegate.get(index);
+        record(GET, offset + index);
+        return element;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E previous = delegate.set(index, element);
+        record(SET, offset + index);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        delegate.add(index, element);
+        record(ADD_AT, offset + index);
+    }
+
+    @Override
+    public E remove(int index) {
+        E element = delegate.remove(index);
+        record(REMOVE_AT, offset + index);
+        return element;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int index = delegate.indexOf(o);
+        record(INDEX_OF, index < 0 ? -1 : offset + index);
+        return index;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        int index = delegate.lastIndexOf(o);
+        record(LAST_INDEX_OF, index < 0 ? -1 : offset + index);
+        return index;
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        ListIterator<E> iterator = delegate.listIterator(index);
+        record(LIST_ITERATOR, offset + index);
+        return new RecordingListIterator(iterator);
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return new TraceRecordingList<>(delegate.subList(fromIndex, toIndex),
+                                        out,
+                                        offset + fromIndex,
+                                        true);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || delegate.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    private void record(byte operation) {
+        writeOperation(operation);
+    }
+
+    private void record(byte operation, int operand) {
+        writeOperation(operation);
+        writeOperand(operand);
+    }
+
+    private void record(byte operation, int operand1, int operand2) {
+        writeOperation(operation);
+        writeOperand(operand1);
+        writeOperand(operand2);
+    }
+
+    private void writeOperation(byte operation) {
+        try {
+            out.writeByte(operation);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeOperand(int operand) {
+        try {
+            out.writeInt(operand);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Records the steps and the modifications of a list iterator.
+     */
+    private final class RecordingListIterator implements ListIterator<E> {
+
+        private final ListIterator<E> iterator;
+
+        RecordingListIterator(ListIterator<E> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public E next() {
+            E element = iterator.next();
+            record(NEXT);
+            return element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return iterator.hasPrevious();
+        }
+
+        @Override
+        public E previous() {
+            E element = iterator.previous();
+            record(PREVIOUS);
+            return element;
+        }
+
+        @Override
+        public int nextIndex() {
+            return iterator.nextIndex();
+        }
+
+        @Override
+        public int previousIndex() {
+            return iterator.previousIndex();
+        }
+
+        @Override
+        public void remove() {
+            iterator.remove();
+            record(ITERATOR_REMOVE);
+        }
+
+        @Override
+        public void set(E e) {
+            iterator.set(e);
+            record(ITERATOR_SET);
+        }
+
+        @Override
+        public void add(E e) {
+            iterator.add(e);
+            record(ITERATOR_ADD);
+        }
+    }
+}
@@ -0,0 +1,1204 @@
+package com.coderodde;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * An unrolled list: the elements are stored in chunks, small arrays of up to
+ * {@code chunkCapacity} elements, so that walking the list touches one
+ * object per chunk instead of one node per element.
+ * <p>
+ * The chunks are not linked to each other through node pointers. They are
+ * kept in order in a chunk index, an array of chunk references with the size
+ * and the start index of every chunk next to it. Positional access is a
+ * binary search over the chunk starts followed by an array read, and the
+ * chunk starts are brought up to date lazily from the first chunk changed
+ * since the last positional access. The chunk index keeps free room on both
+ * sides of the chunks, restored by moving the chunks to the middle of the
+ * index whenever one side runs out, so that chunks come and go at both ends
+ * in amortized constant time and the list works as a {@link java.util.Deque}.
+ * <p>
+ * A full chunk is split in halves on insertion. A chunk that drops below a
+ * quarter of its capacity is merged with a neighbour whenever the merged
+ * chunk stays within three quarters of the capacity, and an empty chunk is
+ * removed.
+ *
+ * @param <E> the element type.
+ */
+public class UnrolledLinkedList<E> extends AbstractList<E>
+        implements ListDeque<E> {
+
+    /** The default maximum number of elements in a chunk. */
+    public static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+    /** The smallest accepted chunk capacity. */
+    private static final int MINIMUM_CHUNK_CAPACITY = 4;
+
+    /** The initial length of the chunk index. */
+    private static final int INITIAL_CHUNK_INDEX_LENGTH = 8;
+
+    private final int chunkCapacity;
+
+    /** The chunks, in order, at the indices {@code [head, tail)}. */
+    private Object[][] chunks;
+
+    /** The number of elements in each chunk. */
+    private int[] sizes;
+
+    /** The list index of the first element of each chunk. */
+    private int[] starts;
+
+    private int head;
+    private int tail;
+
+    /** The chunk starts at {@code [head, validStarts)} are up to date. */
+    private int validStarts;
+
+    private int size;
+
+    /**
+     * Constructs an empty list with the default chunk capacity.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with the given chunk capacity.
+     *
+     * @param chunkCapacity the maximum number of elements in a chunk.
+     */
+    public UnrolledLinkedList(int chunkCapacity) {
+        if (chunkCapacity < MINIMUM_CHUNK_CAPACITY) {
+            throw new IllegalArgumentException(
+                    "Chunk capacity must be at least "
+                            + MINIMUM_CHUNK_CAPACITY + ": " + chunkCapacity);
+        }
+
+        this.chunkCapacity = chunkCapacity;
+        resetChunkIndex();
+    }
+
+    /**
+     * Constructs a list containing the elements of the given collection.
+     *
+     * @param c the collection whose elements to add.
+     */
+    public UnrolledLinkedList(Collection<? extends E> c) {
+        this.chunkCapacity = DEFAULT_CHUNK_CAPACITY;
+        Object[] array = c.toArray();
+        int chunkCount = (array.length + chunkCapacity - 1) / chunkCapacity;
+        int length = INITIAL_CHUNK_INDEX_LENGTH;
+
+        while (length < 2 * chunkCount) {
+            length *= 2;
+        }
+
+        chunks = new Object[length][];
+        sizes = new int[length];
+        starts = new int[length];
+        head = (length - chunkCount) / 2;
+        tail = head + chunkCount;
+        validStarts = head;
+
+        for (int chunk = head, from = 0; chunk < tail; ++chunk) {
+            int count = Math.min(chunkCapacity, array.length - from);
+            chunks[chunk] = new Object[chunkCapacity];
+            System.arraycopy(array, from, chunks[chunk], 0, count);
+            sizes[chunk] = count;
+            from += count;
+        }
+
+        size = array.length;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkElementIndex(index);
+        int chunk = findChunk(index);
+        return (E) chunks[chunk][index - starts[chunk]];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkElementIndex(index);
+        int chunk = findChunk(index);
+        int offset = index - starts[chunk];
+        E old = (E) chunks[chunk][offset];
+        chunks[chunk][offset] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+
+        if (index == size) {
+            addLast(element);
+        } else {
+            int chunk = findChunk(index);
+            insert(chunk, index - starts[chunk], element);
+        }
+    }
+
+    @Override
+    public E remove(int index) {
+        checkElementIndex(index);
+        int chunk = findChunk(index);
+        return removeAt(chunk, index - starts[chunk]);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size, c);
+    }
+
+    /**
+     * Inserts the elements of {@code c} as whole new chunks, splitting the
+     * chunk at {@code index} at most once, so that the chunk index is shifted
+     * only once per call.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        checkPositionIndex(index);
+        Object[] array = c.toArray();
+
+        if (array.length == 0) {
+            return false;
+        }
+
+        int chunk;
+        int offset;
+
+        if (index == size) {
+            chunk = tail;
+            offset = 0;
+        } else {
+            chunk = findChunk(index);
+            offset = index - starts[chunk];
+        }
+
+        // Fill the free room of the chunk at the end of the list first.
+        int filled = 0;
+
+        if (index == size && tail > head) {
+            int last = tail - 1;
+            filled = Math.min(array.length, chunkCapacity - sizes[last]);
+            System.arraycopy(array, 0, chunks[last], sizes[last], filled);
+            sizes[last] += filled;
+        }
+
+        int remaining = array.length - filled;
+
+        if (remaining > 0) {
+            int tailCount = offset > 0 ? sizes[chunk] - offset : 0;
+            int newChunks = (remaining + chunkCapacity - 1) / chunkCapacity
+                          + (tailCount > 0 ? 1 : 0);
+            int at = offset > 0 ? chunk + 1 : chunk;
+            int first = openChunks(at, newChunks);
+
+            if (tailCount > 0) {
+                // openChunks() may have moved the chunk being split.
+                int split = first - 1;
+                int last = first + newChunks - 1;
+                System.arraycopy(chunks[split], offset,
+                                 chunks[last], 0,
+                                 tailCount);
+                Arrays.fill(chunks[split], offset, sizes[split], null);
+                sizes[split] = offset;
+                sizes[last] = tailCount;
+            }
+
+            for (int i = first; remaining > 0; ++i) {
+                int count = Math.min(remaining, chunkCapacity);
+                System.arraycopy(array, filled, chunks[i], 0, count);
+                sizes[i] = count;
+                filled += count;
+                remaining -= count;
+            }
+
+            invalidateStarts(first);
+        }
+
+        size += array.length;
+        ++modCount;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        resetChunkIndex();
+        size = 0;
+        ++modCount;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+
+        for (int chunk = head; chunk < tail; ++chunk) {
+            Object[] items = chunks[chunk];
+
+            for (int i = 0; i < sizes[chunk]; ++i, ++index) {
+                if (Objects.equals(o, items[i])) {
+                    return index;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        int index = size - 1;
+
+        for (int chunk = tail - 1; chunk >= head; --chunk) {
+            Object[] items = chunks[chunk];
+
+            for (int i = sizes[chunk] - 1; i >= 0; --i, --index) {
+                if (Objects.equals(o, items[i])) {
+                    return index;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ChunkIterator();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> c) {
+        Object[] array = toArray();
+        Arrays.sort(array, (Comparator<Object>) c);
+        int index = 0;
+
+        for (int chunk = head; chunk < tail; ++chunk) {
+            System.arraycopy(array, index, chunks[chunk], 0, sizes[chunk]);
+            index += sizes[chunk];
+        }
+
+        ++modCount;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int index = 0;
+
+        for (int chunk = head; chunk < tail; ++chunk) {
+            System.arraycopy(chunks[chunk], 0, array, index, sizes[chunk]);
+            index += sizes[chunk];
+        }
+
+        return array;
+    }
+
+    /**
+     * Removes the elements in {@code [fromIndex, toIndex)} chunk by chunk,
+     * dropping the chunks that become empty in a single pass over the chunk
+     * index.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+
+        int firstChunk = findChunk(fromIndex);
+        int chunk = firstChunk;
+        int offset = fromIndex - starts[chunk];
+        int remaining = toIndex - fromIndex;
+
+        while (remaining > 0) {
+            int count = Math.min(remaining, sizes[chunk] - offset);
+            Object[] items = chunks[chunk];
+            System.arraycopy(items, offset + count,
+                             items, offset,
+                             sizes[chunk] - offset - count);
+            Arrays.fill(items, sizes[chunk] - count, sizes[chunk], null);
+            sizes[chunk] -= count;
+            remaining -= count;
+            offset = 0;
+            ++chunk;
+        }
+
+        int write = firstChunk;
+
+        for (int read = firstChunk; read < tail; ++read) {
+            if (sizes[read] > 0) {
+                chunks[write] = chunks[read];
+                sizes[write] = sizes[read];
+                ++write;
+            }
+        }
+
+        Arrays.fill(chunks, write, tail, null);
+        Arrays.fill(sizes, write, tail, 0);
+        tail = write;
+        size -= toIndex - fromIndex;
+        ++modCount;
+
+        if (head == tail) {
+            resetChunkIndex();
+        } else {
+            invalidateStarts(firstChunk);
+
+            if (firstChunk < tail) {
+                mergeIfSparse(firstChunk);
+            }
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(e -> !c.contains(e));
+    }
+
+    /**
+     * Removes the elements satisfying {@code filter} in two passes. The first
+     * pass marks the victims, so the list is left untouched if
+     * {@code filter} throws. The second pass compacts the chunks and the
+     * chunk index together. The chunk starts are brought up to date once, on
+     * the next positional access.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        long[] victims = new long[(size + 63) >>> 6];
+        int victimCount = 0;
+        int index = 0;
+
+        for (int chunk = head; chunk < tail; ++chunk) {
+            Object[] items = chunks[chunk];
+
+            for (int i = 0; i < sizes[chunk]; ++i, ++index) {
+                if (filter.test((E) items[i])) {
+                    victims[index >>> 6] |= 1L << index;
+                    ++victimCount;
+                }
+            }
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        if (victimCount == 0) {
+            return false;
+        }
+
+        removeMarked(victims, victimCount, head, 0);
+        return true;
+    }
+
+    /**
+     * Removes the elements at the given positions, which refer to the list
+     * before the removal and may come in any order; duplicate positions are
+     * removed once. The positions are sorted and the chunks from the first
+     * removed position on are compacted in a single pass, as in
+     * {@link #removeIf(Predicate)}.
+     *
+     * @param indices the positions to remove.
+     * @throws IndexOutOfBoundsException if a position is out of range.
+     */
+    public void removeAt(int[] indices) {
+        int[] sorted = BatchRemoval.sortedDistinct(indices, size);
+
+        if (sorted.length == 0) {
+            return;
+        }
+
+        long[] victims = new long[(size + 63) >>> 6];
+
+        for (int index : sorted) {
+            victims[index >>> 6] |= 1L << index;
+        }
+
+        int firstChunk = findChunk(sorted[0]);
+        removeMarked(victims, sorted.length, firstChunk, starts[firstChunk]);
+    }
+
+    // Deque methods:
+
+    @Override
+    public void addFirst(E e) {
+        if (head == tail || sizes[head] == chunkCapacity) {
+            openChunks(head, 1);
+        }
+
+        insert(head, 0, e);
+    }
+
+    @Override
+    public void addLast(E e) {
+        if (head == tail || sizes[tail - 1] == chunkCapacity) {
+            openChunks(tail, 1);
+        }
+
+        int last = tail - 1;
+        chunks[last][sizes[last]++] = e;
+        ++size;
+        ++modCount;
+    }
+
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public E removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return removeAt(head, 0);
+    }
+
+    @Override
+    public E removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return removeAt(tail - 1, sizes[tail - 1] - 1);
+    }
+
+    @Override
+    public E pollFirst() {
+        return size == 0 ? null : removeAt(head, 0);
+    }
+
+    @Override
+    public E pollLast() {
+        return size == 0 ? null : removeAt(tail - 1, sizes[tail - 1] - 1);
+    }
+
+    @Override
+    public E getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return peekFirst();
+    }
+
+    @Override
+    public E getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return peekLast();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peekFirst() {
+        return size == 0 ? null : (E) chunks[head][0];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peekLast() {
+        return size == 0 ? null : (E) chunks[tail - 1][sizes[tail - 1] - 1];
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        return remove(o);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int index = lastIndexOf(o);
+
+        if (index < 0) {
+            return false;
+        }
+
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        return offerLast(e);
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        ListIterator<E> iterator = listIterator(size);
+
+        return new Iterator<E>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    /**
+     * Returns a reverse-ordered view of this list.
+     */
+    @Override
+    public ListDeque<E> reversed() {
+        return new ReversedView();
+    }
+
+    // Private methods:
+
+    private void resetChunkIndex() {
+        chunks = new Object[INITIAL_CHUNK_INDEX_LENGTH][];
+        sizes = new int[INITIAL_CHUNK_INDEX_LENGTH];
+        starts = new int[INITIAL_CHUNK_INDEX_LENGTH];
+        head = INITIAL_CHUNK_INDEX_LENGTH / 2;
+        tail = head;
+        validStarts = head;
+    }
+
+    /**
+     * Returns the index of the chunk containing the element at
+     * {@code index}, with its start up to date.
+     */
+    private int findChunk(int index) {
+        if (index < sizes[head]) {
+            starts[head] = 0;
+            return head;
+        }
+
+        int last = tail - 1;
+
+        if (index >= size - sizes[last]) {
+            starts[last] = size - sizes[last];
+            return last;
+        }
+
+        updateStarts();
+
+        int low = head;
+        int high = last;
+
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+
+            if (starts[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private void updateStarts() {
+        int chunk = validStarts;
+
+        if (chunk == head) {
+            starts[head] = 0;
+            ++chunk;
+        }
+
+        for (; chunk < tail; ++chunk) {
+            starts[chunk] = starts[chunk - 1] + sizes[chunk - 1];
+        }
+
+        validStarts = tail;
+    }
+
+    /**
+     * Marks the starts of the chunks from {@code chunk} on as out of date.
+     */
+    private void invalidateStarts(int chunk) {
+        if (chunk < validStarts) {
+            validStarts = Math.max(chunk, head);
+        }
+    }
+
+    private void insert(int chunk, int offset, E element) {
+        if (sizes[chunk] == chunkCapacity) {
+            chunk = split(chunk);
+            int leftSize = sizes[chunk];
+
+            if (offset > leftSize) {
+                ++chunk;
+                offset -= leftSize;
+            }
+        }
+
+        Object[] items = chunks[chunk];
+        System.arraycopy(items, offset, items, offset + 1,
+                         sizes[chunk] - offset);
+        items[offset] = element;
+        ++sizes[chunk];
+        ++size;
+        ++modCount;
+        invalidateStarts(chunk + 1);
+    }
+
+    /**
+     * Moves the upper half of the chunk into a new chunk after it.
+     *
+     * @return the index of the split chunk, which may have moved.
+     */
+    private int split(int chunk) {
+        int next = openChunks(chunk + 1, 1);
+        chunk = next - 1;
+        int leftSize = sizes[chunk] / 2;
+        int rightSize = sizes[chunk] - leftSize;
+        System.arraycopy(chunks[chunk], leftSize, chunks[next], 0, rightSize);
+        Arrays.fill(chunks[chunk], leftSize, sizes[chunk], null);
+        sizes[chunk] = leftSize;
+        sizes[next] = rightSize;
+        invalidateStarts(next);
+        return chunk;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E removeAt(int chunk, int offset) {
+        Object[] items = chunks[chunk];
+        E old = (E) items[offset];
+        System.arraycopy(items, offset + 1, items, offset,
+                         sizes[chunk] - offset - 1);
+        items[--sizes[chunk]] = null;
+        --size;
+        ++modCount;
+        invalidateStarts(chunk + 1);
+
+        if (sizes[chunk] == 0) {
+            closeChunk(chunk);
+        } else {
+            mergeIfSparse(chunk);
+        }
+
+        return old;
+    }
+
+    /**
+     * Removes the elements marked in {@code victims}, none of which precede
+     * {@code firstChunk}, whose first element is at {@code firstIndex}.
+     * Compacts every chunk from {@code firstChunk} on in place and, in the
+     * same sweep over the chunk index, drops the emptied chunks and merges
+     * each sparse chunk into the one before it whenever the merged chunk
+     * stays within three quarters of the capacity.
+     */
+    private void removeMarked(long[] victims,
+                              int victimCount,
+                              int firstChunk,
+                              int firstIndex) {
+        int sparse = chunkCapacity / 4;
+        int limit = chunkCapacity * 3 / 4;
+        int write = firstChunk - 1;
+        int index = firstIndex;
+
+        for (int read = firstChunk; read < tail; ++read) {
+            Object[] items = chunks[read];
+            int kept = 0;
+
+            for (int i = 0; i < sizes[read]; ++i, ++index) {
+                if ((victims[index >>> 6] & (1L << index)) == 0) {
+                    items[kept++] = items[i];
+                }
+            }
+
+            Arrays.fill(items, kept, sizes[read], null);
+
+            if (kept == 0) {
+                continue;
+            }
+
+            if (write >= head
+                    && (sizes[write] < sparse || kept < sparse)
+                    && sizes[write] + kept <= limit) {
+                System.arraycopy(items, 0,
+                                 chunks[write], sizes[write],
+                                 kept);
+                sizes[write] += kept;
+            } else {
+                ++write;
+                chunks[write] = items;
+                sizes[write] = kept;
+            }
+        }
+
+        Arrays.fill(chunks, write + 1, tail, null);
+        Arrays.fill(sizes, write + 1, tail, 0);
+        tail = write + 1;
+        size -= victimCount;
+        ++modCount;
+
+        if (head == tail) {
+            resetChunkIndex();
+        } else {
+            invalidateStarts(firstChunk);
+        }
+    }
+
+    /**
+     * Merges the chunk with a neighbour if it is below a quarter of the
+     * capacity and the merged chunk stays within three quarters of it.
+     */
+    private void mergeIfSparse(int chunk) {
+        if (sizes[chunk] >= chunkCapacity / 4) {
+            return;
+        }
+
+        int limit = chunkCapacity * 3 / 4;
+
+        if (chunk + 1 < tail && sizes[chunk] + sizes[chunk + 1] <= limit) {
+            merge(chunk);
+        } else if (chunk > head && sizes[chunk - 1] + sizes[chunk] <= limit) {
+            merge(chunk - 1);
+        }
+    }
+
+    /**
+     * Appends the elements of the chunk after {@code chunk} to it and removes
+     * the emptied chunk.
+     */
+    private void merge(int chunk) {
+        int next = chunk + 1;
+        System.arraycopy(chunks[next], 0,
+                         chunks[chunk], sizes[chunk],
+                         sizes[next]);
+        sizes[chunk] += sizes[next];
+        sizes[next] = 0;
+        invalidateStarts(next);
+        closeChunk(next);
+    }
+
+    /**
+     * Opens {@code count} empty chunks at the chunk index {@code at},
+     * shifting the chunks from {@code at} on.
+     *
+     * @return the index of the first new chunk, which differs from
+     *         {@code at} if the chunk index was compacted.
+     */
+    private int openChunks(int at, int count) {
+        boolean atHead = at == head;
+
+        if (atHead ? head < count : tail + count > chunks.length) {
+            at -= head;
+            centreChunkIndex(tail - head + count);
+            at += head;
+        }
+
+        if (atHead) {
+            head -= count;
+            at = head;
+            validStarts = head;
+        } else {
+            int moved = tail - at;
+            System.arraycopy(chunks, at, chunks, at + count, moved);
+            System.arraycopy(sizes, at, sizes, at + count, moved);
+            tail += count;
+            invalidateStarts(at);
+        }
+
+        for (int i = at; i < at + count; ++i) {
+            chunks[i] = new Object[chunkCapacity];
+            sizes[i] = 0;
+        }
+
+        return at;
+    }
+
+    /**
+     * Removes the empty chunk at {@code chunk} from the chunk index.
+     */
+    private void closeChunk(int chunk) {
+        if (chunk == head) {
+            chunks[head] = null;
+            ++head;
+            validStarts = Math.max(validStarts, head);
+        } else {
+            System.arraycopy(chunks, chunk + 1, chunks, chunk,
+                             tail - chunk - 1);
+            System.arraycopy(sizes, chunk + 1, sizes, chunk,
+                             tail - chunk - 1);
+            --tail;
+            chunks[tail] = null;
+            sizes[tail] = 0;
+            invalidateStarts(chunk);
+        }
+
+        if (head == tail) {
+            head = chunks.length / 2;
+            tail = head;
+            validStarts = head;
+        }
+    }
+
+    /**
+     * Moves the chunks to the middle of a chunk index of at least twice
+     * {@code minimumLength} chunks, so that at least
+     * {@code minimumLength - (tail - head)} chunks can be opened at either
+     * end. The chunks moved are paid for by the free room left at both ends,
+     * which keeps opening chunks at the ends amortized constant time.
+     */
+    private void centreChunkIndex(int minimumLength) {
+        int length = chunks.length;
+
+        while (length < 2 * minimumLength) {
+            length *= 2;
+        }
+
+        int count = tail - head;
+        int newHead = (length - count) / 2;
+        Object[][] newChunks = new Object[length][];
+        int[] newSizes = new int[length];
+        int[] newStarts = new int[length];
+        System.arraycopy(chunks, head, newChunks, newHead, count);
+        System.arraycopy(sizes, head, newSizes, newHead, count);
+        System.arraycopy(starts, head, newStarts, newHead, count);
+        chunks = newChunks;
+        sizes = newSizes;
+        starts = newStarts;
+        validStarts += newHead - head;
+        tail = newHead + count;
+        head = newHead;
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", size: " + size);
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", size: " + size);
+        }
+    }
+
+    /**
+     * A reverse-ordered view of the enclosing list: view index {@code i} is
+     * list index {@code size - 1 - i}, and the deque ends are swapped.
+     */
+    private final class ReversedView extends AbstractList<E>
+            implements ListDeque<E> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public E get(int index) {
+            checkElementIndex(index);
+            return UnrolledLinkedList.this.get(size - 1 - index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            checkElementIndex(index);
+            return UnrolledLinkedList.this.set(size - 1 - index, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            checkPositionIndex(index);
+            UnrolledLinkedList.this.add(size - index, element);
+        }
+
+        @Override
+        public E remove(int index) {
+            checkElementIndex(index);
+            return UnrolledLinkedList.this.remove(size - 1 - index);
+        }
+
+        @Override
+        public boolean add(E e) {
+            UnrolledLinkedList.this.addFirst(e);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            UnrolledLinkedList.this.clear();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return UnrolledLinkedList.this.descendingIterator();
+        }
+
+        @Override
+        public Iterator<E> descendingIterator() {
+            return UnrolledLinkedList.this.iterator();
+        }
+
+        @Override
+        public ListDeque<E> reversed() {
+            return UnrolledLinkedList.this;
+        }
+
+        @Override
+        public void addFirst(E e) {
+            UnrolledLinkedList.this.addLast(e);
+        }
+
+        @Override
+        public void addLast(E e) {
+            UnrolledLinkedList.this.addFirst(e);
+        }
+
+        @Override
+        public boolean offerFirst(E e) {
+            return UnrolledLinkedList.this.offerLast(e);
+        }
+
+        @Override
+        public boolean offerLast(E e) {
+            return UnrolledLinkedList.this.offerFirst(e);
+        }
+
+        @Override
+        public E removeFirst() {
+            return UnrolledLinkedList.this.removeLast();
+        }
+
+        @Override
+        public E removeLast() {
+            return UnrolledLinkedList.this.removeFirst();
+        }
+
+        @Override
+        public E pollFirst() {
+            return UnrolledLinkedList.this.pollLast();
+        }
+
+        @Override
+        public E pollLast() {
+            return UnrolledLinkedList.this.pollFirst();
+        }
+
+        @Override
+        public E getFirst() {
+            return UnrolledLinkedList.this.getLast();
+        }
+
+        @Override
+        public E getLast() {
+            return UnrolledLinkedList.this.getFirst();
+        }
+
+        @Override
+        public E peekFirst() {
+            return UnrolledLinkedList.this.peekLast();
+        }
+
+        @Override
+        public E peekLast() {
+            return UnrolledLinkedList.this.peekFirst();
+        }
+
+        @Override
+        public boolean removeFirstOccurrence(Object o) {
+            return UnrolledLinkedList.this.removeLastOccurrence(o);
+        }
+
+        @Override
+        public boolean removeLastOccurrence(Object o) {
+            return UnrolledLinkedList.this.removeFirstOccurrence(o);
+        }
+
+        @Override
+        public boolean offer(E e) {
+            return offerLast(e);
+        }
+
+        @Override
+        public E remove() {
+            return removeFirst();
+        }
+
+        @Override
+        public E poll() {
+            return pollFirst();
+        }
+
+        @Override
+        public E element() {
+            return getFirst();
+        }
+
+        @Override
+        public E peek() {
+            return peekFirst();
+        }
+
+        @Override
+        public void push(E e) {
+            addFirst(e);
+        }
+
+        @Override
+        public E pop() {
+            return removeFirst();
+        }
+    }
+
+    /**
+     * Iterates over the chunk arrays directly.
+     */
+    private final class ChunkIterator implements Iterator<E> {
+
+        private int chunk = head;
+        private int offset;
+        private int index;
+        private int lastChunk = -1;
+        private int lastOffset;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            checkForComodification();
+
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+
+            if (offset == sizes[chunk]) {
+                ++chunk;
+                offset = 0;
+            }
+
+            lastChunk = chunk;
+            lastOffset = offset;
+            ++index;
+            return (E) chunks[chunk][offset++];
+        }
+
+        @Override
+        public void remove() {
+            if (lastChunk < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            int chunkCount = tail - head;
+            removeAt(lastChunk, lastOffset);
+            --index;
+
+            if (tail - head == chunkCount) {
+                chunk = lastChunk;
+                offset = lastOffset;
+            } else if (index < size) {
+                // The chunk index changed; find the position again.
+                chunk = findChunk(index);
+                offset = index - starts[chunk];
+            } else {
+                chunk = tail - 1;
+                offset = chunk < head ? 0 : sizes[chunk];
+            }
+
+            lastChunk = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}